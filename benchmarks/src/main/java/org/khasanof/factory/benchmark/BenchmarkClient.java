@@ -0,0 +1,24 @@
+package org.khasanof.factory.benchmark;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Feign client of the {@link StubServer} built by the benchmarked factories.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.benchmark
+ * @since 10/17/2026 6:46 PM
+ */
+public interface BenchmarkClient {
+
+    @GetMapping("/payload/{size}")
+    Payload get(@PathVariable("size") PayloadSize size);
+
+    @PostMapping(value = "/echo", consumes = MediaType.APPLICATION_JSON_VALUE)
+    Payload echo(@RequestBody Payload payload);
+
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    String upload(@RequestPart("file") MultipartFile file);
+}
@@ -0,0 +1,153 @@
+package org.khasanof.factory.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.RequestInterceptor;
+import org.khasanof.factory.BaseMsClientFactory;
+import org.khasanof.factory.MsClientFactoryContext;
+import org.khasanof.factory.PerRequestBaseMsClientFactory;
+import org.khasanof.factory.SessionBaseMsClientFactory;
+import org.khasanof.factory.cache.ClientProxyCache;
+import org.khasanof.factory.coalesce.RequestCoalescer;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.configurer.AbstarctBaseMsClientConfigurer;
+import org.khasanof.factory.contract.ContractMetadataRegistry;
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+import org.khasanof.factory.multipart.MultipartBodyRegistry;
+import org.khasanof.factory.token.AccessTokenCache;
+import org.khasanof.factory.token.AccessTokenKey;
+import org.khasanof.factory.token.CachingTokenInterceptor;
+import org.khasanof.factory.transport.ClientTransport;
+import org.khasanof.factory.transport.ClientTransportFactory;
+import org.khasanof.factory.util.ExecutorUtil;
+import org.khasanof.modules.client.core.config.ModulesClientCoreProperties;
+import org.khasanof.modules.client.core.oauth2.AuthorizationHeaderUtil;
+import org.khasanof.modules.client.core.oauth2.TokenRelayRequestInterceptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.AbstractFormWriter;
+import org.springframework.cloud.openfeign.support.FeignEncoderProperties;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Client factory wired the way {@code BaseMsClientFactoryConfiguration} wires it, without a Spring context.
+ *
+ * <p>The identity provider is replaced by a token source issuing a fixed JWT, and the session of the
+ * {@code SESSION} strategy by a mocked {@link AuthorizationHeaderUtil}, so that no network call other
+ * than the one to the {@link StubServer} is made.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.benchmark
+ * @since 10/17/2026 6:52 PM
+ */
+public class BenchmarkFixtures implements AutoCloseable {
+
+    private static final String SERVICE_NAME = "benchmark-service";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StubServer stubServer = new StubServer(objectMapper);
+    private final ModulesClientCoreProperties clientProperties = new ModulesClientCoreProperties();
+    private final ExecutorService asyncExecutor = ExecutorUtil.newBoundedExecutor("benchmark-async-", 8, 1024);
+    private final ClientTransport clientTransport;
+    private final AccessTokenCache accessTokenCache;
+    private final RequestCoalescer requestCoalescer;
+    private final AuthorizationHeaderUtil authorizationHeaderUtil = Mockito.mock(AuthorizationHeaderUtil.class);
+    private final BaseMsClientFactory factory;
+
+    public BenchmarkFixtures(ReceiveTokenStrategy strategy, ModulesClientFactoryProperties properties) {
+        String authorization = "Bearer " + jwt();
+        this.clientTransport = ClientTransportFactory.create(properties.getTransport(), new Client.Default(null, null));
+        this.accessTokenCache = new AccessTokenCache(properties.getToken(),
+                ignored -> template -> template.header(HttpHeaders.AUTHORIZATION, authorization));
+        ContractMetadataRegistry contractMetadataRegistry = new ContractMetadataRegistry(SpringMvcContract::new);
+        this.requestCoalescer = new RequestCoalescer(contractMetadataRegistry, asyncExecutor);
+        MsClientFactoryContext context = MsClientFactoryContext.builder()
+                .clientProxyCache(new ClientProxyCache(properties.getCache()))
+                .contractMetadataRegistry(contractMetadataRegistry)
+                .asyncExecutor(asyncExecutor)
+                .clientTransport(clientTransport)
+                .requestCoalescer(requestCoalescer)
+                .multipartBodyRegistry(properties.getMultipart().isStreaming() && clientTransport.getMultipartUploader() != null
+                        ? new MultipartBodyRegistry() : null)
+                .build();
+        BenchmarkConfigurer configurer = new BenchmarkConfigurer(strategy, objectMapper);
+        this.factory = strategy == ReceiveTokenStrategy.PER_REQUEST
+                ? new PerRequestBaseMsClientFactory(clientTransport.getClient(), configurer, context, accessTokenCache, clientProperties)
+                : new SessionBaseMsClientFactory(clientTransport.getClient(), configurer, context, authorizationHeaderUtil);
+    }
+
+    public BaseMsClientFactory getFactory() {
+        return factory;
+    }
+
+    public String getUrl() {
+        return stubServer.getUrl();
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Returns the token interceptor the factory authorizes requests of the given strategy with.
+     *
+     * @param strategy the token strategy.
+     * @return the token interceptor.
+     */
+    public RequestInterceptor tokenInterceptor(ReceiveTokenStrategy strategy) {
+        return strategy == ReceiveTokenStrategy.PER_REQUEST
+                ? new CachingTokenInterceptor(accessTokenCache, AccessTokenKey.DEFAULT, clientProperties)
+                : new TokenRelayRequestInterceptor(authorizationHeaderUtil);
+    }
+
+    @Override
+    public void close() throws Exception {
+        requestCoalescer.close();
+        accessTokenCache.close();
+        clientTransport.close();
+        stubServer.close();
+        asyncExecutor.shutdownNow();
+    }
+
+    private static String jwt() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        long exp = Instant.now().plusSeconds(24 * 60 * 60).getEpochSecond();
+        String payload = encoder.encodeToString(("{\"sub\":\"benchmark\",\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    private static class BenchmarkConfigurer extends AbstarctBaseMsClientConfigurer {
+
+        private final ReceiveTokenStrategy strategy;
+
+        BenchmarkConfigurer(ReceiveTokenStrategy strategy, ObjectMapper objectMapper) {
+            this(strategy, new HttpMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper)), new StaticListableBeanFactory());
+        }
+
+        private BenchmarkConfigurer(ReceiveTokenStrategy strategy, HttpMessageConverters messageConverters, StaticListableBeanFactory beanFactory) {
+            super(new FeignEncoderProperties(), beanFactory.getBeanProvider(AbstractFormWriter.class),
+                    () -> messageConverters, beanFactory.getBeanProvider(HttpMessageConverterCustomizer.class));
+            this.strategy = strategy;
+        }
+
+        @Override
+        public String getServiceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public ReceiveTokenStrategy getStrategy() {
+            return strategy;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.khasanof.factory.benchmark;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end latency of calls through the encoder and decoder chains of {@code AbstarctBaseMsClientConfigurer}.
+ *
+ * <p>Calls go over the loopback interface to the {@link StubServer}, whose responses are pre-serialized, so
+ * differences between runs come from the client pipeline: token interceptor, encoding, transport and decoding.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.benchmark
+ * @since 10/17/2026 7:08 PM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CallOverheadBenchmark {
+
+    @Param({"SESSION", "PER_REQUEST"})
+    private ReceiveTokenStrategy strategy;
+
+    @Param({"SMALL", "LARGE"})
+    private PayloadSize size;
+
+    private BenchmarkFixtures fixtures;
+    private BenchmarkClient client;
+    private Payload payload;
+    private ByteArrayMultipartFile file;
+
+    @Setup
+    public void setUp() {
+        fixtures = new BenchmarkFixtures(strategy, new ModulesClientFactoryProperties());
+        client = fixtures.getFactory().create(BenchmarkClient.class, fixtures.getUrl());
+        payload = Payload.of(size);
+        byte[] content = new byte[size.getItems() * 128];
+        new Random(42).nextBytes(content);
+        file = new ByteArrayMultipartFile("file", MediaType.APPLICATION_OCTET_STREAM_VALUE, content);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        fixtures.close();
+    }
+
+    @Benchmark
+    public Payload decodeJson() {
+        return client.get(size);
+    }
+
+    @Benchmark
+    public Payload encodeAndDecodeJson() {
+        return client.echo(payload);
+    }
+
+    @Benchmark
+    public String encodeMultipart() {
+        return client.upload(file);
+    }
+}
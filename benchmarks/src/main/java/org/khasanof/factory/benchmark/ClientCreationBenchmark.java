@@ -0,0 +1,58 @@
+package org.khasanof.factory.benchmark;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation rate of {@code create} of the {@code SESSION} and {@code PER_REQUEST} factories.
+ *
+ * <p>With the client proxy cache enabled {@code create} is a cache lookup; with the cache disabled every
+ * call builds a new proxy, which is the cost the cache saves.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.benchmark
+ * @since 10/17/2026 7:02 PM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ClientCreationBenchmark {
+
+    @Param({"SESSION", "PER_REQUEST"})
+    private ReceiveTokenStrategy strategy;
+
+    @Param({"true", "false"})
+    private boolean proxyCache;
+
+    private BenchmarkFixtures fixtures;
+    private String url;
+
+    @Setup
+    public void setUp() {
+        ModulesClientFactoryProperties properties = new ModulesClientFactoryProperties();
+        properties.getCache().setEnabled(proxyCache);
+        fixtures = new BenchmarkFixtures(strategy, properties);
+        url = fixtures.getUrl();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        fixtures.close();
+    }
+
+    @Benchmark
+    public BenchmarkClient create() {
+        return fixtures.getFactory().create(BenchmarkClient.class, url);
+    }
+
+    @Benchmark
+    public BenchmarkClient createAsync() {
+        return fixtures.getFactory().createAsync(BenchmarkClient.class, url);
+    }
+}
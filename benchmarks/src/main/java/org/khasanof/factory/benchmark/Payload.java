@@ -0,0 +1,35 @@
+package org.khasanof.factory.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON document exchanged with the {@link StubServer}.
+ *
+ * @param items the items of the document.
+ * @author Nurislom
+ * @see org.khasanof.factory.benchmark
+ * @since 10/17/2026 6:44 PM
+ */
+public record Payload(List<Item> items) {
+
+    public static Payload of(PayloadSize size) {
+        List<Item> items = new ArrayList<>(size.getItems());
+        for (int i = 0; i < size.getItems(); i++) {
+            items.add(new Item(i, "item-" + i, "Description of the reference item number " + i, i * 1.5, i % 2 == 0));
+        }
+        return new Payload(items);
+    }
+
+    /**
+     * Single reference-data entry.
+     *
+     * @param id the identifier.
+     * @param name the name.
+     * @param description the description.
+     * @param price the price.
+     * @param active whether the item is active.
+     */
+    public record Item(long id, String name, String description, double price, boolean active) {
+    }
+}
@@ -0,0 +1,31 @@
+package org.khasanof.factory.benchmark;
+
+/**
+ * Sizes of the payloads exchanged with the {@link StubServer}.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.benchmark
+ * @since 10/17/2026 6:42 PM
+ */
+public enum PayloadSize {
+
+    /**
+     * A typical reference-data lookup, about 1 KB of JSON.
+     */
+    SMALL(8),
+
+    /**
+     * A bulk listing, about 1 MB of JSON.
+     */
+    LARGE(8192);
+
+    private final int items;
+
+    PayloadSize(int items) {
+        this.items = items;
+    }
+
+    public int getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,91 @@
+package org.khasanof.factory.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process HTTP stub the benchmarked clients call.
+ *
+ * <p>Responses are serialized once up front, so that the measured time is spent in the client pipeline
+ * rather than in the stub.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.benchmark
+ * @since 10/17/2026 6:40 PM
+ */
+public class StubServer implements AutoCloseable {
+
+    private static final byte[] OK = "ok".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+    public StubServer(ObjectMapper objectMapper) {
+        Map<String, byte[]> payloads = Map.of(
+                PayloadSize.SMALL.name(), serialize(objectMapper, Payload.of(PayloadSize.SMALL)),
+                PayloadSize.LARGE.name(), serialize(objectMapper, Payload.of(PayloadSize.LARGE)));
+        // without TCP_NODELAY small responses stall on delayed acknowledgements and hide the client cost
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/payload/", exchange -> {
+            String size = exchange.getRequestURI().getPath().substring("/payload/".length());
+            respond(exchange, "application/json", payloads.get(size));
+        });
+        server.createContext("/echo", exchange -> respond(exchange, "application/json", exchange.getRequestBody().readAllBytes()));
+        server.createContext("/upload", exchange -> {
+            drain(exchange.getRequestBody());
+            respond(exchange, "text/plain", OK);
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (in.read(buffer) != -1) {
+            // discard the uploaded content
+        }
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, Payload payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.khasanof.factory.benchmark;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authorizing a request with the token interceptor of each token strategy.
+ *
+ * <p>The {@code PER_REQUEST} interceptor is measured against a warm {@code AccessTokenCache}; the
+ * {@code SESSION} interceptor relays the header of a mocked session, so its figure excludes the cost
+ * of reading the security context.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.benchmark
+ * @since 10/17/2026 7:14 PM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TokenInterceptorBenchmark {
+
+    @Param({"SESSION", "PER_REQUEST"})
+    private ReceiveTokenStrategy strategy;
+
+    private BenchmarkFixtures fixtures;
+    private RequestInterceptor interceptor;
+
+    @Setup
+    public void setUp() {
+        fixtures = new BenchmarkFixtures(strategy, new ModulesClientFactoryProperties());
+        interceptor = fixtures.tokenInterceptor(strategy);
+        // the first application fetches the token, later ones are served from the cache
+        interceptor.apply(new RequestTemplate());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        fixtures.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public RequestTemplate apply() {
+        RequestTemplate template = new RequestTemplate();
+        interceptor.apply(template);
+        return template;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RequestTemplate applyContended() {
+        RequestTemplate template = new RequestTemplate();
+        interceptor.apply(template);
+        return template;
+    }
+}
@@ -1,11 +1,51 @@
 package org.khasanof.factory;
 
+import feign.AsyncClient;
+import feign.AsyncFeign;
+import feign.BaseBuilder;
 import feign.Client;
 import feign.Feign;
+import feign.Logger;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
 import feign.slf4j.Slf4jLogger;
+import org.khasanof.factory.cache.ClientProxyCache;
+import org.khasanof.factory.cache.ClientProxyCacheStats;
+import org.khasanof.factory.cache.CachingClient;
+import org.khasanof.factory.cache.ClientProxyKey;
+import org.khasanof.factory.coalesce.CoalescingScope;
+import org.khasanof.factory.coalesce.RequestCoalescer;
+import org.khasanof.factory.codec.BinaryFormat;
+import org.khasanof.factory.codec.NegotiatingEncoder;
+import org.khasanof.factory.codec.NegotiatingRequestInterceptor;
+import org.khasanof.factory.codec.NegotiationResponseInterceptor;
+import org.khasanof.factory.codec.StreamingDecoder;
+import org.khasanof.factory.compression.AcceptEncodingInterceptor;
+import org.khasanof.factory.compression.CompressingClient;
 import org.khasanof.factory.configurer.BaseMsClientConfigurer;
+import org.khasanof.factory.enumeration.CodecType;
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+import org.khasanof.factory.limit.ConcurrencyLimitedClient;
+import org.khasanof.factory.loadbalancer.LoadBalancedClient;
+import org.khasanof.factory.logging.FailureCapturingClient;
+import org.khasanof.factory.logging.SampledLogger;
+import org.khasanof.factory.metrics.MeteredClient;
+import org.khasanof.factory.metrics.TimedRequestInterceptor;
+import org.khasanof.factory.multipart.StreamingMultipartClient;
+import org.khasanof.factory.multipart.StreamingMultipartEncoder;
+import org.khasanof.factory.retry.BudgetedRetryer;
+import org.khasanof.factory.retry.DeadlineClient;
+import org.khasanof.factory.retry.DeadlineRequestInterceptor;
+import org.khasanof.factory.retry.Hedged;
+import org.khasanof.factory.retry.HedgingClient;
+import org.khasanof.factory.retry.RetryBudgetRegistry;
 import org.khasanof.factory.util.ServiceNameUtil;
-import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static org.khasanof.factory.util.ServiceNameUtil.checkStartWithHttp;
 
@@ -18,10 +58,122 @@ public abstract class AbstractMsClientFactory implements BaseMsClientFactory {
 
     protected final Client client;
     protected final BaseMsClientConfigurer baseMsClientConfigurer;
+    protected final MsClientFactoryContext context;
+    protected final String tenantId;
+
+    protected AbstractMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer, MsClientFactoryContext context) {
+        this(client, baseMsClientConfigurer, context, null);
+    }
 
-    protected AbstractMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer) {
+    protected AbstractMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer, MsClientFactoryContext context,
+                                      String tenantId) {
         this.client = client;
         this.baseMsClientConfigurer = baseMsClientConfigurer;
+        this.context = context;
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Creates an instance of the specified client class targeting the configured service name.
+     *
+     * <p>The client proxy is built once and served from the {@link ClientProxyCache} on every
+     * later call for the same client class, URL, token strategy and tenant.</p>
+     *
+     * @param clientClass the class of the Feign client to create.
+     * @param <T> the type of the Feign client.
+     * @return a cached or newly built instance of the specified Feign client class.
+     */
+    @Override
+    public <T> T create(Class<T> clientClass) {
+        return create(clientClass, checkStartWithHttp(baseMsClientConfigurer.getServiceName()));
+    }
+
+    /**
+     * Creates an instance of the specified client class targeting the specified URL.
+     *
+     * <p>The client proxy is built once and served from the {@link ClientProxyCache} on every
+     * later call for the same client class, URL, token strategy and tenant.</p>
+     *
+     * @param clientClass the class of the Feign client to create.
+     * @param url the base URL for the Feign client.
+     * @param <T> the type of the Feign client.
+     * @return a cached or newly built instance of the specified Feign client class.
+     */
+    @Override
+    public <T> T create(Class<T> clientClass, String url) {
+        ClientProxyKey key = new ClientProxyKey(clientClass, url, baseMsClientConfigurer.getStrategy(), false, tenantId);
+        return context.getClientProxyCache().get(key, () -> {
+            recordCreate(clientClass, false);
+            return build(feignBuilder(clientClass), clientClass, url);
+        });
+    }
+
+    /**
+     * Creates an asynchronous instance of the specified client class targeting the configured service name.
+     *
+     * @param clientClass the class of the Feign client to create.
+     * @param <T> the type of the Feign client.
+     * @return a cached or newly built asynchronous instance of the specified Feign client class.
+     */
+    @Override
+    public <T> T createAsync(Class<T> clientClass) {
+        return createAsync(clientClass, checkStartWithHttp(baseMsClientConfigurer.getServiceName()));
+    }
+
+    /**
+     * Creates an asynchronous instance of the specified client class targeting the specified URL.
+     *
+     * @param clientClass the class of the Feign client to create.
+     * @param url the base URL for the Feign client.
+     * @param <T> the type of the Feign client.
+     * @return a cached or newly built asynchronous instance of the specified Feign client class.
+     */
+    @Override
+    public <T> T createAsync(Class<T> clientClass, String url) {
+        ClientProxyKey key = new ClientProxyKey(clientClass, url, baseMsClientConfigurer.getStrategy(), true, tenantId);
+        return context.getClientProxyCache().get(key, () -> {
+            recordCreate(clientClass, true);
+            return asyncFeignBuilder(clientClass)
+                    .options(context.getClientTransport().requestOptions(url))
+                    .target(clientClass, url);
+        });
+    }
+
+    /**
+     * Evicts the cached client proxies of the specified client class built by this factory, leaving the
+     * proxies of other tenants in place.
+     *
+     * @param clientClass the class of the Feign client to evict.
+     */
+    @Override
+    public void evict(Class<?> clientClass) {
+        context.getClientProxyCache().evictIf(key -> Objects.equals(key.tenantId(), tenantId)
+                && Objects.equals(key.clientClass(), clientClass));
+    }
+
+    /**
+     * Evicts the cached client proxy of the specified client class and URL built by this factory.
+     *
+     * @param clientClass the class of the Feign client to evict.
+     * @param url the base URL the Feign client was built with.
+     */
+    @Override
+    public void evict(Class<?> clientClass, String url) {
+        context.getClientProxyCache().evictIf(key -> Objects.equals(key.tenantId(), tenantId)
+                && Objects.equals(key.clientClass(), clientClass) && Objects.equals(key.url(), url));
+    }
+
+    /**
+     * Evicts every cached client proxy built by this factory, leaving the proxies of other tenants in place.
+     */
+    @Override
+    public void clear() {
+        context.getClientProxyCache().evictIf(key -> Objects.equals(key.tenantId(), tenantId));
+    }
+
+    @Override
+    public ClientProxyCacheStats stats() {
+        return context.getClientProxyCache().stats();
     }
 
     /**
@@ -30,12 +182,269 @@ public abstract class AbstractMsClientFactory implements BaseMsClientFactory {
      * @return
      */
     protected Feign.Builder feignBuilder(Class<?> clientClass) {
-        return Feign.builder()
-                .client(client)
-                .logger(new Slf4jLogger(clientClass))
-                .contract(new SpringMvcContract())
-                .encoder(baseMsClientConfigurer.getEncoder())
-                .decoder(baseMsClientConfigurer.getDecoder());
+        Feign.Builder builder = Feign.builder()
+                .client(decorateClient(clientClass))
+                .contract(context.getContractMetadataRegistry())
+                .encoder(encoder(clientClass));
+        configureLogger(builder, clientClass);
+        configureDecoder(builder, clientClass);
+        configureRetry(builder);
+        configureNegotiation(builder, clientClass);
+        configureCompression(builder);
+        if (RequestCoalescer.isCoalescing(clientClass)) {
+            builder.invocationHandlerFactory(context.getRequestCoalescer().invocationHandlerFactory(coalescingScope()));
+        }
+        return builder;
+    }
+
+    /**
+     * Configures an {@link AsyncFeign.AsyncBuilder} for the specified client class.
+     *
+     * <p>The builder shares the blocking {@link Client}, contract, encoder and decoder with
+     * {@link #feignBuilder(Class)} and runs the calls on the asynchronous client executor.</p>
+     *
+     * @param clientClass the class of the Feign client for which the builder is configured.
+     * @return a configured {@link AsyncFeign.AsyncBuilder} for the specified client class.
+     */
+    protected AsyncFeign.AsyncBuilder<Object> asyncFeignBuilder(Class<?> clientClass) {
+        AsyncFeign.AsyncBuilder<Object> builder = AsyncFeign.builder()
+                .client(new AsyncClient.Default<>(decorateClient(clientClass), context.getAsyncExecutor()))
+                .contract(context.getContractMetadataRegistry())
+                .encoder(encoder(clientClass));
+        configureLogger(builder, clientClass);
+        configureRetry(builder);
+        configureNegotiation(builder, clientClass);
+        configureCompression(builder);
+        return configureDecoder(builder, clientClass);
+    }
+
+    /**
+     * Returns the encoder of the specified client class, writing bodies in the negotiated binary format and
+     * streaming multipart bodies when enabled.
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the {@link Encoder} of the client.
+     */
+    private Encoder encoder(Class<?> clientClass) {
+        Encoder encoder = baseMsClientConfigurer.getEncoder(clientClass);
+        List<BinaryFormat> formats = binaryFormats(clientClass);
+        if (!formats.isEmpty()) {
+            encoder = new NegotiatingEncoder(encoder, formats, context.getContentNegotiator(), baseMsClientConfigurer.getServiceName());
+        }
+        if (context.getMultipartBodyRegistry() != null) {
+            return new StreamingMultipartEncoder(encoder, context.getMultipartBodyRegistry());
+        }
+        return encoder;
+    }
+
+    /**
+     * Sets the logger of the specified client class on a builder.
+     *
+     * <p>When sampled logging is enabled, calls are logged by a {@link SampledLogger} writing through the shared
+     * {@link org.khasanof.factory.logging.ClientLogWriter}. Otherwise Feign's {@link Slf4jLogger} is used with the
+     * level of the builder.</p>
+     *
+     * @param builder the builder to configure.
+     * @param clientClass the class of the Feign client.
+     * @param <B> the type of the builder.
+     */
+    private <B extends BaseBuilder<B, ?>> void configureLogger(B builder, Class<?> clientClass) {
+        if (context.getClientLogWriter() == null) {
+            builder.logger(new Slf4jLogger(clientClass));
+            return;
+        }
+        builder.logger(new SampledLogger(clientClass, context.getClientLogWriter()))
+                .logLevel(Logger.Level.FULL);
+    }
+
+    /**
+     * Sets the decoder of the specified client class on a builder.
+     *
+     * <p>Clients with methods returning streaming types are built with {@code doNotCloseAfterDecode}, so that
+     * the response stays open until the caller closes the returned stream, and their decoder releases the
+     * response of every other method itself.</p>
+     *
+     * @param builder the builder to configure.
+     * @param clientClass the class of the Feign client.
+     * @param <B> the type of the builder.
+     * @return the configured builder.
+     */
+    private <B extends BaseBuilder<B, ?>> B configureDecoder(B builder, Class<?> clientClass) {
+        Decoder decoder = baseMsClientConfigurer.getDecoder(clientClass);
+        if (StreamingDecoder.isStreaming(context.getContractMetadataRegistry().parseAndValidateMetadata(clientClass))) {
+            return builder.doNotCloseAfterDecode().decoder(StreamingDecoder.releasing(decoder));
+        }
+        return builder.decoder(decoder);
+    }
+
+    /**
+     * Adds the interceptor advertising the accepted response codings when compression is enabled.
+     *
+     * @param builder the builder to configure.
+     * @param <B> the type of the builder.
+     */
+    private <B extends BaseBuilder<B, ?>> void configureCompression(B builder) {
+        if (context.getCompressionCodecs() != null) {
+            builder.requestInterceptor(new AcceptEncodingInterceptor(context.getCompressionCodecs()));
+        }
+    }
+
+    /**
+     * Adds the interceptors negotiating the binary formats of the specified client class with its service.
+     *
+     * @param builder the builder to configure.
+     * @param clientClass the class of the Feign client.
+     * @param <B> the type of the builder.
+     */
+    private <B extends BaseBuilder<B, ?>> void configureNegotiation(B builder, Class<?> clientClass) {
+        List<BinaryFormat> formats = binaryFormats(clientClass);
+        if (!formats.isEmpty()) {
+            builder.requestInterceptor(new NegotiatingRequestInterceptor(formats))
+                    .responseInterceptor(new NegotiationResponseInterceptor(formats, context.getContentNegotiator(),
+                            baseMsClientConfigurer.getServiceName()));
+        }
+    }
+
+    /**
+     * Returns the binary formats the specified client class negotiates, in order of preference.
+     *
+     * <p>Protobuf is used for message types by every binary codec; Smile and CBOR are used for the other
+     * types by their codec only. A codec whose library is not on the classpath falls back to JSON.</p>
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the binary formats, empty for the {@code JSON} codec.
+     */
+    private List<BinaryFormat> binaryFormats(Class<?> clientClass) {
+        if (context.getContentNegotiator() == null) {
+            return List.of();
+        }
+        CodecType codecType = context.getContentNegotiator().codecType(baseMsClientConfigurer.getServiceName(), clientClass);
+        if (codecType == CodecType.JSON) {
+            return List.of();
+        }
+        return baseMsClientConfigurer.getBinaryFormats().stream()
+                .filter(format -> format.getCodecType() == CodecType.PROTOBUF || format.getCodecType() == codecType)
+                .toList();
+    }
+
+    /**
+     * Sets the budgeted retryer and the deadline interceptor on a builder, when retries are enabled.
+     *
+     * @param builder the builder to configure.
+     * @param <B> the type of the builder.
+     */
+    private <B extends BaseBuilder<B, ?>> void configureRetry(B builder) {
+        RetryBudgetRegistry registry = context.getRetryBudgetRegistry();
+        if (registry != null) {
+            String serviceName = baseMsClientConfigurer.getServiceName();
+            builder.retryer(new BudgetedRetryer(registry.getProperties(), registry.get(serviceName), context.getClientMetrics(), serviceName))
+                    .requestInterceptor(new DeadlineRequestInterceptor(registry.getProperties().getDeadline()));
+        }
+    }
+
+    /**
+     * Wraps the shared transport {@link Client} with the per-client decorators.
+     *
+     * <p>When multipart streaming is enabled, streamed multipart bodies are sent by a
+     * {@link StreamingMultipartClient} with the uploader of the transport. When the load balancer is
+     * enabled, requests to known service names are sent to an instance chosen by a
+     * {@link LoadBalancedClient}, streaming multipart bodies to the instance as well. When compression
+     * is enabled, request bodies are compressed and response bodies decompressed by a
+     * {@link CompressingClient}. When retries are enabled, every attempt is bounded by the deadline of
+     * the call by a {@link DeadlineClient}. When the concurrency limit is enabled, calls are admitted
+     * by a {@link ConcurrencyLimitedClient} sharing the limiter of the service. When retries are
+     * enabled and the client has {@link Hedged} methods, their calls are hedged by a
+     * {@link HedgingClient}. When metrics are enabled, calls are recorded by a {@link MeteredClient}
+     * tagged with the service name and the client class. When the response cache is enabled,
+     * {@code GET} calls are served by a {@link CachingClient}, isolated per principal for the
+     * {@code SESSION} strategy. When sampled logging is enabled, the requests of calls failed with an
+     * I/O error are kept for the {@link SampledLogger} by a {@link FailureCapturingClient}.</p>
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the {@link Client} the Feign client sends its requests with.
+     */
+    protected Client decorateClient(Class<?> clientClass) {
+        Client decorated = streamMultipart(client);
+        if (context.getLoadBalancer() != null) {
+            // instances are called on the transport beneath Spring's balancer, which only resolves service names
+            decorated = new LoadBalancedClient(decorated, streamMultipart(LoadBalancedClient.unwrap(client)), context.getLoadBalancer());
+        }
+        if (context.getCompressionCodecs() != null) {
+            // above the load balancer, which must see the transport to send balanced requests around Spring's balancer
+            decorated = new CompressingClient(decorated, client, context.getCompressionCodecs(), context.getClientMetrics(),
+                    baseMsClientConfigurer.getServiceName());
+        }
+        if (context.getRetryBudgetRegistry() != null) {
+            decorated = new DeadlineClient(decorated);
+        }
+        if (context.getConcurrencyLimiterRegistry() != null) {
+            decorated = new ConcurrencyLimitedClient(decorated,
+                    context.getConcurrencyLimiterRegistry().get(baseMsClientConfigurer.getServiceName()), clientClass);
+        }
+        if (context.getRetryBudgetRegistry() != null) {
+            decorated = hedge(decorated, clientClass);
+        }
+        if (context.getClientMetrics().isEnabled()) {
+            decorated = new MeteredClient(decorated, context.getClientMetrics(), baseMsClientConfigurer.getServiceName(), clientClass);
+        }
+        if (context.getResponseCache() != null) {
+            decorated = new CachingClient(decorated, context.getResponseCache(),
+                    baseMsClientConfigurer.getStrategy() == ReceiveTokenStrategy.SESSION, tenantId);
+        }
+        if (context.getClientLogWriter() != null) {
+            decorated = new FailureCapturingClient(decorated, context.getClientLogWriter());
+        }
+        return decorated;
+    }
+
+    private Client streamMultipart(Client transport) {
+        if (context.getMultipartBodyRegistry() == null) {
+            return transport;
+        }
+        return new StreamingMultipartClient(transport, context.getMultipartBodyRegistry(),
+                context.getClientTransport().getMultipartUploader());
+    }
+
+    private Client hedge(Client decorated, Class<?> clientClass) {
+        Map<Method, Hedged> hedgedMethods = HedgingClient.hedgedMethods(context.getContractMetadataRegistry().parseAndValidateMetadata(clientClass));
+        if (hedgedMethods.isEmpty()) {
+            return decorated;
+        }
+        RetryBudgetRegistry registry = context.getRetryBudgetRegistry();
+        String serviceName = baseMsClientConfigurer.getServiceName();
+        return new HedgingClient(decorated, hedgedMethods, registry.getProperties().getHedge(), registry.get(serviceName),
+                registry.getHedgeExecutor(), context.getClientMetrics(), serviceName, clientClass);
+    }
+
+    /**
+     * Wraps a token interceptor so that the time it takes to authorize a request is recorded.
+     *
+     * @param interceptor the token interceptor.
+     * @return the timed interceptor, or the given interceptor when metrics are disabled.
+     */
+    protected RequestInterceptor timedTokenInterceptor(RequestInterceptor interceptor) {
+        if (context.getClientMetrics().isEnabled()) {
+            return new TimedRequestInterceptor(interceptor, context.getClientMetrics(),
+                    baseMsClientConfigurer.getServiceName(), baseMsClientConfigurer.getStrategy().name());
+        }
+        return interceptor;
+    }
+
+    /**
+     * Returns the scope in which calls of {@link org.khasanof.factory.coalesce.Coalesce} methods are coalesced.
+     *
+     * <p>By default all calls share one scope, which suits clients authorized with service credentials.</p>
+     *
+     * @return the {@link CoalescingScope} of the built clients.
+     */
+    protected CoalescingScope coalescingScope() {
+        return CoalescingScope.SHARED;
+    }
+
+    private void recordCreate(Class<?> clientClass, boolean async) {
+        if (context.getClientMetrics().isEnabled()) {
+            context.getClientMetrics().recordCreate(baseMsClientConfigurer.getServiceName(), clientClass.getSimpleName(), async);
+        }
     }
 
     /**
@@ -57,6 +466,7 @@ public abstract class AbstractMsClientFactory implements BaseMsClientFactory {
      * @param <T>
      */
     protected <T> T build(Feign.Builder builder, Class<T> clientClass, String url) {
-        return builder.target(clientClass, url);
+        return builder.options(context.getClientTransport().requestOptions(url))
+                .target(clientClass, url);
     }
 }
@@ -1,5 +1,7 @@
 package org.khasanof.factory;
 
+import org.khasanof.factory.cache.ClientProxyCacheStats;
+
 /**
  * @author Nurislom
  * @see org.khasanof.factory
@@ -32,4 +34,72 @@ public interface BaseMsClientFactory {
      * @return an instance of the specified Feign client class configured with the provided URL.
      */
     <T> T create(Class<T> clientClass, String url);
+
+    /**
+     * Creates an asynchronous instance of the specified client class.
+     *
+     * <p>Methods of the client may return {@link java.util.concurrent.CompletableFuture}; their calls
+     * run on the asynchronous client executor instead of the calling thread. The client is built
+     * using the base URL configuration provided within the Feign setup.</p>
+     *
+     * @param clientClass the class of the Feign client to create.
+     * @param <T> the type of the Feign client.
+     * @return an asynchronous instance of the specified Feign client class.
+     * @throws UnsupportedOperationException if the factory does not build asynchronous clients.
+     */
+    default <T> T createAsync(Class<T> clientClass) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not build asynchronous clients");
+    }
+
+    /**
+     * Creates an asynchronous instance of the specified client class with a custom URL.
+     *
+     * <p>Methods of the client may return {@link java.util.concurrent.CompletableFuture}; their calls
+     * run on the asynchronous client executor instead of the calling thread.</p>
+     *
+     * @param clientClass the class of the Feign client to create.
+     * @param url the base URL for the Feign client.
+     * @param <T> the type of the Feign client.
+     * @return an asynchronous instance of the specified Feign client class configured with the provided URL.
+     * @throws UnsupportedOperationException if the factory does not build asynchronous clients.
+     */
+    default <T> T createAsync(Class<T> clientClass, String url) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not build asynchronous clients");
+    }
+
+    /**
+     * Evicts every cached client proxy of the specified client class.
+     *
+     * <p>The next {@code create} call for this client class builds a new proxy. Factories that do not
+     * cache proxies do nothing.</p>
+     *
+     * @param clientClass the class of the Feign client to evict.
+     */
+    default void evict(Class<?> clientClass) {
+    }
+
+    /**
+     * Evicts the cached client proxy of the specified client class built for the specified URL.
+     *
+     * @param clientClass the class of the Feign client to evict.
+     * @param url the base URL the Feign client was built with.
+     */
+    default void evict(Class<?> clientClass, String url) {
+    }
+
+    /**
+     * Evicts every cached client proxy created by this factory.
+     */
+    default void clear() {
+    }
+
+    /**
+     * Returns the hit, miss and eviction statistics of the client proxy cache.
+     *
+     * @return a snapshot of the statistics, or {@link ClientProxyCacheStats#EMPTY} for factories that do not
+     * cache proxies.
+     */
+    default ClientProxyCacheStats stats() {
+        return ClientProxyCacheStats.EMPTY;
+    }
 }
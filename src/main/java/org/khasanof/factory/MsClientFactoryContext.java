@@ -0,0 +1,74 @@
+package org.khasanof.factory;
+
+import feign.Client;
+import lombok.Builder;
+import lombok.Getter;
+import org.khasanof.factory.cache.ClientProxyCache;
+import org.khasanof.factory.cache.HttpResponseCache;
+import org.khasanof.factory.coalesce.RequestCoalescer;
+import org.khasanof.factory.codec.ContentNegotiator;
+import org.khasanof.factory.compression.CompressionCodecs;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.contract.ContractMetadataRegistry;
+import org.khasanof.factory.limit.ConcurrencyLimiterRegistry;
+import org.khasanof.factory.loadbalancer.LatencyAwareLoadBalancer;
+import org.khasanof.factory.logging.ClientLogWriter;
+import org.khasanof.factory.metrics.ClientMetrics;
+import org.khasanof.factory.multipart.MultipartBodyRegistry;
+import org.khasanof.factory.retry.RetryBudgetRegistry;
+import org.khasanof.factory.transport.ClientTransport;
+import org.khasanof.factory.transport.ClientTransportFactory;
+import org.khasanof.factory.util.ExecutorUtil;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Shared infrastructure the client factories build their clients with.
+ *
+ * <p>A single context is shared by every factory of the application, so that built proxies,
+ * parsed contracts, executors and connection pools are not duplicated per factory.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory
+ * @since 10/17/2026 1:48 PM
+ */
+@Getter
+@Builder
+public class MsClientFactoryContext {
+
+    private final ClientProxyCache clientProxyCache;
+    private final ContractMetadataRegistry contractMetadataRegistry;
+    private final ExecutorService asyncExecutor;
+    private final ClientTransport clientTransport;
+    private final LatencyAwareLoadBalancer loadBalancer;
+    private final RequestCoalescer requestCoalescer;
+    private final HttpResponseCache responseCache;
+    private final MultipartBodyRegistry multipartBodyRegistry;
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    private final RetryBudgetRegistry retryBudgetRegistry;
+    private final ContentNegotiator contentNegotiator;
+    private final CompressionCodecs compressionCodecs;
+    private final ClientLogWriter clientLogWriter;
+
+    @Builder.Default
+    private final ClientMetrics clientMetrics = ClientMetrics.NOOP;
+
+    /**
+     * Creates a context with the default settings and none of the optional features, for factories
+     * built outside the auto-configuration.
+     *
+     * @param client the {@link Client} sending the requests.
+     * @return a new context owned by the calling factory.
+     */
+    public static MsClientFactoryContext defaults(Client client) {
+        ModulesClientFactoryProperties properties = new ModulesClientFactoryProperties();
+        return MsClientFactoryContext.builder()
+                .clientProxyCache(new ClientProxyCache(properties.getCache()))
+                .contractMetadataRegistry(new ContractMetadataRegistry(SpringMvcContract::new))
+                .asyncExecutor(ExecutorUtil.newBoundedExecutor("ms-client-async-", properties.getAsync().getMaxThreads(),
+                        properties.getAsync().getQueueCapacity()))
+                .clientTransport(ClientTransportFactory.create(properties.getTransport(), client))
+                .build();
+    }
+}
@@ -1,8 +1,14 @@
 package org.khasanof.factory;
 
+import feign.AsyncFeign;
 import feign.Client;
 import feign.Feign;
+import feign.RequestInterceptor;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
 import org.khasanof.factory.configurer.BaseMsClientConfigurer;
+import org.khasanof.factory.token.AccessTokenCache;
+import org.khasanof.factory.token.AccessTokenKey;
+import org.khasanof.factory.token.CachingTokenInterceptor;
 import org.khasanof.modules.client.core.config.ModulesClientCoreProperties;
 import org.khasanof.modules.client.core.oauth2.keycloak.KeycloakInterceptor;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -14,53 +20,42 @@ import org.springframework.boot.web.client.RestTemplateBuilder;
  */
 public class PerRequestBaseMsClientFactory extends AbstractMsClientFactory {
 
-    private final ModulesClientCoreProperties modulesClientCoreProperties;
-
-    public PerRequestBaseMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer, ModulesClientCoreProperties modulesClientCoreProperties) {
-        super(client, baseMsClientConfigurer);
-        this.modulesClientCoreProperties = modulesClientCoreProperties;
-    }
+    private final RequestInterceptor cachingTokenInterceptor;
 
     /**
-     * Creates an instance of the specified client class using a configured Feign builder.
-     *
-     * <p>This method configures a {@link Feign.Builder} specific to the provided client class and
-     * uses it to create an instance of the client. The client is built using the base URL
-     * configuration provided within the Feign setup.</p>
-     *
-     * @param clientClass the class of the Feign client to create.
-     * @param <T> the type of the Feign client.
-     * @return an instance of the specified Feign client class.
+     * @deprecated builds its own {@link MsClientFactoryContext#defaults(Client) default context} and
+     * {@link AccessTokenCache}, sharing no proxies, contracts, executors or tokens with other factories; use
+     * {@link #PerRequestBaseMsClientFactory(Client, BaseMsClientConfigurer, MsClientFactoryContext, AccessTokenCache,
+     * ModulesClientCoreProperties)}.
      */
-    @Override
-    public <T> T create(Class<T> clientClass) {
-        Feign.Builder builder = feignBuilder(clientClass);
-        return build(builder, clientClass);
+    @Deprecated
+    public PerRequestBaseMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer,
+                                         ModulesClientCoreProperties modulesClientCoreProperties) {
+        this(client, baseMsClientConfigurer, MsClientFactoryContext.defaults(client),
+                new AccessTokenCache(new ModulesClientFactoryProperties.Token(),
+                        clientProperties -> new KeycloakInterceptor(new RestTemplateBuilder(), clientProperties)),
+                modulesClientCoreProperties);
     }
 
-    /**
-     * Creates an instance of the specified client class using a configured Feign builder with a custom URL.
-     *
-     * <p>This method configures a {@link Feign.Builder} specific to the provided client class and
-     * uses it to create an instance of the client, using the specified base URL.</p>
-     *
-     * @param clientClass the class of the Feign client to create.
-     * @param url the base URL for the Feign client.
-     * @param <T> the type of the Feign client.
-     * @return an instance of the specified Feign client class configured with the provided URL.
-     */
-    @Override
-    public <T> T create(Class<T> clientClass, String url) {
-        Feign.Builder builder = feignBuilder(clientClass);
-        return build(builder, clientClass, url);
+    public PerRequestBaseMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer, MsClientFactoryContext context,
+                                         AccessTokenCache accessTokenCache, ModulesClientCoreProperties modulesClientCoreProperties) {
+        this(client, baseMsClientConfigurer, context, accessTokenCache, modulesClientCoreProperties, null);
+    }
+
+    public PerRequestBaseMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer, MsClientFactoryContext context,
+                                         AccessTokenCache accessTokenCache, ModulesClientCoreProperties modulesClientCoreProperties,
+                                         String tenantId) {
+        super(client, baseMsClientConfigurer, context, tenantId);
+        this.cachingTokenInterceptor = timedTokenInterceptor(new CachingTokenInterceptor(accessTokenCache,
+                AccessTokenKey.of(tenantId), modulesClientCoreProperties));
     }
 
     /**
      * Configures a {@link Feign.Builder} with custom settings for the specified client class.
      *
-     * <p>This method overrides the base Feign builder configuration to include a custom
-     * {@link KeycloakInterceptor} for handling authorization, leveraging a {@link RestTemplateBuilder}
-     * and configuration properties.</p>
+     * <p>This method overrides the base Feign builder configuration to include a shared
+     * {@link CachingTokenInterceptor} for handling authorization, which takes client-credentials
+     * tokens from the {@link AccessTokenCache} instead of fetching them per client.</p>
      *
      * @param clientClass the class of the Feign client for which the builder is configured.
      * @return a configured {@link Feign.Builder} for the specified client class.
@@ -68,6 +63,18 @@ public class PerRequestBaseMsClientFactory extends AbstractMsClientFactory {
     @Override
     protected Feign.Builder feignBuilder(Class<?> clientClass) {
         return super.feignBuilder(clientClass)
-                .requestInterceptor(new KeycloakInterceptor(new RestTemplateBuilder(), modulesClientCoreProperties));
+                .requestInterceptor(cachingTokenInterceptor);
+    }
+
+    /**
+     * Configures an {@link AsyncFeign.AsyncBuilder} with the same authorization as {@link #feignBuilder(Class)}.
+     *
+     * @param clientClass the class of the Feign client for which the builder is configured.
+     * @return a configured {@link AsyncFeign.AsyncBuilder} for the specified client class.
+     */
+    @Override
+    protected AsyncFeign.AsyncBuilder<Object> asyncFeignBuilder(Class<?> clientClass) {
+        return super.asyncFeignBuilder(clientClass)
+                .requestInterceptor(cachingTokenInterceptor);
     }
 }
@@ -1,10 +1,15 @@
 package org.khasanof.factory;
 
+import feign.AsyncFeign;
 import feign.Client;
 import feign.Feign;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.khasanof.factory.coalesce.CoalescingScope;
 import org.khasanof.factory.configurer.BaseMsClientConfigurer;
 import org.khasanof.modules.client.core.oauth2.AuthorizationHeaderUtil;
 import org.khasanof.modules.client.core.oauth2.TokenRelayRequestInterceptor;
+import org.springframework.http.HttpHeaders;
 
 /**
  * @author Nurislom
@@ -15,58 +20,80 @@ public class SessionBaseMsClientFactory extends AbstractMsClientFactory {
 
     private final AuthorizationHeaderUtil authorizationHeaderUtil;
 
-    public SessionBaseMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer, AuthorizationHeaderUtil authorizationHeaderUtil) {
-        super(client, baseMsClientConfigurer);
+    /**
+     * @deprecated builds its own {@link MsClientFactoryContext#defaults(Client) default context}, sharing no
+     * proxies, contracts or executors with other factories; use
+     * {@link #SessionBaseMsClientFactory(Client, BaseMsClientConfigurer, MsClientFactoryContext, AuthorizationHeaderUtil)}.
+     */
+    @Deprecated
+    public SessionBaseMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer,
+                                      AuthorizationHeaderUtil authorizationHeaderUtil) {
+        this(client, baseMsClientConfigurer, MsClientFactoryContext.defaults(client), authorizationHeaderUtil);
+    }
+
+    public SessionBaseMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer, MsClientFactoryContext context,
+                                      AuthorizationHeaderUtil authorizationHeaderUtil) {
+        this(client, baseMsClientConfigurer, context, authorizationHeaderUtil, null);
+    }
+
+    public SessionBaseMsClientFactory(Client client, BaseMsClientConfigurer baseMsClientConfigurer, MsClientFactoryContext context,
+                                      AuthorizationHeaderUtil authorizationHeaderUtil, String tenantId) {
+        super(client, baseMsClientConfigurer, context, tenantId);
         this.authorizationHeaderUtil = authorizationHeaderUtil;
     }
 
     /**
-     * Creates an instance of the specified client class using a configured Feign builder.
+     * Configures a {@link Feign.Builder} with custom settings for the specified client class.
      *
-     * <p>This method configures a {@link Feign.Builder} specific to the provided client class and
-     * uses it to create an instance of the client. The client is built using the base URL
-     * configuration provided within the Feign setup.</p>
+     * <p>This method overrides the base Feign builder configuration to include a custom
+     * {@link TokenRelayRequestInterceptor} for handling authorization, using the provided
+     * {@link AuthorizationHeaderUtil}.</p>
      *
-     * @param clientClass the class of the Feign client to create.
-     * @param <T> the type of the Feign client.
-     * @return an instance of the specified Feign client class.
+     * @param clientClass the class of the Feign client for which the builder is configured.
+     * @return a configured {@link Feign.Builder} for the specified client class.
      */
     @Override
-    public <T> T create(Class<T> clientClass) {
-        Feign.Builder builder = feignBuilder(clientClass);
-        return build(builder, clientClass);
+    protected Feign.Builder feignBuilder(Class<?> clientClass) {
+        return super.feignBuilder(clientClass)
+                .requestInterceptor(timedTokenInterceptor(new TokenRelayRequestInterceptor(authorizationHeaderUtil)));
     }
 
     /**
-     * Creates an instance of the specified client class using a configured Feign builder with a custom URL.
-     *
-     * <p>This method configures a {@link Feign.Builder} specific to the provided client class and
-     * uses it to create an instance of the client, using the specified base URL.</p>
+     * Configures an {@link AsyncFeign.AsyncBuilder} with the same authorization as {@link #feignBuilder(Class)}.
      *
-     * @param clientClass the class of the Feign client to create.
-     * @param url the base URL for the Feign client.
-     * @param <T> the type of the Feign client.
-     * @return an instance of the specified Feign client class configured with the provided URL.
+     * @param clientClass the class of the Feign client for which the builder is configured.
+     * @return a configured {@link AsyncFeign.AsyncBuilder} for the specified client class.
      */
     @Override
-    public <T> T create(Class<T> clientClass, String url) {
-        Feign.Builder builder = feignBuilder(clientClass);
-        return build(builder, clientClass, url);
+    protected AsyncFeign.AsyncBuilder<Object> asyncFeignBuilder(Class<?> clientClass) {
+        return super.asyncFeignBuilder(clientClass)
+                .requestInterceptor(timedTokenInterceptor(new TokenRelayRequestInterceptor(authorizationHeaderUtil)));
     }
 
     /**
-     * Configures a {@link Feign.Builder} with custom settings for the specified client class.
+     * Returns a {@link CoalescingScope} keyed by the relayed {@code Authorization} header, so that calls
+     * are only coalesced with calls of the same principal.
      *
-     * <p>This method overrides the base Feign builder configuration to include a custom
-     * {@link TokenRelayRequestInterceptor} for handling authorization, using the provided
-     * {@link AuthorizationHeaderUtil}.</p>
+     * <p>Batching is not supported, because batches are sent from another thread than the one holding
+     * the session of the caller.</p>
      *
-     * @param clientClass the class of the Feign client for which the builder is configured.
-     * @return a configured {@link Feign.Builder} for the specified client class.
+     * @return the per-principal {@link CoalescingScope}.
      */
     @Override
-    protected Feign.Builder feignBuilder(Class<?> clientClass) {
-        return super.feignBuilder(clientClass)
-                .requestInterceptor(new TokenRelayRequestInterceptor(authorizationHeaderUtil));
+    protected CoalescingScope coalescingScope() {
+        RequestInterceptor tokenRelay = new TokenRelayRequestInterceptor(authorizationHeaderUtil);
+        return new CoalescingScope() {
+            @Override
+            public Object current() {
+                RequestTemplate template = new RequestTemplate();
+                tokenRelay.apply(template);
+                return template.headers().get(HttpHeaders.AUTHORIZATION);
+            }
+
+            @Override
+            public boolean isBatchingSupported() {
+                return false;
+            }
+        };
     }
 }
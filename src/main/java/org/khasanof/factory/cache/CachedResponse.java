@@ -0,0 +1,40 @@
+package org.khasanof.factory.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Response body and headers stored by the {@link HttpResponseCache}.
+ *
+ * @param status the response status.
+ * @param reason the response reason phrase.
+ * @param headers the response headers.
+ * @param body the response body.
+ * @param expiresAt the instant until which the response is fresh.
+ * @param etag the {@code ETag} validator, may be {@code null}.
+ * @param lastModified the {@code Last-Modified} validator, may be {@code null}.
+ * @author Nurislom
+ * @see org.khasanof.factory.cache
+ * @since 10/17/2026 5:50 PM
+ */
+public record CachedResponse(int status, String reason, Map<String, Collection<String>> headers, byte[] body,
+                             Instant expiresAt, String etag, String lastModified) {
+
+    public boolean isFresh(Instant now) {
+        return now.isBefore(expiresAt);
+    }
+
+    public boolean canRevalidate() {
+        return etag != null || lastModified != null;
+    }
+
+    /**
+     * Returns the approximate number of bytes the response occupies in the cache.
+     *
+     * @return the weight of the response.
+     */
+    public int weight() {
+        return body.length + 256 * headers.size();
+    }
+}
@@ -0,0 +1,259 @@
+package org.khasanof.factory.cache;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.khasanof.factory.codec.StreamingDecoder;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * {@link Client} decorator serving {@code GET} responses from the {@link HttpResponseCache}.
+ *
+ * <p>Fresh responses, as defined by {@code Cache-Control: max-age} or {@code Expires}, are served without
+ * a request. Stale responses carrying an {@code ETag} or {@code Last-Modified} validator are revalidated
+ * with {@code If-None-Match} / {@code If-Modified-Since}, and a {@code 304 Not Modified} answer is served
+ * from the cache. Responses marked {@code no-store}, or varying on headers other than {@code Accept},
+ * {@code Accept-Encoding} and {@code Authorization}, are never stored.</p>
+ *
+ * <p>Calls of methods returning a streaming type, such as {@code InputStream} or {@code Stream}, bypass the
+ * cache, and so do event streams and NDJSON responses of unknown length, so that their bodies are never
+ * buffered.</p>
+ *
+ * <p>With per-principal isolation, the {@code Authorization} header is part of the cache key, so that
+ * principals never see each other's responses, and {@code private} responses may be stored. The clients of a
+ * tenant prefix their keys with the tenant id, so tenants never share responses either.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.cache
+ * @since 10/17/2026 6:02 PM
+ */
+public class CachingClient implements Client {
+
+    private static final Set<String> VARY_SUPPORTED = Set.of("accept", "accept-encoding", "authorization");
+    private static final List<String> STREAMING_TYPES = List.of("text/event-stream", "ndjson");
+
+    private final Client delegate;
+    private final HttpResponseCache cache;
+    private final boolean isolatePrincipals;
+    private final String keyPrefix;
+
+    public CachingClient(Client delegate, HttpResponseCache cache, boolean isolatePrincipals) {
+        this(delegate, cache, isolatePrincipals, null);
+    }
+
+    public CachingClient(Client delegate, HttpResponseCache cache, boolean isolatePrincipals, String tenantId) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.isolatePrincipals = isolatePrincipals;
+        this.keyPrefix = HttpResponseCache.keyPrefix(tenantId);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET || hasDirective(request.headers(), "no-store") || isStreamed(request)) {
+            return delegate.execute(request, options);
+        }
+        String key = key(request);
+        Instant now = Instant.now();
+        CachedResponse cached = hasDirective(request.headers(), "no-cache") ? null : cache.get(key);
+        if (cached != null && cached.isFresh(now)) {
+            cache.recordHit();
+            return toResponse(cached, request);
+        }
+        if (cached == null || !cached.canRevalidate()) {
+            cache.recordMiss();
+            return store(key, delegate.execute(request, options), request, now);
+        }
+        Response response = delegate.execute(conditional(request, cached), options);
+        if (response.status() != 304) {
+            cache.recordMiss();
+            return store(key, response, request, now);
+        }
+        response.close();
+        cache.recordRevalidation();
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(cached.headers());
+        headers.putAll(response.headers());
+        CachedResponse revalidated = new CachedResponse(cached.status(), cached.reason(), headers, cached.body(),
+                expiresAt(httpHeaders(headers), now), cached.etag(), cached.lastModified());
+        cache.put(key, revalidated);
+        return toResponse(revalidated, request);
+    }
+
+    private Response store(String key, Response response, Request request, Instant now) throws IOException {
+        if (response.status() != 200 || response.body() == null) {
+            return response;
+        }
+        HttpHeaders headers = httpHeaders(response.headers());
+        CacheDirectives directives = CacheDirectives.parse(headers.getCacheControl());
+        Instant expiresAt = expiresAt(headers, now);
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        Integer length = response.body().length();
+        long maximum = cache.getMaximumEntrySize();
+        if (directives.noStore || (directives.isPrivate && !isolatePrincipals) || !isVarySupported(headers)
+                || (!expiresAt.isAfter(now) && etag == null && lastModified == null)
+                || (length != null && length > maximum) || (length == null && isStreamingType(headers))) {
+            // a previously cached representation must not outlive a response that may not be stored
+            cache.evict(key);
+            return response;
+        }
+        InputStream body = response.body().asInputStream();
+        byte[] prefix = body.readNBytes((int) Math.min(maximum + 1, Integer.MAX_VALUE - 8));
+        if (prefix.length > maximum) {
+            // too large to cache, hand the body over without buffering the rest of it
+            cache.evict(key);
+            return response.toBuilder()
+                    .body(new SequenceInputStream(new ByteArrayInputStream(prefix), body), length)
+                    .build();
+        }
+        response.close();
+        CachedResponse cached = new CachedResponse(response.status(), response.reason(), response.headers(), prefix, expiresAt, etag, lastModified);
+        cache.put(key, cached);
+        return toResponse(cached, request);
+    }
+
+    private static boolean isStreamed(Request request) {
+        return request.requestTemplate() != null && request.requestTemplate().methodMetadata() != null
+                && StreamingDecoder.isStreaming(request.requestTemplate().methodMetadata());
+    }
+
+    private static boolean isStreamingType(HttpHeaders headers) {
+        String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return STREAMING_TYPES.stream().anyMatch(type::contains);
+    }
+
+    private String key(Request request) {
+        StringBuilder key = new StringBuilder(keyPrefix).append(request.url());
+        Collection<String> accept = request.headers().get(HttpHeaders.ACCEPT);
+        if (accept != null) {
+            key.append('|').append(String.join(",", accept));
+        }
+        if (isolatePrincipals) {
+            Collection<String> authorization = request.headers().get(HttpHeaders.AUTHORIZATION);
+            if (authorization != null) {
+                key.append('|').append(String.join(",", authorization));
+            }
+        }
+        return key.toString();
+    }
+
+    private static Request conditional(Request request, CachedResponse cached) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        if (cached.etag() != null) {
+            headers.put(HttpHeaders.IF_NONE_MATCH, List.of(cached.etag()));
+        }
+        if (cached.lastModified() != null) {
+            headers.put(HttpHeaders.IF_MODIFIED_SINCE, List.of(cached.lastModified()));
+        }
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(), request.requestTemplate());
+    }
+
+    private static Response toResponse(CachedResponse cached, Request request) {
+        return Response.builder()
+                .status(cached.status())
+                .reason(cached.reason())
+                .headers(cached.headers())
+                .body(cached.body())
+                .request(request)
+                .build();
+    }
+
+    private static Instant expiresAt(HttpHeaders headers, Instant now) {
+        CacheDirectives directives = CacheDirectives.parse(headers.getCacheControl());
+        if (directives.noCache) {
+            return now;
+        }
+        if (directives.maxAge >= 0) {
+            long age = parseLong(headers.getFirst(HttpHeaders.AGE));
+            return now.plusSeconds(Math.max(directives.maxAge - Math.max(age, 0), 0));
+        }
+        try {
+            long expires = headers.getExpires();
+            if (expires > 0) {
+                long date = headers.getDate();
+                return now.plusMillis(Math.max(expires - (date > 0 ? date : now.toEpochMilli()), 0));
+            }
+        } catch (IllegalArgumentException ignored) {
+            // invalid dates make the response stale
+        }
+        return now;
+    }
+
+    private static boolean isVarySupported(HttpHeaders headers) {
+        for (String vary : headers.getVary()) {
+            if (!VARY_SUPPORTED.contains(vary.trim().toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasDirective(Map<String, Collection<String>> headers, String directive) {
+        Collection<String> cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+        return cacheControl != null && cacheControl.stream().anyMatch(value -> value.toLowerCase(Locale.ROOT).contains(directive));
+    }
+
+    private static HttpHeaders httpHeaders(Map<String, Collection<String>> headers) {
+        HttpHeaders httpHeaders = new HttpHeaders();
+        headers.forEach((name, values) -> httpHeaders.addAll(name, new ArrayList<>(values)));
+        return httpHeaders;
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static class CacheDirectives {
+
+        boolean noStore;
+        boolean noCache;
+        boolean isPrivate;
+        long maxAge = -1;
+
+        static CacheDirectives parse(String cacheControl) {
+            CacheDirectives directives = new CacheDirectives();
+            if (cacheControl == null) {
+                return directives;
+            }
+            for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+                String trimmed = directive.trim();
+                if (trimmed.equals("no-store")) {
+                    directives.noStore = true;
+                } else if (trimmed.startsWith("no-cache")) {
+                    directives.noCache = true;
+                } else if (trimmed.startsWith("private")) {
+                    directives.isPrivate = true;
+                } else if (trimmed.startsWith("max-age=") && directives.maxAge < 0) {
+                    directives.maxAge = parseLong(trimmed.substring("max-age=".length()));
+                } else if (trimmed.startsWith("s-maxage=")) {
+                    // the cache is shared by the whole application, so the shared cache lifetime takes precedence
+                    long sharedMaxAge = parseLong(trimmed.substring("s-maxage=".length()));
+                    if (sharedMaxAge >= 0) {
+                        directives.maxAge = sharedMaxAge;
+                    }
+                }
+            }
+            return directives;
+        }
+    }
+}
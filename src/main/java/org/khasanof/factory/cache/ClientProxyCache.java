@@ -0,0 +1,94 @@
+package org.khasanof.factory.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, concurrent cache of built Feign client proxies.
+ *
+ * <p>Feign proxies are immutable and thread-safe once built, so a single instance per
+ * {@link ClientProxyKey} can be shared by every caller. Building a proxy is done at most
+ * once per key, even when several threads ask for the same key concurrently.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.cache
+ * @since 10/17/2026 9:24 AM
+ */
+public class ClientProxyCache {
+
+    private final Cache<ClientProxyKey, Object> cache;
+
+    public ClientProxyCache(ModulesClientFactoryProperties.Cache properties) {
+        this.cache = properties.isEnabled() ? Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .recordStats()
+                .build() : null;
+    }
+
+    /**
+     * Returns the proxy cached under the given key, building it with the supplier on a miss.
+     *
+     * @param key the identity of the client proxy.
+     * @param builder the supplier building the proxy when it is not cached yet.
+     * @param <T> the type of the Feign client.
+     * @return the cached or newly built client proxy.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ClientProxyKey key, Supplier<T> builder) {
+        if (cache == null) {
+            return builder.get();
+        }
+        return (T) cache.get(key, ignored -> builder.get());
+    }
+
+    /**
+     * Removes every cached proxy whose key matches the given predicate.
+     *
+     * @param predicate the predicate selecting the proxies to remove.
+     */
+    public void evictIf(Predicate<ClientProxyKey> predicate) {
+        if (cache != null) {
+            cache.asMap().keySet().removeIf(predicate);
+        }
+    }
+
+    /**
+     * Removes every cached proxy built for the given tenant.
+     *
+     * @param tenantId the tenant id.
+     */
+    public void evictTenant(String tenantId) {
+        if (cache != null) {
+            cache.asMap().keySet().removeIf(key -> Objects.equals(key.tenantId(), tenantId));
+        }
+    }
+
+    /**
+     * Returns the hit, miss and eviction statistics of the cache.
+     *
+     * @return a snapshot of the cache statistics, or {@link ClientProxyCacheStats#EMPTY} when caching is disabled.
+     */
+    public ClientProxyCacheStats stats() {
+        if (cache == null) {
+            return ClientProxyCacheStats.EMPTY;
+        }
+        CacheStats stats = cache.stats();
+        return new ClientProxyCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    /**
+     * Returns the approximate number of cached proxies.
+     *
+     * @return the number of cached proxies.
+     */
+    public long size() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+}
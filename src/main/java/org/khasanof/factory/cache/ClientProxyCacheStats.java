@@ -0,0 +1,29 @@
+package org.khasanof.factory.cache;
+
+/**
+ * Snapshot of the statistics of the {@link ClientProxyCache}.
+ *
+ * @param hitCount the number of lookups that returned a cached proxy.
+ * @param missCount the number of lookups that built a new proxy.
+ * @param evictionCount the number of proxies evicted by the size or expiry bounds of the cache.
+ * @author Nurislom
+ * @see org.khasanof.factory.cache
+ * @since 10/18/2026 2:02 AM
+ */
+public record ClientProxyCacheStats(long hitCount, long missCount, long evictionCount) {
+
+    /**
+     * Statistics of a cache that saw no lookup.
+     */
+    public static final ClientProxyCacheStats EMPTY = new ClientProxyCacheStats(0, 0, 0);
+
+    /**
+     * Returns the ratio of lookups that returned a cached proxy.
+     *
+     * @return the hit rate, or {@code 1.0} when there was no lookup.
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
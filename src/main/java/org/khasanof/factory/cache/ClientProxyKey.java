@@ -0,0 +1,18 @@
+package org.khasanof.factory.cache;
+
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+
+/**
+ * Identity of a built client proxy inside the {@link ClientProxyCache}.
+ *
+ * @param clientClass the Feign client interface.
+ * @param url the base URL the client targets.
+ * @param strategy the token strategy the client was built with.
+ * @param async whether the client is an asynchronous client.
+ * @param tenantId the tenant the client was built for, or {@code null} for the default clients.
+ * @author Nurislom
+ * @see org.khasanof.factory.cache
+ * @since 10/17/2026 9:20 AM
+ */
+public record ClientProxyKey(Class<?> clientClass, String url, ReceiveTokenStrategy strategy, boolean async, String tenantId) {
+}
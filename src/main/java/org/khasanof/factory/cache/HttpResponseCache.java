@@ -0,0 +1,107 @@
+package org.khasanof.factory.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Byte-bounded cache of HTTP responses shared by the clients built by the factories.
+ *
+ * <p>Entries are evicted by Caffeine's W-TinyLFU policy once their total size exceeds
+ * {@link ModulesClientFactoryProperties.ResponseCache#getMaximumSize()} bytes.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.cache
+ * @since 10/17/2026 5:55 PM
+ */
+public class HttpResponseCache {
+
+    private final ModulesClientFactoryProperties.ResponseCache properties;
+    private final Cache<String, CachedResponse> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+
+    public HttpResponseCache(ModulesClientFactoryProperties.ResponseCache properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumSize().toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.weight())
+                .build();
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    public void evict(String key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Removes every cached response of the clients of the given tenant.
+     *
+     * @param tenantId the tenant id.
+     */
+    public void evictTenant(String tenantId) {
+        String prefix = keyPrefix(tenantId);
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the largest response body, in bytes, that is stored in the cache.
+     *
+     * @return the maximum entry size in bytes.
+     */
+    public long getMaximumEntrySize() {
+        return properties.getMaximumEntrySize().toBytes();
+    }
+
+    /**
+     * Returns the prefix of the cache keys of the clients of a tenant.
+     *
+     * @param tenantId the tenant id, or {@code null} for the default clients.
+     * @return the key prefix, empty for the default clients whose keys start with the URL.
+     */
+    static String keyPrefix(String tenantId) {
+        return tenantId == null ? "" : "tenant:" + tenantId + "|";
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordRevalidation() {
+        revalidations.increment();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long revalidationCount() {
+        return revalidations.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,41 @@
+package org.khasanof.factory.coalesce;
+
+import java.lang.annotation.*;
+
+/**
+ * Opts idempotent {@code GET} methods of a client interface into request coalescing.
+ *
+ * <p>Concurrent calls of an annotated method with equal arguments share a single request. When
+ * {@link #batchMethod()} is set, single-argument calls arriving within {@link #window()} milliseconds
+ * are also merged into one call of the batch method. The batch method must be declared on the same
+ * interface, take a single {@code List} (or {@code Collection}) of the arguments and return a
+ * {@code Map} from argument to result.</p>
+ *
+ * <p>Placed on the interface, the annotation applies to all of its {@code GET} methods; an annotation
+ * on a method takes precedence over the one on the interface. Coalesced callers receive the same
+ * result instance, which should therefore not be mutated.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.coalesce
+ * @since 10/17/2026 4:50 PM
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Coalesce {
+
+    /**
+     * Name of the bulk method single-argument calls are batched into; empty disables batching.
+     */
+    String batchMethod() default "";
+
+    /**
+     * Time in milliseconds calls are collected before a batch is sent.
+     */
+    long window() default 5;
+
+    /**
+     * Maximum number of distinct arguments per batch; a full batch is sent immediately.
+     */
+    int maxBatchSize() default 100;
+}
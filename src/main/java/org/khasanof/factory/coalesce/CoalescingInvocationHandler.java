@@ -0,0 +1,147 @@
+package org.khasanof.factory.coalesce;
+
+import feign.InvocationHandlerFactory.MethodHandler;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * {@link InvocationHandler} coalescing concurrent identical calls of {@link Coalesce} methods.
+ *
+ * <p>The first caller of a call key runs the request on its own thread; callers arriving while it
+ * is in flight wait for and share its outcome. Calls of methods with a batcher are collected per
+ * window and sent as one batch call instead.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.coalesce
+ * @since 10/17/2026 5:20 PM
+ */
+class CoalescingInvocationHandler implements InvocationHandler {
+
+    private final InvocationHandler delegate;
+    private final Map<Method, MethodHandler> dispatch;
+    private final Map<Method, Rule> rules;
+    private final CoalescingScope scope;
+    private final Map<CallKey, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+
+    CoalescingInvocationHandler(InvocationHandler delegate, Map<Method, MethodHandler> dispatch, Map<Method, Rule> rules, CoalescingScope scope) {
+        this.delegate = delegate;
+        this.dispatch = dispatch;
+        this.rules = rules;
+        this.scope = scope;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Rule rule = rules.get(method);
+        if (rule == null) {
+            return delegate.invoke(proxy, method, args);
+        }
+        if (rule.batcher() != null) {
+            return await(rule.batcher().submit(args[0]));
+        }
+        CallKey key = new CallKey(scope.current(), method, args != null ? Arrays.asList(args) : List.of());
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            Object result = dispatch.get(method).invoke(args);
+            created.complete(result);
+            return result;
+        } catch (Throwable e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, created);
+        }
+    }
+
+    /**
+     * Returns the number of callers currently waiting for an in-flight call of another caller.
+     */
+    int waiters() {
+        return inflight.values().stream().mapToInt(CompletableFuture::getNumberOfDependents).sum();
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    record Rule(Batcher batcher) {
+    }
+
+    private record CallKey(Object scope, Method method, List<Object> args) {
+    }
+
+    /**
+     * Collects single-argument calls for one window and sends them as a single batch call.
+     */
+    static class Batcher {
+
+        private final MethodHandler batchHandler;
+        private final long window;
+        private final int maxBatchSize;
+        private final ScheduledExecutorService scheduler;
+        private final Executor executor;
+        private final Object lock = new Object();
+        private Map<Object, CompletableFuture<Object>> pending;
+
+        Batcher(MethodHandler batchHandler, long window, int maxBatchSize, ScheduledExecutorService scheduler, Executor executor) {
+            this.batchHandler = batchHandler;
+            this.window = window;
+            this.maxBatchSize = maxBatchSize;
+            this.scheduler = scheduler;
+            this.executor = executor;
+        }
+
+        CompletableFuture<Object> submit(Object argument) {
+            CompletableFuture<Object> future;
+            Map<Object, CompletableFuture<Object>> full = null;
+            synchronized (lock) {
+                if (pending == null) {
+                    pending = new LinkedHashMap<>();
+                    Map<Object, CompletableFuture<Object>> batch = pending;
+                    scheduler.schedule(() -> flush(batch), window, TimeUnit.MILLISECONDS);
+                }
+                future = pending.computeIfAbsent(argument, ignored -> new CompletableFuture<>());
+                if (pending.size() >= maxBatchSize) {
+                    full = pending;
+                    pending = null;
+                }
+            }
+            if (full != null) {
+                send(full);
+            }
+            return future;
+        }
+
+        private void flush(Map<Object, CompletableFuture<Object>> batch) {
+            synchronized (lock) {
+                if (pending != batch) {
+                    return;
+                }
+                pending = null;
+            }
+            send(batch);
+        }
+
+        private void send(Map<Object, CompletableFuture<Object>> batch) {
+            executor.execute(() -> {
+                try {
+                    Map<?, ?> results = (Map<?, ?>) batchHandler.invoke(new Object[]{new ArrayList<>(batch.keySet())});
+                    batch.forEach((argument, future) -> future.complete(results != null ? results.get(argument) : null));
+                } catch (Throwable e) {
+                    batch.values().forEach(future -> future.completeExceptionally(e));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.khasanof.factory.coalesce;
+
+/**
+ * Decides which calls may share a coalesced request.
+ *
+ * <p>Only calls made in the same scope, e.g. on behalf of the same principal, are coalesced.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.coalesce
+ * @since 10/17/2026 4:55 PM
+ */
+public interface CoalescingScope {
+
+    /**
+     * Scope of clients authorized with service credentials, where every call may be coalesced and batched.
+     */
+    CoalescingScope SHARED = new CoalescingScope() {
+        @Override
+        public Object current() {
+            return null;
+        }
+
+        @Override
+        public boolean isBatchingSupported() {
+            return true;
+        }
+    };
+
+    /**
+     * Returns the scope of the calling thread; calls with equal scopes may be coalesced.
+     *
+     * @return the current scope, may be {@code null}.
+     */
+    Object current();
+
+    /**
+     * Returns whether calls may be batched and sent from another thread.
+     *
+     * @return {@code true} if batching is supported in this scope.
+     */
+    boolean isBatchingSupported();
+}
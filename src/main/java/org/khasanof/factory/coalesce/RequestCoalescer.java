@@ -0,0 +1,125 @@
+package org.khasanof.factory.coalesce;
+
+import feign.InvocationHandlerFactory;
+import feign.MethodMetadata;
+import feign.Target;
+import org.khasanof.factory.codec.StreamingDecoder;
+import org.khasanof.factory.contract.ContractMetadataRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Builds the {@link InvocationHandlerFactory} of clients that use {@link Coalesce}.
+ *
+ * <p>Shares a scheduler closing the batch windows and the executor sending the batches between all
+ * coalescing clients.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.coalesce
+ * @since 10/17/2026 5:02 PM
+ */
+public class RequestCoalescer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    private final ContractMetadataRegistry contractMetadataRegistry;
+    private final Executor batchExecutor;
+    private final ScheduledExecutorService scheduler;
+
+    public RequestCoalescer(ContractMetadataRegistry contractMetadataRegistry, Executor batchExecutor) {
+        this.contractMetadataRegistry = contractMetadataRegistry;
+        this.batchExecutor = batchExecutor;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ms-client-coalesce-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * Returns whether the given client interface uses {@link Coalesce}.
+     *
+     * @param clientClass the Feign client interface.
+     * @return {@code true} if the interface or any of its methods is annotated.
+     */
+    public static boolean isCoalescing(Class<?> clientClass) {
+        if (AnnotatedElementUtils.hasAnnotation(clientClass, Coalesce.class)) {
+            return true;
+        }
+        return Arrays.stream(clientClass.getMethods()).anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Coalesce.class));
+    }
+
+    /**
+     * Creates the invocation handler factory of a coalescing client.
+     *
+     * @param scope the scope deciding which calls may be coalesced.
+     * @return the {@link InvocationHandlerFactory} of the client.
+     */
+    public InvocationHandlerFactory invocationHandlerFactory(CoalescingScope scope) {
+        InvocationHandlerFactory defaultFactory = new InvocationHandlerFactory.Default();
+        return (target, dispatch) -> {
+            InvocationHandler defaultHandler = defaultFactory.create(target, dispatch);
+            Map<Method, CoalescingInvocationHandler.Rule> rules = rules(target, dispatch, scope);
+            return rules.isEmpty() ? defaultHandler : new CoalescingInvocationHandler(defaultHandler, dispatch, rules, scope);
+        };
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private Map<Method, CoalescingInvocationHandler.Rule> rules(Target<?> target, Map<Method, InvocationHandlerFactory.MethodHandler> dispatch,
+                                                              CoalescingScope scope) {
+        Class<?> type = target.type();
+        Coalesce typeAnnotation = AnnotatedElementUtils.findMergedAnnotation(type, Coalesce.class);
+        Map<Method, CoalescingInvocationHandler.Rule> rules = new HashMap<>();
+        for (MethodMetadata metadata : contractMetadataRegistry.parseAndValidateMetadata(type)) {
+            Method method = metadata.method();
+            Coalesce coalesce = AnnotatedElementUtils.findMergedAnnotation(method, Coalesce.class);
+            if (coalesce == null) {
+                coalesce = typeAnnotation;
+            }
+            if (coalesce == null || !dispatch.containsKey(method)) {
+                continue;
+            }
+            if (!"GET".equalsIgnoreCase(metadata.template().method())) {
+                if (coalesce != typeAnnotation) {
+                    log.warn("@Coalesce ignored on non-GET method {}", metadata.configKey());
+                }
+                continue;
+            }
+            if (StreamingDecoder.isStreaming(List.of(metadata))) {
+                // a streamed body can be read by one caller only
+                log.warn("@Coalesce ignored on streaming method {}", metadata.configKey());
+                continue;
+            }
+            rules.put(method, new CoalescingInvocationHandler.Rule(batcher(type, method, coalesce, dispatch, scope)));
+        }
+        return rules;
+    }
+
+    private CoalescingInvocationHandler.Batcher batcher(Class<?> type, Method method, Coalesce coalesce,
+                                                        Map<Method, InvocationHandlerFactory.MethodHandler> dispatch, CoalescingScope scope) {
+        if (coalesce.batchMethod().isEmpty() || method.getParameterCount() != 1) {
+            return null;
+        }
+        if (!scope.isBatchingSupported()) {
+            log.warn("Batching of {}.{} is not supported by the token strategy, only concurrent calls are coalesced",
+                    type.getSimpleName(), method.getName());
+            return null;
+        }
+        Method batchMethod = Arrays.stream(type.getMethods())
+                .filter(candidate -> candidate.getName().equals(coalesce.batchMethod()) && candidate.getParameterCount() == 1)
+                .filter(candidate -> candidate.getParameterTypes()[0].isAssignableFrom(List.class))
+                .filter(candidate -> Map.class.isAssignableFrom(candidate.getReturnType()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No batch method " + coalesce.batchMethod() + "(List) returning a Map found on " + type.getName()));
+        return new CoalescingInvocationHandler.Batcher(dispatch.get(batchMethod), coalesce.window(), coalesce.maxBatchSize(), scheduler, batchExecutor);
+    }
+}
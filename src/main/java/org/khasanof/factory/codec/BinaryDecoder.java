@@ -0,0 +1,45 @@
+package org.khasanof.factory.codec;
+
+import feign.Response;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * {@link Decoder} reading responses in a negotiated {@link BinaryFormat}.
+ *
+ * <p>The format is chosen by the {@code Content-Type} of the response and reads the body directly from the
+ * response stream. Responses in any other content type are passed to the delegate decoder.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 11:50 PM
+ */
+public class BinaryDecoder implements Decoder {
+
+    private final Decoder delegate;
+    private final List<BinaryFormat> formats;
+
+    public BinaryDecoder(Decoder delegate, List<BinaryFormat> formats) {
+        this.delegate = delegate;
+        this.formats = formats;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        String contentType = ContentNegotiator.contentType(response.headers());
+        if (contentType != null && response.body() != null) {
+            for (BinaryFormat format : formats) {
+                if (format.getMediaType().equals(contentType) && format.canRead(type)) {
+                    try (InputStream inputStream = response.body().asInputStream()) {
+                        return format.read(inputStream, type);
+                    }
+                }
+            }
+        }
+        return delegate.decode(response, type);
+    }
+}
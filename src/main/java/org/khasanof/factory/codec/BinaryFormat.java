@@ -0,0 +1,66 @@
+package org.khasanof.factory.codec;
+
+import org.khasanof.factory.enumeration.CodecType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Binary serialization format a client may negotiate with its service instead of JSON.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 11:35 PM
+ */
+public interface BinaryFormat {
+
+    /**
+     * Returns the codec type the format implements.
+     *
+     * @return the {@link CodecType}.
+     */
+    CodecType getCodecType();
+
+    /**
+     * Returns the media type of the format, sent in the {@code Accept} and {@code Content-Type} headers.
+     *
+     * @return the media type.
+     */
+    String getMediaType();
+
+    /**
+     * Returns whether a request body can be written in this format.
+     *
+     * @param body the request body.
+     * @return {@code true} if the body can be written.
+     */
+    boolean canWrite(Object body);
+
+    /**
+     * Returns whether a response body of the given type can be read in this format.
+     *
+     * @param type the type of the response body.
+     * @return {@code true} if the type can be read.
+     */
+    boolean canRead(Type type);
+
+    /**
+     * Writes a request body.
+     *
+     * @param body the request body.
+     * @return the serialized body.
+     * @throws IOException if the body cannot be written.
+     */
+    byte[] write(Object body) throws IOException;
+
+    /**
+     * Reads a response body directly from the response stream.
+     *
+     * @param inputStream the response body stream.
+     * @param type the type of the response body.
+     * @return the read body.
+     * @throws IOException if the body cannot be read.
+     */
+    Object read(InputStream inputStream, Type type) throws IOException;
+}
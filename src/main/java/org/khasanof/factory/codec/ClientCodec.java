@@ -0,0 +1,24 @@
+package org.khasanof.factory.codec;
+
+import org.khasanof.factory.enumeration.CodecType;
+
+import java.lang.annotation.*;
+
+/**
+ * Selects the codec a client interface negotiates with its service, overriding
+ * {@code modules.client.factory.codec}.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 11:32 PM
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ClientCodec {
+
+    /**
+     * Codec of the client.
+     */
+    CodecType value();
+}
@@ -0,0 +1,97 @@
+package org.khasanof.factory.codec;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.enumeration.CodecType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Selects the codec of each client and learns which binary formats each service accepts.
+ *
+ * <p>The codec of a client is taken from its {@link ClientCodec} annotation, then from the codec configured
+ * for its service, then from the default codec. Responses are always negotiated through {@code Accept}, but
+ * a request body is only sent in a binary format once the service answered in that format, since answering
+ * in a format shows that the service understands it. A service rejecting a binary body with
+ * {@code 415 Unsupported Media Type} gets JSON bodies from then on.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 11:46 PM
+ */
+public class ContentNegotiator {
+
+    private final ModulesClientFactoryProperties.Codec properties;
+    private final Set<String> accepted = ConcurrentHashMap.newKeySet();
+    private final Set<String> rejected = ConcurrentHashMap.newKeySet();
+
+    public ContentNegotiator(ModulesClientFactoryProperties.Codec properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the codec of a client.
+     *
+     * @param serviceName the target service name.
+     * @param clientClass the class of the Feign client.
+     * @return the {@link CodecType} of the client.
+     */
+    public CodecType codecType(String serviceName, Class<?> clientClass) {
+        ClientCodec clientCodec = AnnotatedElementUtils.findMergedAnnotation(clientClass, ClientCodec.class);
+        if (clientCodec != null) {
+            return clientCodec.value();
+        }
+        return properties.getServices().getOrDefault(serviceName, properties.getType());
+    }
+
+    /**
+     * Returns whether request bodies may be sent to a service in the given media type.
+     *
+     * @param serviceName the target service name.
+     * @param mediaType the media type of the binary format.
+     * @return {@code true} once the service answered in the media type and never rejected it.
+     */
+    public boolean isAccepted(String serviceName, String mediaType) {
+        String key = serviceName + "|" + mediaType;
+        return accepted.contains(key) && !rejected.contains(key);
+    }
+
+    /**
+     * Forgets the formats learned for a service, e.g. once the tenant calling it is evicted.
+     *
+     * @param serviceName the target service name.
+     */
+    public void evict(String serviceName) {
+        String prefix = serviceName + "|";
+        accepted.removeIf(key -> key.startsWith(prefix));
+        rejected.removeIf(key -> key.startsWith(prefix));
+    }
+
+    void accepted(String serviceName, String mediaType) {
+        accepted.add(serviceName + "|" + mediaType);
+    }
+
+    void rejected(String serviceName, String mediaType) {
+        rejected.add(serviceName + "|" + mediaType);
+    }
+
+    /**
+     * Returns the media type of the {@code Content-Type} header, without parameters.
+     *
+     * @param headers the headers of a request or response.
+     * @return the lower-case media type, or {@code null} if there is no {@code Content-Type}.
+     */
+    static String contentType(Map<String, Collection<String>> headers) {
+        Collection<String> values = headers.get("Content-Type");
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        String value = values.iterator().next();
+        int parameters = value.indexOf(';');
+        return (parameters >= 0 ? value.substring(0, parameters) : value).trim().toLowerCase(Locale.ROOT);
+    }
+}
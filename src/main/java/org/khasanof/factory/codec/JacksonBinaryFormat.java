@@ -0,0 +1,86 @@
+package org.khasanof.factory.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.khasanof.factory.enumeration.CodecType;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * {@link BinaryFormat} writing and reading values with a Jackson binary data format, Smile or CBOR.
+ *
+ * <p>The mapper is a copy of the JSON {@link ObjectMapper} of the client, so modules, naming strategies
+ * and other settings are shared with the JSON codec. Values are read with a parser over the response
+ * stream, without buffering the body.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 11:38 PM
+ */
+public class JacksonBinaryFormat implements BinaryFormat {
+
+    private final CodecType codecType;
+    private final String mediaType;
+    private final ObjectMapper objectMapper;
+
+    public JacksonBinaryFormat(CodecType codecType, String mediaType, ObjectMapper objectMapper) {
+        this.codecType = codecType;
+        this.mediaType = mediaType;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates the Smile format.
+     *
+     * @param objectMapper the JSON mapper the format copies its settings from.
+     * @return the Smile {@link BinaryFormat}.
+     */
+    public static JacksonBinaryFormat smile(ObjectMapper objectMapper) {
+        return new JacksonBinaryFormat(CodecType.SMILE, "application/x-jackson-smile", objectMapper.copyWith(new SmileFactory()));
+    }
+
+    /**
+     * Creates the CBOR format.
+     *
+     * @param objectMapper the JSON mapper the format copies its settings from.
+     * @return the CBOR {@link BinaryFormat}.
+     */
+    public static JacksonBinaryFormat cbor(ObjectMapper objectMapper) {
+        return new JacksonBinaryFormat(CodecType.CBOR, "application/cbor", objectMapper.copyWith(new CBORFactory()));
+    }
+
+    @Override
+    public CodecType getCodecType() {
+        return codecType;
+    }
+
+    @Override
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public boolean canWrite(Object body) {
+        return body != null && !(body instanceof CharSequence || body instanceof byte[] || body instanceof InputStream
+                || body instanceof Resource);
+    }
+
+    @Override
+    public boolean canRead(Type type) {
+        return type != String.class && type != byte[].class && !StreamingDecoder.isStreamingType(type);
+    }
+
+    @Override
+    public byte[] write(Object body) throws IOException {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Override
+    public Object read(InputStream inputStream, Type type) throws IOException {
+        return objectMapper.readValue(inputStream, objectMapper.constructType(type));
+    }
+}
@@ -0,0 +1,64 @@
+package org.khasanof.factory.codec;
+
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import org.khasanof.factory.enumeration.CodecType;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * {@link Encoder} writing request bodies in a binary format the service accepts.
+ *
+ * <p>Protobuf messages are always written as Protobuf. Other bodies are written in the Jackson binary
+ * format of the client once the {@link ContentNegotiator} knows the service accepts it, and as JSON by the
+ * delegate encoder until then. Bodies of methods declaring a non-JSON {@code Content-Type}, such as forms,
+ * are always left to the delegate.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 11:54 PM
+ */
+public class NegotiatingEncoder implements Encoder {
+
+    private final Encoder delegate;
+    private final List<BinaryFormat> formats;
+    private final ContentNegotiator contentNegotiator;
+    private final String serviceName;
+
+    public NegotiatingEncoder(Encoder delegate, List<BinaryFormat> formats, ContentNegotiator contentNegotiator, String serviceName) {
+        this.delegate = delegate;
+        this.formats = formats;
+        this.contentNegotiator = contentNegotiator;
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) throws EncodeException {
+        String contentType = ContentNegotiator.contentType(template.headers());
+        if (object != null && (contentType == null || contentType.equals("application/json"))) {
+            for (BinaryFormat format : formats) {
+                if (format.canWrite(object) && (format.getCodecType() == CodecType.PROTOBUF
+                        || contentNegotiator.isAccepted(serviceName, format.getMediaType()))) {
+                    write(object, format, template);
+                    return;
+                }
+            }
+        }
+        delegate.encode(object, bodyType, template);
+    }
+
+    private static void write(Object object, BinaryFormat format, RequestTemplate template) {
+        byte[] body;
+        try {
+            body = format.write(object);
+        } catch (IOException e) {
+            throw new EncodeException("Could not write " + object.getClass().getName() + " as " + format.getMediaType(), e);
+        }
+        template.header("Content-Type", List.of());
+        template.header("Content-Type", format.getMediaType());
+        template.body(body, null);
+    }
+}
@@ -0,0 +1,77 @@
+package org.khasanof.factory.codec;
+
+import feign.MethodMetadata;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link RequestInterceptor} asking the service for a binary response through the {@code Accept} header.
+ *
+ * <p>The binary formats able to read the return type of the method are listed first and JSON last, with a
+ * lower quality, so a service without binary support keeps answering in JSON. Methods declaring a
+ * non-JSON {@code Accept} and methods returning streams are left untouched.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 11:58 PM
+ */
+public class NegotiatingRequestInterceptor implements RequestInterceptor {
+
+    private final List<BinaryFormat> formats;
+
+    public NegotiatingRequestInterceptor(List<BinaryFormat> formats) {
+        this.formats = formats;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        MethodMetadata metadata = template.methodMetadata();
+        if (metadata == null) {
+            return;
+        }
+        Collection<String> accept = template.headers().get("Accept");
+        if (accept != null && !accept.stream().allMatch(NegotiatingRequestInterceptor::isJson)) {
+            return;
+        }
+        Type type = bodyType(metadata.returnType());
+        if (type == void.class || type == Void.class) {
+            return;
+        }
+        List<String> mediaTypes = new ArrayList<>();
+        for (BinaryFormat format : formats) {
+            if (format.canRead(type)) {
+                mediaTypes.add(format.getMediaType());
+            }
+        }
+        if (mediaTypes.isEmpty()) {
+            return;
+        }
+        mediaTypes.add("application/json;q=0.9");
+        template.header("Accept", List.of());
+        template.header("Accept", String.join(", ", mediaTypes));
+    }
+
+    private static boolean isJson(String accept) {
+        return accept.startsWith("application/json") || accept.startsWith("*/*");
+    }
+
+    private static Type bodyType(Type type) {
+        while (type instanceof ParameterizedType parameterized && isWrapper(parameterized.getRawType())) {
+            type = parameterized.getActualTypeArguments()[0];
+        }
+        return type;
+    }
+
+    private static boolean isWrapper(Type rawType) {
+        return rawType == ResponseEntity.class || rawType == Optional.class || rawType == CompletableFuture.class;
+    }
+}
@@ -0,0 +1,50 @@
+package org.khasanof.factory.codec;
+
+import feign.InvocationContext;
+import feign.Response;
+import feign.ResponseInterceptor;
+
+import java.util.List;
+
+/**
+ * {@link ResponseInterceptor} teaching the {@link ContentNegotiator} which binary formats a service accepts.
+ *
+ * <p>A response in a binary format marks the format as accepted by the service; a
+ * {@code 415 Unsupported Media Type} answer to a binary request body marks it as rejected.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/18/2026 12:02 AM
+ */
+public class NegotiationResponseInterceptor implements ResponseInterceptor {
+
+    private final List<BinaryFormat> formats;
+    private final ContentNegotiator contentNegotiator;
+    private final String serviceName;
+
+    public NegotiationResponseInterceptor(List<BinaryFormat> formats, ContentNegotiator contentNegotiator, String serviceName) {
+        this.formats = formats;
+        this.contentNegotiator = contentNegotiator;
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public Object intercept(InvocationContext invocationContext, Chain chain) throws Exception {
+        Response response = invocationContext.response();
+        String contentType = ContentNegotiator.contentType(response.headers());
+        if (isBinary(contentType)) {
+            contentNegotiator.accepted(serviceName, contentType);
+        }
+        if (response.status() == 415 && response.request() != null) {
+            String requestContentType = ContentNegotiator.contentType(response.request().headers());
+            if (isBinary(requestContentType)) {
+                contentNegotiator.rejected(serviceName, requestContentType);
+            }
+        }
+        return chain.next(invocationContext);
+    }
+
+    private boolean isBinary(String contentType) {
+        return contentType != null && formats.stream().anyMatch(format -> format.getMediaType().equals(contentType));
+    }
+}
@@ -0,0 +1,70 @@
+package org.khasanof.factory.codec;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import org.khasanof.factory.enumeration.CodecType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link BinaryFormat} writing and reading generated Protobuf {@link Message} classes.
+ *
+ * <p>The {@link Parser} of every message class is looked up once and reads the message directly from the
+ * response stream. Types other than messages are left to the other formats.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 11:42 PM
+ */
+public class ProtobufFormat implements BinaryFormat {
+
+    /**
+     * Media type of Protobuf messages.
+     */
+    public static final String MEDIA_TYPE = "application/x-protobuf";
+
+    private final Map<Class<?>, Parser<?>> parsers = new ConcurrentHashMap<>();
+
+    @Override
+    public CodecType getCodecType() {
+        return CodecType.PROTOBUF;
+    }
+
+    @Override
+    public String getMediaType() {
+        return MEDIA_TYPE;
+    }
+
+    @Override
+    public boolean canWrite(Object body) {
+        return body instanceof Message;
+    }
+
+    @Override
+    public boolean canRead(Type type) {
+        return type instanceof Class<?> clazz && Message.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public byte[] write(Object body) {
+        return ((Message) body).toByteArray();
+    }
+
+    @Override
+    public Object read(InputStream inputStream, Type type) throws IOException {
+        return parsers.computeIfAbsent((Class<?>) type, ProtobufFormat::parser).parseFrom(inputStream);
+    }
+
+    private static Parser<?> parser(Class<?> messageClass) {
+        try {
+            Message defaultInstance = (Message) messageClass.getMethod("getDefaultInstance").invoke(null);
+            return defaultInstance.getParserForType();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No default instance found on Protobuf message " + messageClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package org.khasanof.factory.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.MethodMetadata;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Decoder} returning streaming types that read the response body incrementally.
+ *
+ * <p>The following return types are decoded without buffering the body:</p>
+ * <ul>
+ *     <li>{@link InputStream}, {@link ReadableByteChannel} and {@link Resource} - the raw body,</li>
+ *     <li>{@link Stream Stream&lt;T&gt;} - the elements of a JSON array or of newline delimited JSON,
+ *     parsed one at a time with Jackson.</li>
+ * </ul>
+ *
+ * <p>The connection is released when the returned stream, channel or resource stream is closed, or when
+ * a {@link Stream} has been fully consumed, so callers must close streaming results, preferably with
+ * try-with-resources. Clients with streaming methods are built with {@code doNotCloseAfterDecode} and
+ * their decoder chain is wrapped by {@link #releasing(Decoder)}, which closes the response of every other
+ * type once it has been decoded.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.codec
+ * @since 10/17/2026 7:40 PM
+ */
+public class StreamingDecoder implements Decoder {
+
+    private final Decoder delegate;
+    private final ObjectMapper objectMapper;
+
+    public StreamingDecoder(Decoder delegate, ObjectMapper objectMapper) {
+        this.delegate = delegate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns whether any method of a client returns a streaming type.
+     *
+     * @param metadata the contract metadata of the client methods.
+     * @return {@code true} if the client has to be built with {@code doNotCloseAfterDecode}.
+     */
+    public static boolean isStreaming(Collection<MethodMetadata> metadata) {
+        return metadata.stream().anyMatch(StreamingDecoder::isStreaming);
+    }
+
+    /**
+     * Returns whether a client method returns a streaming type.
+     *
+     * @param metadata the contract metadata of the client method.
+     * @return {@code true} if the response body of the method is streamed to the caller.
+     */
+    public static boolean isStreaming(MethodMetadata metadata) {
+        return isStreamingType(unwrap(metadata.returnType()));
+    }
+
+    /**
+     * Returns whether a return type is decoded by streaming the response body.
+     *
+     * @param type the return type, without {@code ResponseEntity} or {@code Optional} wrappers.
+     * @return {@code true} for streaming types.
+     */
+    public static boolean isStreamingType(Type type) {
+        Class<?> rawType = rawType(type);
+        return rawType == InputStream.class || rawType == ReadableByteChannel.class
+                || rawType == Resource.class || rawType == InputStreamResource.class || rawType == Stream.class;
+    }
+
+    /**
+     * Wraps the outermost decoder of a client built with {@code doNotCloseAfterDecode}, closing the response
+     * after decoding every type that does not stream the body.
+     *
+     * @param decoder the outermost decoder of the chain.
+     * @return the decoder releasing non-streaming responses.
+     */
+    public static Decoder releasing(Decoder decoder) {
+        return (response, type) -> {
+            boolean streaming = isStreamingType(unwrap(type));
+            try {
+                return decoder.decode(response, type);
+            } catch (IOException | RuntimeException e) {
+                response.close();
+                throw e;
+            } finally {
+                if (!streaming) {
+                    response.close();
+                }
+            }
+        };
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException, FeignException {
+        if (!isStreamingType(type) || response.body() == null) {
+            return delegate.decode(response, type);
+        }
+        InputStream body = new ResponseInputStream(response);
+        Class<?> rawType = rawType(type);
+        if (rawType == InputStream.class) {
+            return body;
+        }
+        if (rawType == ReadableByteChannel.class) {
+            return Channels.newChannel(body);
+        }
+        if (rawType == Stream.class) {
+            return elements(body, elementType(type));
+        }
+        return new InputStreamResource(body);
+    }
+
+    private Stream<?> elements(InputStream body, Type elementType) throws IOException {
+        JavaType javaType = objectMapper.getTypeFactory().constructType(elementType);
+        MappingIterator<Object> values;
+        try {
+            // a root level array is unwrapped, a root level sequence of values (NDJSON) is read as is
+            values = objectMapper.readerFor(javaType).readValues(body);
+        } catch (IOException | RuntimeException e) {
+            body.close();
+            throw e;
+        }
+        Iterator<Object> iterator = new ClosingIterator(values, body);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        values.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        Util.ensureClosed(body);
+                    }
+                });
+    }
+
+    private static Type unwrap(Type type) {
+        if (type instanceof ParameterizedType parameterizedType) {
+            String name = rawType(type).getName();
+            if (name.equals("java.util.Optional") || name.equals("org.springframework.http.ResponseEntity")) {
+                return unwrap(parameterizedType.getActualTypeArguments()[0]);
+            }
+        }
+        return type;
+    }
+
+    private static Type elementType(Type type) {
+        return type instanceof ParameterizedType parameterizedType ? parameterizedType.getActualTypeArguments()[0] : Object.class;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        }
+        if (type instanceof ParameterizedType parameterizedType) {
+            return (Class<?>) parameterizedType.getRawType();
+        }
+        return Object.class;
+    }
+
+    /**
+     * Body stream closing the whole response, and with it releasing the connection, when closed.
+     */
+    private static class ResponseInputStream extends FilterInputStream {
+
+        private final Response response;
+
+        ResponseInputStream(Response response) throws IOException {
+            super(response.body().asInputStream());
+            this.response = response;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                response.close();
+            }
+        }
+    }
+
+    /**
+     * Iterator releasing the response once the last element has been read.
+     */
+    private static class ClosingIterator implements Iterator<Object> {
+
+        private final MappingIterator<Object> values;
+        private final InputStream body;
+
+        ClosingIterator(MappingIterator<Object> values, InputStream body) {
+            this.values = values;
+            this.body = body;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext;
+            try {
+                hasNext = values.hasNext();
+            } catch (RuntimeException e) {
+                Util.ensureClosed(body);
+                throw e;
+            }
+            if (!hasNext) {
+                Util.ensureClosed(body);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return values.next();
+        }
+    }
+}
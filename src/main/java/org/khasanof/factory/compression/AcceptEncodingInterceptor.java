@@ -0,0 +1,31 @@
+package org.khasanof.factory.compression;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * {@link RequestInterceptor} advertising the codings the {@link CompressingClient} decompresses in the
+ * {@code Accept-Encoding} header, unless the caller set the header.
+ *
+ * <p>The header is added to the template, so that requests are not copied by the client to add it.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 1:50 AM
+ */
+public class AcceptEncodingInterceptor implements RequestInterceptor {
+
+    private final String acceptEncoding;
+
+    public AcceptEncodingInterceptor(CompressionCodecs codecs) {
+        this.acceptEncoding = codecs.getAcceptEncoding();
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (!template.headers().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            template.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+    }
+}
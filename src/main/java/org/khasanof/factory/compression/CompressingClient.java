@@ -0,0 +1,216 @@
+package org.khasanof.factory.compression;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.khasanof.factory.metrics.ClientMetrics;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.http.HttpHeaders;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link Client} decorator compressing request bodies and decompressing response bodies.
+ *
+ * <p>Buffered request bodies of at least {@code minRequestSize} bytes are compressed with the request codec,
+ * unless the request already has a {@code Content-Encoding} or a content type that is compressed by itself.
+ * Streamed multipart bodies, and bodies that do not get smaller, are sent unchanged. The
+ * {@link AcceptEncodingInterceptor} advertises the codings this client decompresses.</p>
+ *
+ * <p>Responses with a supported {@code Content-Encoding} are decompressed while they are read. The magic
+ * bytes of the body are checked first, since some transports decompress the body themselves but keep the
+ * header.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 12:48 AM
+ */
+public class CompressingClient implements Client {
+
+    private static final List<String> COMPRESSED_TYPES = List.of("image/", "video/", "audio/", "zip", "gzip", "zstd", "compressed");
+
+    private final Client delegate;
+    private final CompressionCodecs codecs;
+    private final ClientMetrics clientMetrics;
+    private final String serviceName;
+    private final boolean transportCompressesGzip;
+
+    public CompressingClient(Client delegate, Client transport, CompressionCodecs codecs, ClientMetrics clientMetrics, String serviceName) {
+        this.delegate = delegate;
+        this.codecs = codecs;
+        this.clientMetrics = clientMetrics;
+        this.serviceName = serviceName;
+        this.transportCompressesGzip = compressesGzip(transport);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Response response = delegate.execute(compress(request), options);
+        return decompress(response);
+    }
+
+    private Request compress(Request request) throws IOException {
+        byte[] body = request.body();
+        if (!isCompressible(body, request.headers())) {
+            return request;
+        }
+        CompressionCodec codec = codecs.getRequestCodec();
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.headers());
+        headers.put(HttpHeaders.CONTENT_ENCODING, List.of(codec.getEncoding()));
+        if (transportCompressesGzip && "gzip".equals(codec.getEncoding())) {
+            // HttpURLConnection based clients gzip bodies with this header themselves
+            return copy(request, headers, body, request.charset());
+        }
+        byte[] compressed = codec.compress(body);
+        if (compressed.length >= body.length) {
+            // incompressible, e.g. already encrypted or random data
+            return request;
+        }
+        headers.put(HttpHeaders.CONTENT_LENGTH, List.of(Integer.toString(compressed.length)));
+        record("request", codec, body.length, compressed.length);
+        return copy(request, headers, compressed, null);
+    }
+
+    private boolean isCompressible(byte[] body, Map<String, Collection<String>> headers) {
+        if (body == null || body.length < codecs.getProperties().getMinRequestSize().toBytes()
+                || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return false;
+        }
+        Collection<String> contentType = headers.get(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null) {
+            return true;
+        }
+        for (String value : contentType) {
+            String type = value.toLowerCase(Locale.ROOT);
+            if (COMPRESSED_TYPES.stream().anyMatch(type::contains)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Response decompress(Response response) throws IOException {
+        Collection<String> encoding = response.headers().get(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null || encoding.size() != 1 || response.body() == null) {
+            return response;
+        }
+        CompressionCodec codec = codecs.get(encoding.iterator().next());
+        if (codec == null) {
+            return response;
+        }
+        BufferedInputStream body = new BufferedInputStream(response.body().asInputStream());
+        byte[] magic = new byte[codec.magicLength()];
+        body.mark(magic.length);
+        int read = body.readNBytes(magic, 0, magic.length);
+        body.reset();
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(response.headers());
+        headers.remove(HttpHeaders.CONTENT_ENCODING);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        if (read == 0) {
+            return response.toBuilder().headers(headers).body(body, 0).build();
+        }
+        if (!codec.matches(magic, read)) {
+            // already decompressed by the transport
+            return response.toBuilder().headers(headers).body(body, null).build();
+        }
+        CountingInputStream compressed = new CountingInputStream(body, null);
+        InputStream decompressed = new CountingInputStream(codec.decompress(compressed),
+                count -> record("response", codec, count, compressed.count));
+        return response.toBuilder().headers(headers).body(decompressed, null).build();
+    }
+
+    private void record(String direction, CompressionCodec codec, long uncompressedBytes, long compressedBytes) {
+        if (clientMetrics.isEnabled()) {
+            clientMetrics.recordCompression(serviceName, direction, codec.getEncoding(), uncompressedBytes, compressedBytes);
+        }
+    }
+
+    private static Request copy(Request request, Map<String, Collection<String>> headers, byte[] body, Charset charset) {
+        return Request.create(request.httpMethod(), request.url(), headers, body, charset, request.requestTemplate());
+    }
+
+    private static boolean compressesGzip(Client transport) {
+        Client client = transport;
+        if (client instanceof FeignBlockingLoadBalancerClient blocking) {
+            client = blocking.getDelegate();
+        }
+        return client instanceof Client.Default;
+    }
+
+    /**
+     * Stream counting the bytes read through it, reporting the count once at the end of the stream or on close.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final LongConsumer onDone;
+        private long count;
+        private boolean done;
+
+        private CountingInputStream(InputStream in, LongConsumer onDone) {
+            super(in);
+            this.onDone = onDone;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value == -1) {
+                done();
+            } else {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read == -1) {
+                done();
+            } else {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                done();
+            }
+        }
+
+        private void done() {
+            if (!done && onDone != null) {
+                done = true;
+                onDone.accept(count);
+            }
+        }
+    }
+}
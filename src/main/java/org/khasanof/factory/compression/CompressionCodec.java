@@ -0,0 +1,58 @@
+package org.khasanof.factory.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Content coding used to compress request bodies and decompress response bodies.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 12:22 AM
+ */
+public interface CompressionCodec {
+
+    /**
+     * Returns the name of the coding in the {@code Content-Encoding} and {@code Accept-Encoding} headers.
+     *
+     * @return the content coding name.
+     */
+    String getEncoding();
+
+    /**
+     * Compresses a request body.
+     *
+     * @param body the uncompressed body.
+     * @return the compressed body.
+     * @throws IOException if the body cannot be compressed.
+     */
+    byte[] compress(byte[] body) throws IOException;
+
+    /**
+     * Wraps a compressed response body into a stream decompressing it while it is read.
+     *
+     * @param inputStream the compressed body.
+     * @return the decompressing stream, releasing its resources when closed.
+     * @throws IOException if the stream cannot be opened.
+     */
+    InputStream decompress(InputStream inputStream) throws IOException;
+
+    /**
+     * Returns whether a stream starts with the magic bytes of the coding.
+     *
+     * <p>Some transports decompress responses themselves but keep the {@code Content-Encoding} header, so the
+     * magic bytes tell whether the body is still compressed.</p>
+     *
+     * @param header the first bytes of the body.
+     * @param length the number of bytes available in {@code header}.
+     * @return {@code true} if the body is compressed with this coding.
+     */
+    boolean matches(byte[] header, int length);
+
+    /**
+     * Returns the number of leading bytes {@link #matches(byte[], int)} needs.
+     *
+     * @return the length of the magic bytes.
+     */
+    int magicLength();
+}
@@ -0,0 +1,88 @@
+package org.khasanof.factory.compression;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.enumeration.CompressionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * The {@link CompressionCodec}s shared by all clients.
+ *
+ * <p>{@code gzip} is always available; {@code zstd} is added when zstd-jni is on the classpath. Requests are
+ * compressed with the configured algorithm, responses are accepted in every available coding.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 12:43 AM
+ */
+public class CompressionCodecs {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressionCodecs.class);
+
+    private static final int ZSTD_DEFAULT_LEVEL = 3;
+
+    private final ModulesClientFactoryProperties.Compression properties;
+    private final Map<String, CompressionCodec> codecs = new LinkedHashMap<>();
+    private final CompressionCodec requestCodec;
+    private final String acceptEncoding;
+
+    public CompressionCodecs(ModulesClientFactoryProperties.Compression properties) {
+        this.properties = properties;
+        boolean zstd = ZstdCodec.isAvailable();
+        if (zstd) {
+            int level = properties.getAlgorithm() == CompressionType.ZSTD && properties.getLevel() != null
+                    ? properties.getLevel() : ZSTD_DEFAULT_LEVEL;
+            register(new ZstdCodec(level));
+        }
+        int gzipLevel = properties.getAlgorithm() == CompressionType.GZIP && properties.getLevel() != null
+                ? properties.getLevel() : Deflater.DEFAULT_COMPRESSION;
+        register(new GzipCodec(gzipLevel, properties.getPoolSize()));
+        if (properties.getAlgorithm() == CompressionType.ZSTD && !zstd) {
+            log.warn("zstd-jni is not on the classpath, request bodies are compressed with gzip");
+        }
+        CompressionCodec codec = codecs.get(properties.getAlgorithm().name().toLowerCase(Locale.ROOT));
+        this.requestCodec = codec != null ? codec : codecs.get("gzip");
+        this.acceptEncoding = String.join(", ", codecs.keySet());
+    }
+
+    public ModulesClientFactoryProperties.Compression getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns the codec compressing request bodies.
+     *
+     * @return the request {@link CompressionCodec}.
+     */
+    public CompressionCodec getRequestCodec() {
+        return requestCodec;
+    }
+
+    /**
+     * Returns the codec of a content coding.
+     *
+     * @param encoding the value of a {@code Content-Encoding} header.
+     * @return the matching {@link CompressionCodec}, or {@code null} if the coding is not supported.
+     */
+    public CompressionCodec get(String encoding) {
+        return encoding == null ? null : codecs.get(encoding.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the {@code Accept-Encoding} header value listing the available codings.
+     *
+     * @return the accepted codings, preferred first.
+     */
+    public String getAcceptEncoding() {
+        return acceptEncoding;
+    }
+
+    private void register(CompressionCodec codec) {
+        codecs.put(codec.getEncoding(), codec);
+    }
+}
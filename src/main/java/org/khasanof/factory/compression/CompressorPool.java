@@ -0,0 +1,44 @@
+package org.khasanof.factory.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of native compressors such as {@link java.util.zip.Deflater} and {@link java.util.zip.Inflater}.
+ *
+ * <p>Creating a compressor allocates native memory that is only freed by {@code end()} or finalization, so
+ * compressors are reset and reused across calls instead. Instances released to a full pool are ended.</p>
+ *
+ * @param <T> the type of the pooled compressor.
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 12:25 AM
+ */
+class CompressorPool<T> {
+
+    private final BlockingQueue<T> idle;
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final Consumer<T> destroy;
+
+    CompressorPool(int size, Supplier<T> factory, Consumer<T> reset, Consumer<T> destroy) {
+        this.idle = new ArrayBlockingQueue<>(Math.max(size, 1));
+        this.factory = factory;
+        this.reset = reset;
+        this.destroy = destroy;
+    }
+
+    T acquire() {
+        T instance = idle.poll();
+        return instance != null ? instance : factory.get();
+    }
+
+    void release(T instance) {
+        reset.accept(instance);
+        if (!idle.offer(instance)) {
+            destroy.accept(instance);
+        }
+    }
+}
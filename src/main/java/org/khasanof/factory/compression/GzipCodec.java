@@ -0,0 +1,83 @@
+package org.khasanof.factory.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@code gzip} {@link CompressionCodec} reusing pooled {@link Deflater} and {@link Inflater} instances.
+ *
+ * <p>The gzip header and trailer are written and parsed here around raw deflate data, since
+ * {@link java.util.zip.GZIPOutputStream} and {@link java.util.zip.GZIPInputStream} always create a
+ * compressor of their own.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 12:28 AM
+ */
+public class GzipCodec implements CompressionCodec {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_LENGTH = 8;
+
+    private final CompressorPool<Deflater> deflaters;
+    private final CompressorPool<Inflater> inflaters;
+
+    public GzipCodec(int level, int poolSize) {
+        this.deflaters = new CompressorPool<>(poolSize, () -> new Deflater(level, true), Deflater::reset, Deflater::end);
+        this.inflaters = new CompressorPool<>(poolSize, () -> new Inflater(true), Inflater::reset, Inflater::end);
+    }
+
+    @Override
+    public String getEncoding() {
+        return "gzip";
+    }
+
+    @Override
+    public byte[] compress(byte[] body) {
+        Deflater deflater = deflaters.acquire();
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 2 + HEADER.length + TRAILER_LENGTH);
+            outputStream.write(HEADER, 0, HEADER.length);
+            deflater.setInput(body);
+            deflater.finish();
+            byte[] buffer = new byte[Math.min(Math.max(body.length / 2, 512), 8192)];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, length);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            writeInt(outputStream, (int) crc.getValue());
+            writeInt(outputStream, body.length);
+            return outputStream.toByteArray();
+        } finally {
+            deflaters.release(deflater);
+        }
+    }
+
+    @Override
+    public InputStream decompress(InputStream inputStream) throws IOException {
+        return new GzipInflaterInputStream(inputStream, inflaters);
+    }
+
+    @Override
+    public boolean matches(byte[] header, int length) {
+        return length >= 2 && header[0] == HEADER[0] && header[1] == HEADER[1];
+    }
+
+    @Override
+    public int magicLength() {
+        return 2;
+    }
+
+    private static void writeInt(ByteArrayOutputStream outputStream, int value) {
+        outputStream.write(value);
+        outputStream.write(value >>> 8);
+        outputStream.write(value >>> 16);
+        outputStream.write(value >>> 24);
+    }
+}
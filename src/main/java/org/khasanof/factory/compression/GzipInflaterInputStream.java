@@ -0,0 +1,142 @@
+package org.khasanof.factory.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.ByteArrayInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Stream decompressing a single-member gzip body with a pooled {@link Inflater}.
+ *
+ * <p>The header is parsed when the stream is opened and the trailer checksum and size are verified once the
+ * deflate data ends. The inflater goes back to its pool when the stream is closed.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 12:34 AM
+ */
+class GzipInflaterInputStream extends InflaterInputStream {
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final CompressorPool<Inflater> pool;
+    private final CRC32 crc = new CRC32();
+    private boolean released;
+    private boolean trailerRead;
+
+    GzipInflaterInputStream(InputStream inputStream, CompressorPool<Inflater> pool) throws IOException {
+        this(inputStream, pool, pool.acquire());
+    }
+
+    private GzipInflaterInputStream(InputStream inputStream, CompressorPool<Inflater> pool, Inflater inflater) throws IOException {
+        super(inputStream, inflater, 8192);
+        this.pool = pool;
+        try {
+            readHeader(inputStream);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (trailerRead) {
+            return -1;
+        }
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            crc.update(b, off, read);
+        } else if (read == -1) {
+            readTrailer();
+            return -1;
+        }
+        return read;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!released) {
+            released = true;
+            pool.release(inf);
+        }
+        super.close();
+    }
+
+    private void readTrailer() throws IOException {
+        trailerRead = true;
+        int remaining = inf.getRemaining();
+        InputStream trailer = remaining > 0
+                ? new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), in) : in;
+        long expectedCrc = readInt(trailer) & 0xffffffffL;
+        long expectedSize = readInt(trailer) & 0xffffffffL;
+        if (expectedCrc != crc.getValue() || expectedSize != (inf.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt gzip trailer");
+        }
+    }
+
+    private static void readHeader(InputStream inputStream) throws IOException {
+        if (readUnsignedShort(inputStream) != 0x8b1f) {
+            throw new ZipException("Not in gzip format");
+        }
+        if (readUnsignedByte(inputStream) != 8) {
+            throw new ZipException("Unsupported gzip compression method");
+        }
+        int flags = readUnsignedByte(inputStream);
+        skip(inputStream, 6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            skip(inputStream, readUnsignedShort(inputStream));
+        }
+        if ((flags & FNAME) == FNAME) {
+            skipZeroTerminated(inputStream);
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            skipZeroTerminated(inputStream);
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            skip(inputStream, 2);
+        }
+    }
+
+    private static int readInt(InputStream inputStream) throws IOException {
+        return readUnsignedShort(inputStream) | (readUnsignedShort(inputStream) << 16);
+    }
+
+    private static int readUnsignedShort(InputStream inputStream) throws IOException {
+        return readUnsignedByte(inputStream) | (readUnsignedByte(inputStream) << 8);
+    }
+
+    private static int readUnsignedByte(InputStream inputStream) throws IOException {
+        int value = inputStream.read();
+        if (value == -1) {
+            throw new EOFException("Unexpected end of gzip stream");
+        }
+        return value;
+    }
+
+    private static void skip(InputStream inputStream, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readUnsignedByte(inputStream);
+        }
+    }
+
+    private static void skipZeroTerminated(InputStream inputStream) throws IOException {
+        while (readUnsignedByte(inputStream) != 0) {
+            // skip the zero-terminated field
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.khasanof.factory.compression;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code zstd} {@link CompressionCodec} backed by zstd-jni.
+ *
+ * <p>zstd-jni is an optional dependency, check {@link #isAvailable()} before creating the codec. Decompression
+ * buffers are taken from the shared {@link RecyclingBufferPool}.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 12:39 AM
+ */
+public class ZstdCodec implements CompressionCodec {
+
+    private static final byte[] MAGIC = {0x28, (byte) 0xb5, 0x2f, (byte) 0xfd};
+
+    private final int level;
+
+    public ZstdCodec(int level) {
+        this.level = level;
+    }
+
+    /**
+     * Returns whether zstd-jni is on the classpath.
+     *
+     * @return {@code true} if the codec can be created.
+     */
+    public static boolean isAvailable() {
+        return ClassUtils.isPresent("com.github.luben.zstd.Zstd", ZstdCodec.class.getClassLoader());
+    }
+
+    @Override
+    public String getEncoding() {
+        return "zstd";
+    }
+
+    @Override
+    public byte[] compress(byte[] body) {
+        return Zstd.compress(body, level);
+    }
+
+    @Override
+    public InputStream decompress(InputStream inputStream) throws IOException {
+        return new ZstdInputStream(inputStream, RecyclingBufferPool.INSTANCE);
+    }
+
+    @Override
+    public boolean matches(byte[] header, int length) {
+        if (length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int magicLength() {
+        return MAGIC.length;
+    }
+}
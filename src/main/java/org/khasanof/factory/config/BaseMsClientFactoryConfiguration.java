@@ -1,18 +1,77 @@
 package org.khasanof.factory.config;
 
 import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.khasanof.factory.BaseMsClientFactory;
+import org.khasanof.factory.MsClientFactoryContext;
 import org.khasanof.factory.PerRequestBaseMsClientFactory;
 import org.khasanof.factory.SessionBaseMsClientFactory;
+import org.khasanof.factory.cache.ClientProxyCache;
+import org.khasanof.factory.cache.HttpResponseCache;
+import org.khasanof.factory.coalesce.RequestCoalescer;
+import org.khasanof.factory.codec.ContentNegotiator;
+import org.khasanof.factory.compression.CompressionCodecs;
 import org.khasanof.factory.configurer.BaseMsClientConfigurer;
+import org.khasanof.factory.contract.ContractMetadataRegistry;
+import org.khasanof.factory.enumeration.AsyncExecutorType;
 import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+import org.khasanof.factory.limit.ConcurrencyLimiterRegistry;
+import org.khasanof.factory.loadbalancer.CompositeModuleInstanceSupplier;
+import org.khasanof.factory.loadbalancer.LatencyAwareLoadBalancer;
+import org.khasanof.factory.loadbalancer.ModuleInstanceSupplier;
+import org.khasanof.factory.loadbalancer.StaticModuleInstanceSupplier;
+import org.khasanof.factory.logging.ClientLogWriter;
+import org.khasanof.factory.metrics.ClientMetrics;
+import org.khasanof.factory.multipart.MultipartBodyRegistry;
+import org.khasanof.factory.retry.RetryBudgetRegistry;
+import org.khasanof.factory.tenant.IssuerTenantResolver;
+import org.khasanof.factory.tenant.MsClientTenant;
+import org.khasanof.factory.tenant.MsClientTenantProvider;
+import org.khasanof.factory.tenant.TenantMsClientConfigurer;
+import org.khasanof.factory.tenant.TenantMsClientFactory;
+import org.khasanof.factory.tenant.TenantResolver;
+import org.khasanof.factory.token.AccessTokenCache;
+import org.khasanof.factory.token.AccessTokenKey;
+import org.khasanof.factory.transport.ClientTransport;
+import org.khasanof.factory.transport.ClientTransportFactory;
+import org.khasanof.factory.util.ExecutorUtil;
+import org.khasanof.factory.warmup.ClientWarmer;
+import org.khasanof.factory.warmup.WarmUpScanner;
+import org.khasanof.factory.warmup.WarmUpTarget;
 import org.khasanof.modules.client.core.config.ModulesClientCoreProperties;
 import org.khasanof.modules.client.core.oauth2.AuthorizationHeaderUtil;
+import org.khasanof.modules.client.core.oauth2.TokenRelayRequestInterceptor;
+import org.khasanof.modules.client.core.oauth2.keycloak.KeycloakInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.LoadBalancerFeignRequestTransformer;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 /**
  * @author Nurislom
@@ -20,10 +79,13 @@ import java.util.Objects;
  * @since 8/24/2024 8:10 PM
  */
 @Configuration
+@EnableConfigurationProperties(ModulesClientFactoryProperties.class)
 public class BaseMsClientFactoryConfiguration {
 
+    private static final Logger log = LoggerFactory.getLogger(BaseMsClientFactoryConfiguration.class);
+
     @Autowired
-    private Client client;
+    private ObjectProvider<Client> client;
 
     @Autowired
     private BaseMsClientConfigurer baseMsClientConfigurer;
@@ -34,6 +96,335 @@ public class BaseMsClientFactoryConfiguration {
     @Autowired
     private AuthorizationHeaderUtil authorizationHeaderUtil;
 
+    @Autowired
+    private ModulesClientFactoryProperties modulesClientFactoryProperties;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Autowired
+    private ObjectProvider<ModuleInstanceSupplier> moduleInstanceSupplier;
+
+    @Autowired
+    private ObjectProvider<DiscoveryClient> discoveryClient;
+
+    @Autowired
+    private ObjectProvider<LoadBalancerClient> loadBalancerClient;
+
+    @Autowired
+    private ObjectProvider<LoadBalancerClientFactory> loadBalancerClientFactory;
+
+    @Autowired
+    private ObjectProvider<LoadBalancerFeignRequestTransformer> loadBalancerFeignRequestTransformers;
+
+    @Autowired
+    private ObjectProvider<TenantResolver> tenantResolver;
+
+    @Autowired
+    private ObjectProvider<MsClientTenantProvider> tenantProvider;
+
+    /**
+     * Creates the {@link ClientProxyCache} shared by the client factories.
+     *
+     * @return a {@link ClientProxyCache} configured by {@link ModulesClientFactoryProperties#getCache()}.
+     */
+    @Bean
+    public ClientProxyCache clientProxyCache() {
+        return new ClientProxyCache(modulesClientFactoryProperties.getCache());
+    }
+
+    /**
+     * Creates the {@link ContractMetadataRegistry} shared by the client factories.
+     *
+     * <p>The registry parses the Spring MVC annotations of every client interface once and
+     * reuses the parsed metadata for every client built afterwards.</p>
+     *
+     * @return a {@link ContractMetadataRegistry} parsing with a new {@link SpringMvcContract} per interface.
+     */
+    @Bean
+    public ContractMetadataRegistry contractMetadataRegistry() {
+        return new ContractMetadataRegistry(SpringMvcContract::new);
+    }
+
+    /**
+     * Creates the {@link AccessTokenCache} shared by the {@code PER_REQUEST} client factories.
+     *
+     * <p>Tokens are obtained through a {@link KeycloakInterceptor} per client properties, all of them
+     * sharing a single {@link RestTemplateBuilder}.</p>
+     *
+     * @return an {@link AccessTokenCache} configured by {@link ModulesClientFactoryProperties#getToken()}.
+     */
+    @Bean
+    public AccessTokenCache accessTokenCache() {
+        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder();
+        return new AccessTokenCache(modulesClientFactoryProperties.getToken(),
+                clientProperties -> new KeycloakInterceptor(restTemplateBuilder, clientProperties));
+    }
+
+    /**
+     * Creates the executor running the calls of asynchronous clients.
+     *
+     * <p>With {@link AsyncExecutorType#AUTO}, a virtual thread per task executor is used on JDK 21
+     * and later, and a bounded pool sized by {@link ModulesClientFactoryProperties.Async} otherwise.</p>
+     *
+     * @return the asynchronous client executor.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService modulesClientAsyncExecutor() {
+        ModulesClientFactoryProperties.Async async = modulesClientFactoryProperties.getAsync();
+        boolean virtual = switch (async.getExecutor()) {
+            case AUTO -> ExecutorUtil.isVirtualThreadsSupported();
+            case VIRTUAL -> true;
+            case BOUNDED -> false;
+        };
+        if (virtual) {
+            return ExecutorUtil.newVirtualThreadPerTaskExecutor();
+        }
+        return ExecutorUtil.newBoundedExecutor("ms-client-async-", async.getMaxThreads(), async.getQueueCapacity());
+    }
+
+    /**
+     * Creates the HTTP transport shared by the built clients.
+     *
+     * <p>With the {@code DEFAULT} transport type, the {@link Client} bean of the context is used as before.
+     * Otherwise a pooled JDK or Apache HttpClient 5 transport is created from
+     * {@link ModulesClientFactoryProperties#getTransport()}, resolving service names like the default client
+     * does.</p>
+     *
+     * @return the configured {@link ClientTransport}.
+     */
+    @Bean
+    public ClientTransport clientTransport() {
+        return ClientTransportFactory.create(modulesClientFactoryProperties.getTransport(), client.getIfAvailable(), serviceNameResolution());
+    }
+
+    /**
+     * Returns the decorator resolving the service names of the requests sent by the {@code JDK} and
+     * {@code APACHE_HC5} transports.
+     *
+     * <p>Requests go through Spring Cloud's {@link FeignBlockingLoadBalancerClient} when the context has a
+     * {@link LoadBalancerClient}, like those of the default client. When the
+     * {@link ModulesClientFactoryProperties.LoadBalancer factory load balancer} is enabled it resolves the
+     * service names itself, and the transport sends requests to the chosen instances directly.</p>
+     *
+     * @return the load balancing decorator, or {@code null} when requests are sent to the host of their URL.
+     */
+    private UnaryOperator<Client> serviceNameResolution() {
+        if (modulesClientFactoryProperties.getLoadBalancer().isEnabled()) {
+            return null;
+        }
+        LoadBalancerClient balancer = loadBalancerClient.getIfAvailable();
+        LoadBalancerClientFactory balancerFactory = loadBalancerClientFactory.getIfAvailable();
+        if (balancer == null || balancerFactory == null) {
+            return null;
+        }
+        List<LoadBalancerFeignRequestTransformer> transformers = loadBalancerFeignRequestTransformers.orderedStream().toList();
+        return delegate -> new FeignBlockingLoadBalancerClient(delegate, balancer, balancerFactory, transformers);
+    }
+
+    /**
+     * Creates the {@link RequestCoalescer} of the clients using {@link org.khasanof.factory.coalesce.Coalesce}.
+     *
+     * @param contractMetadataRegistry the registry of parsed client contract metadata.
+     * @param modulesClientAsyncExecutor the executor sending the batched calls.
+     * @return the request coalescer.
+     */
+    @Bean
+    public RequestCoalescer requestCoalescer(ContractMetadataRegistry contractMetadataRegistry, ExecutorService modulesClientAsyncExecutor) {
+        return new RequestCoalescer(contractMetadataRegistry, modulesClientAsyncExecutor);
+    }
+
+    /**
+     * Creates the {@link ClientLogWriter} writing the records of the sampled client loggers.
+     *
+     * <p>The writer thread is only started by the first record, so the writer costs nothing while sampled
+     * logging is disabled.</p>
+     *
+     * @return the client log writer configured by {@link ModulesClientFactoryProperties#getLogging()}.
+     */
+    @Bean(destroyMethod = "close")
+    public ClientLogWriter clientLogWriter() {
+        return new ClientLogWriter(modulesClientFactoryProperties.getLogging());
+    }
+
+    /**
+     * Creates the {@link ClientMetrics} instrumenting the built clients.
+     *
+     * <p>Falls back to {@link ClientMetrics#NOOP} when the context has no {@link MeterRegistry}.</p>
+     *
+     * @return the client metrics.
+     */
+    @Bean
+    public ClientMetrics clientMetrics() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return registry != null ? new ClientMetrics(registry, modulesClientFactoryProperties.getMetrics()) : ClientMetrics.NOOP;
+    }
+
+    /**
+     * Creates the {@link LatencyAwareLoadBalancer} of the built clients, when enabled by
+     * {@link ModulesClientFactoryProperties.LoadBalancer#isEnabled()}.
+     *
+     * <p>Service instances come from the {@link ModuleInstanceSupplier} bean if one is defined, otherwise
+     * from the static instances of the properties followed by the {@link DiscoveryClient} of the context.</p>
+     *
+     * @return the load balancer, or {@code null} when load balancing is disabled.
+     */
+    private LatencyAwareLoadBalancer loadBalancer() {
+        ModulesClientFactoryProperties.LoadBalancer properties = modulesClientFactoryProperties.getLoadBalancer();
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        ModuleInstanceSupplier instanceSupplier = moduleInstanceSupplier.getIfAvailable(() -> {
+            List<ModuleInstanceSupplier> suppliers = new ArrayList<>();
+            suppliers.add(new StaticModuleInstanceSupplier(properties.getInstances()));
+            discoveryClient.ifAvailable(discovery -> suppliers.add(discovery::getInstances));
+            return new CompositeModuleInstanceSupplier(suppliers);
+        });
+        return new LatencyAwareLoadBalancer(instanceSupplier, properties);
+    }
+
+    /**
+     * Creates the {@link HttpResponseCache} of the built clients, when enabled by
+     * {@link ModulesClientFactoryProperties.ResponseCache#isEnabled()}.
+     *
+     * @param clientMetrics the metrics the cache lookups are recorded by.
+     * @return the response cache, or {@code null} when response caching is disabled.
+     */
+    private HttpResponseCache responseCache(ClientMetrics clientMetrics) {
+        ModulesClientFactoryProperties.ResponseCache properties = modulesClientFactoryProperties.getResponseCache();
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        HttpResponseCache responseCache = new HttpResponseCache(properties);
+        clientMetrics.bind(responseCache);
+        return responseCache;
+    }
+
+    /**
+     * Creates the {@link MultipartBodyRegistry} of the built clients, when enabled by
+     * {@link ModulesClientFactoryProperties.Multipart#isStreaming()} and supported by the transport.
+     *
+     * @param clientTransport the HTTP transport of the built clients.
+     * @return the multipart body registry, or {@code null} when multipart bodies are encoded into memory.
+     */
+    private MultipartBodyRegistry multipartBodyRegistry(ClientTransport clientTransport) {
+        if (!modulesClientFactoryProperties.getMultipart().isStreaming()) {
+            return null;
+        }
+        if (clientTransport.getMultipartUploader() == null) {
+            log.warn("Multipart streaming is not supported by the {} transport client {}, multipart bodies are encoded into memory",
+                    clientTransport.getType(), clientTransport.getClient().getClass().getName());
+            return null;
+        }
+        return new MultipartBodyRegistry();
+    }
+
+    /**
+     * Creates the {@link ConcurrencyLimiterRegistry} of the built clients, when enabled by
+     * {@link ModulesClientFactoryProperties.Limit#isEnabled()}.
+     *
+     * @param clientMetrics the metrics the limits and rejections are recorded by.
+     * @return the concurrency limiter registry, or {@code null} when calls are not limited.
+     */
+    private ConcurrencyLimiterRegistry concurrencyLimiterRegistry(ClientMetrics clientMetrics) {
+        ModulesClientFactoryProperties.Limit properties = modulesClientFactoryProperties.getLimit();
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return new ConcurrencyLimiterRegistry(properties, clientMetrics);
+    }
+
+    /**
+     * Creates the {@link RetryBudgetRegistry} of the built clients, when enabled by
+     * {@link ModulesClientFactoryProperties.Retry#isEnabled()}.
+     *
+     * @return the retry budget registry, or {@code null} when Feign's default retryer is used.
+     */
+    private RetryBudgetRegistry retryBudgetRegistry() {
+        ModulesClientFactoryProperties.Retry properties = modulesClientFactoryProperties.getRetry();
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return new RetryBudgetRegistry(properties);
+    }
+
+    /**
+     * Returns the {@link ClientLogWriter} of the built clients, when enabled by
+     * {@link ModulesClientFactoryProperties.Logging#isEnabled()}.
+     *
+     * @param clientLogWriter the client log writer.
+     * @param clientMetrics the metrics the written and dropped records are recorded by.
+     * @return the client log writer, or {@code null} when Feign's {@code Slf4jLogger} is used.
+     */
+    private ClientLogWriter clientLogWriter(ClientLogWriter clientLogWriter, ClientMetrics clientMetrics) {
+        if (!modulesClientFactoryProperties.getLogging().isEnabled()) {
+            return null;
+        }
+        clientMetrics.bind(clientLogWriter);
+        return clientLogWriter;
+    }
+
+    /**
+     * Creates the codecs compressing request and response bodies, when enabled by
+     * {@link ModulesClientFactoryProperties.Compression#isEnabled()}.
+     *
+     * @return the compression codecs, or {@code null} when bodies are sent as they are.
+     */
+    private CompressionCodecs compressionCodecs() {
+        ModulesClientFactoryProperties.Compression properties = modulesClientFactoryProperties.getCompression();
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return new CompressionCodecs(properties);
+    }
+
+    /**
+     * Creates the {@link MsClientFactoryContext} shared by the client factories.
+     *
+     * @param clientProxyCache the cache of built client proxies.
+     * @param contractMetadataRegistry the registry of parsed client contract metadata.
+     * @param modulesClientAsyncExecutor the executor running the calls of asynchronous clients.
+     * @param clientTransport the HTTP transport of the built clients.
+     * @param clientMetrics the metrics of the built clients.
+     * @param requestCoalescer the coalescer of {@link org.khasanof.factory.coalesce.Coalesce} methods.
+     * @param clientLogWriter the writer of the sampled client logs.
+     * @return the shared {@link MsClientFactoryContext}.
+     */
+    @Bean
+    public MsClientFactoryContext msClientFactoryContext(ClientProxyCache clientProxyCache, ContractMetadataRegistry contractMetadataRegistry,
+                                                         ExecutorService modulesClientAsyncExecutor, ClientTransport clientTransport,
+                                                         ClientMetrics clientMetrics, RequestCoalescer requestCoalescer,
+                                                         ClientLogWriter clientLogWriter) {
+        clientMetrics.bind(clientProxyCache, clientTransport);
+        return MsClientFactoryContext.builder()
+                .clientProxyCache(clientProxyCache)
+                .contractMetadataRegistry(contractMetadataRegistry)
+                .asyncExecutor(modulesClientAsyncExecutor)
+                .clientTransport(clientTransport)
+                .clientMetrics(clientMetrics)
+                .loadBalancer(loadBalancer())
+                .requestCoalescer(requestCoalescer)
+                .responseCache(responseCache(clientMetrics))
+                .multipartBodyRegistry(multipartBodyRegistry(clientTransport))
+                .concurrencyLimiterRegistry(concurrencyLimiterRegistry(clientMetrics))
+                .retryBudgetRegistry(retryBudgetRegistry())
+                .contentNegotiator(new ContentNegotiator(modulesClientFactoryProperties.getCodec()))
+                .compressionCodecs(compressionCodecs())
+                .clientLogWriter(clientLogWriter(clientLogWriter, clientMetrics))
+                .build();
+    }
+
+    /**
+     * Parses the contract metadata of the client interfaces listed in
+     * {@link ModulesClientFactoryProperties.Contract#getPrewarm()} once the context is refreshed.
+     *
+     * @param event the context refreshed event.
+     */
+    @EventListener
+    public void prewarmContractMetadata(ContextRefreshedEvent event) {
+        contractMetadataRegistry().prewarm(modulesClientFactoryProperties.getContract().getPrewarm());
+    }
+
     /**
      * Creates and configures a {@link BaseMsClientFactory} bean based on the configured strategy.
      *
@@ -42,14 +433,115 @@ public class BaseMsClientFactoryConfiguration {
      * it returns a {@link PerRequestBaseMsClientFactory} instance. Otherwise, it returns a
      * {@link SessionBaseMsClientFactory} instance.</p>
      *
+     * <p>When {@link ModulesClientFactoryProperties.Tenancy#isEnabled()}, that factory serves the calls without a
+     * tenant and is wrapped by a {@link TenantMsClientFactory} routing the other calls to the clients of the
+     * tenant resolved by the {@link TenantResolver} bean, or the realm of the relayed token by default.</p>
+     *
+     * @param msClientFactoryContext the shared infrastructure the clients are built with.
+     * @param accessTokenCache the access token cache used by the {@code PER_REQUEST} strategy.
      * @return a {@link BaseMsClientFactory} bean configured according to the strategy defined in
      *         {@link BaseMsClientConfigurer}.
      */
     @Bean
-    public BaseMsClientFactory baseMsClientFactory() {
+    public BaseMsClientFactory baseMsClientFactory(MsClientFactoryContext msClientFactoryContext, AccessTokenCache accessTokenCache) {
+        Client transportClient = msClientFactoryContext.getClientTransport().getClient();
+        BaseMsClientFactory defaultFactory;
+        if (Objects.equals(baseMsClientConfigurer.getStrategy(), ReceiveTokenStrategy.PER_REQUEST)) {
+            defaultFactory = new PerRequestBaseMsClientFactory(transportClient, baseMsClientConfigurer, msClientFactoryContext, accessTokenCache, modulesClientCoreProperties);
+        } else {
+            defaultFactory = new SessionBaseMsClientFactory(transportClient, baseMsClientConfigurer, msClientFactoryContext, authorizationHeaderUtil);
+        }
+        ModulesClientFactoryProperties.Tenancy tenancy = modulesClientFactoryProperties.getTenancy();
+        if (!tenancy.isEnabled()) {
+            return defaultFactory;
+        }
+        TenantResolver resolver = tenantResolver.getIfAvailable(() -> new IssuerTenantResolver(
+                tenancy.isResolveFromIssuer() ? new TokenRelayRequestInterceptor(authorizationHeaderUtil) : null));
+        MsClientTenantProvider provider = tenantProvider.getIfAvailable(this::configuredTenants);
+        return new TenantMsClientFactory(defaultFactory, baseMsClientConfigurer.getServiceName(),
+                tenant -> tenantFactory(tenant, transportClient, msClientFactoryContext, accessTokenCache),
+                resolver, provider, msClientFactoryContext, accessTokenCache, tenancy);
+    }
+
+    /**
+     * Creates the factory of the clients of a tenant, sharing the encoders and decoders of the application
+     * configurer.
+     *
+     * @param tenant the client configuration of the tenant.
+     * @param transportClient the transport client.
+     * @param msClientFactoryContext the shared infrastructure the clients are built with.
+     * @param accessTokenCache the access token cache used by the {@code PER_REQUEST} strategy.
+     * @return the {@link BaseMsClientFactory} of the tenant.
+     */
+    private BaseMsClientFactory tenantFactory(MsClientTenant tenant, Client transportClient, MsClientFactoryContext msClientFactoryContext,
+                                              AccessTokenCache accessTokenCache) {
+        BaseMsClientConfigurer tenantConfigurer = new TenantMsClientConfigurer(baseMsClientConfigurer, tenant);
+        if (Objects.equals(tenantConfigurer.getStrategy(), ReceiveTokenStrategy.PER_REQUEST)) {
+            Assert.notNull(tenant.clientProperties(), () -> "No client credentials configured for tenant " + tenant.tenantId());
+            return new PerRequestBaseMsClientFactory(transportClient, tenantConfigurer, msClientFactoryContext, accessTokenCache,
+                    tenant.clientProperties(), tenant.tenantId());
+        }
+        return new SessionBaseMsClientFactory(transportClient, tenantConfigurer, msClientFactoryContext, authorizationHeaderUtil, tenant.tenantId());
+    }
+
+    /**
+     * Returns the tenants configured in {@link ModulesClientFactoryProperties.Tenancy#getTenants()}.
+     *
+     * @return the {@link MsClientTenantProvider} of the configured tenants.
+     */
+    private MsClientTenantProvider configuredTenants() {
+        Map<String, ModulesClientFactoryProperties.Tenancy.Tenant> tenants = modulesClientFactoryProperties.getTenancy().getTenants();
+        return tenantId -> {
+            ModulesClientFactoryProperties.Tenancy.Tenant tenant = tenants.get(tenantId);
+            return tenant != null ? new MsClientTenant(tenantId, tenant.getServiceName(), tenant.getStrategy(), tenant.getClient()) : null;
+        };
+    }
+
+    /**
+     * Creates the {@link ClientWarmer} building the declared clients while the application starts, when
+     * enabled by {@link ModulesClientFactoryProperties.Warmup#isEnabled()}.
+     *
+     * <p>The clients are listed in {@link ModulesClientFactoryProperties.Warmup#getClients()} or annotated
+     * with {@link org.khasanof.factory.warmup.WarmUp} in the application packages. The access token is
+     * fetched ahead for the {@code PER_REQUEST} strategy only, since the {@code SESSION} strategy relays the
+     * token of the caller.</p>
+     *
+     * @param baseMsClientFactory the factory the clients are built with.
+     * @param msClientFactoryContext the shared infrastructure the clients are built with.
+     * @param accessTokenCache the access token cache used by the {@code PER_REQUEST} strategy.
+     * @param beanFactory the bean factory holding the application packages.
+     * @param eventPublisher the publisher of the readiness state changes.
+     * @return the client warmer.
+     */
+    @Bean
+    public ClientWarmer clientWarmer(BaseMsClientFactory baseMsClientFactory, MsClientFactoryContext msClientFactoryContext,
+                                     AccessTokenCache accessTokenCache, BeanFactory beanFactory, ApplicationEventPublisher eventPublisher) {
+        ModulesClientFactoryProperties.Warmup properties = modulesClientFactoryProperties.getWarmup();
+        Runnable tokenFetch = null;
         if (Objects.equals(baseMsClientConfigurer.getStrategy(), ReceiveTokenStrategy.PER_REQUEST)) {
-            return new PerRequestBaseMsClientFactory(client, baseMsClientConfigurer, modulesClientCoreProperties);
+            tokenFetch = () -> accessTokenCache.getAuthorization(AccessTokenKey.DEFAULT, modulesClientCoreProperties);
+        }
+        // routing proxies build nothing until called, so the default clients are warmed up
+        BaseMsClientFactory factory = baseMsClientFactory instanceof TenantMsClientFactory tenantFactory
+                ? tenantFactory.getDefaultFactory() : baseMsClientFactory;
+        return new ClientWarmer(properties, properties.isEnabled() ? warmUpTargets(beanFactory) : List.of(), factory,
+                msClientFactoryContext, baseMsClientConfigurer.getServiceName(), tokenFetch, eventPublisher);
+    }
+
+    private List<WarmUpTarget> warmUpTargets(BeanFactory beanFactory) {
+        ModulesClientFactoryProperties.Warmup properties = modulesClientFactoryProperties.getWarmup();
+        Set<WarmUpTarget> targets = new LinkedHashSet<>();
+        properties.getClients().forEach(client -> targets.add(new WarmUpTarget(client.getType(), client.getUrl(), client.isAsync())));
+        if (properties.isScan()) {
+            List<String> basePackages = new ArrayList<>(properties.getBasePackages());
+            if (AutoConfigurationPackages.has(beanFactory)) {
+                basePackages.addAll(AutoConfigurationPackages.get(beanFactory));
+            }
+            Set<Class<?>> declared = targets.stream().map(WarmUpTarget::clientClass).collect(Collectors.toSet());
+            new WarmUpScanner(getClass().getClassLoader()).scan(basePackages).stream()
+                    .filter(target -> !declared.contains(target.clientClass()))
+                    .forEach(targets::add);
         }
-        return new SessionBaseMsClientFactory(client, baseMsClientConfigurer, authorizationHeaderUtil);
+        return new ArrayList<>(targets);
     }
 }
@@ -0,0 +1,722 @@
+package org.khasanof.factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.khasanof.factory.enumeration.AsyncExecutorType;
+import org.khasanof.factory.enumeration.CodecType;
+import org.khasanof.factory.enumeration.CompressionType;
+import org.khasanof.factory.enumeration.LimitAlgorithmType;
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+import org.khasanof.factory.enumeration.TransportType;
+import org.khasanof.modules.client.core.config.ModulesClientCoreProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties of the modules client factory.
+ *
+ * <p>All properties are bound under the {@code modules.client.factory} prefix.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.config
+ * @since 10/17/2026 9:12 AM
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = ModulesClientFactoryProperties.PREFIX)
+public class ModulesClientFactoryProperties {
+
+    public static final String PREFIX = "modules.client.factory";
+
+    /**
+     * Settings of the built client proxy cache.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Settings of the shared contract metadata registry.
+     */
+    private Contract contract = new Contract();
+
+    /**
+     * Settings of the access token cache used by the {@code PER_REQUEST} token strategy.
+     */
+    private Token token = new Token();
+
+    /**
+     * Settings of the executor running asynchronous clients.
+     */
+    private Async async = new Async();
+
+    /**
+     * Settings of the HTTP transport used by the built clients.
+     */
+    private Transport transport = new Transport();
+
+    /**
+     * Settings of the Micrometer instrumentation of the built clients.
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * Settings of the latency-aware client-side load balancer.
+     */
+    private LoadBalancer loadBalancer = new LoadBalancer();
+
+    /**
+     * Settings of the HTTP response cache of the built clients.
+     */
+    private ResponseCache responseCache = new ResponseCache();
+
+    /**
+     * Settings of the multipart request encoding of the built clients.
+     */
+    private Multipart multipart = new Multipart();
+
+    /**
+     * Settings of the adaptive concurrency limit of the calls per target service.
+     */
+    private Limit limit = new Limit();
+
+    /**
+     * Settings of the retries, deadlines and hedged requests of the built clients.
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * Settings of the startup warm-up of the declared clients.
+     */
+    private Warmup warmup = new Warmup();
+
+    /**
+     * Settings of the codec negotiated by the built clients.
+     */
+    private Codec codec = new Codec();
+
+    /**
+     * Settings of the request and response body compression of the built clients.
+     */
+    private Compression compression = new Compression();
+
+    /**
+     * Settings of the tenant-aware routing of the built clients.
+     */
+    private Tenancy tenancy = new Tenancy();
+
+    /**
+     * Settings of the sampled request and response logging of the built clients.
+     */
+    private Logging logging = new Logging();
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Whether built client proxies are cached and reused by {@code create} calls.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached client proxies.
+         */
+        private long maximumSize = 512;
+
+        /**
+         * How long a cached client proxy may stay unused before it is evicted.
+         */
+        private Duration expireAfterAccess = Duration.ofMinutes(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Contract {
+
+        /**
+         * Client interfaces whose contract metadata is parsed when the application context is refreshed.
+         */
+        private List<Class<?>> prewarm = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Token {
+
+        /**
+         * Fraction of the token lifetime after which the token is refreshed in the background.
+         */
+        private double refreshRatio = 0.8;
+
+        /**
+         * How long an expired token may still be served while its refresh is in flight.
+         */
+        private Duration gracePeriod = Duration.ofSeconds(30);
+
+        /**
+         * Lifetime assumed for tokens that do not carry an {@code exp} claim.
+         */
+        private Duration defaultLifetime = Duration.ofMinutes(5);
+
+        /**
+         * Maximum time a request waits for a token when no usable token is cached.
+         */
+        private Duration fetchTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Number of threads fetching and refreshing tokens.
+         */
+        private int refreshThreads = 2;
+
+        /**
+         * Maximum number of client credentials whose tokens are cached, e.g. one per tenant.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * How long the token of client credentials may stay unused before it is evicted.
+         */
+        private Duration expireAfterAccess = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Async {
+
+        /**
+         * Executor running the calls of asynchronous clients. {@code AUTO} uses virtual threads
+         * on JDK 21 and later, and a bounded pool otherwise.
+         */
+        private AsyncExecutorType executor = AsyncExecutorType.AUTO;
+
+        /**
+         * Number of threads of the bounded pool.
+         */
+        private int maxThreads = 64;
+
+        /**
+         * Capacity of the task queue of the bounded pool.
+         */
+        private int queueCapacity = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Transport {
+
+        /**
+         * HTTP transport of the built clients. {@code DEFAULT} uses the {@code feign.Client} bean of the context.
+         * {@code JDK} and {@code APACHE_HC5} resolve service names through the Spring Cloud LoadBalancer of the
+         * context, unless the factory load balancer is enabled.
+         */
+        private TransportType type = TransportType.DEFAULT;
+
+        /**
+         * Whether HTTP/2 is negotiated. Only supported by the {@code JDK} transport.
+         */
+        private boolean http2 = false;
+
+        /**
+         * Connection establishment timeout.
+         */
+        private Duration connectTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Response read timeout.
+         */
+        private Duration readTimeout = Duration.ofSeconds(60);
+
+        /**
+         * Whether redirects are followed.
+         */
+        private boolean followRedirects = true;
+
+        /**
+         * Maximum number of pooled connections over all services.
+         */
+        private int maxConnections = 200;
+
+        /**
+         * Maximum number of pooled connections per service.
+         */
+        private int maxConnectionsPerService = 20;
+
+        /**
+         * How long a pooled connection may stay idle before it is closed.
+         */
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Maximum lifetime of a pooled connection.
+         */
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        /**
+         * Per-service overrides, keyed by service name or base URL.
+         */
+        private Map<String, Service> services = new HashMap<>();
+
+        @Getter
+        @Setter
+        public static class Service {
+
+            /**
+             * Maximum number of pooled connections to this service.
+             */
+            private Integer maxConnections;
+
+            /**
+             * Connection establishment timeout of this service.
+             */
+            private Duration connectTimeout;
+
+            /**
+             * Response read timeout of this service.
+             */
+            private Duration readTimeout;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * Whether the built clients are instrumented when a {@code MeterRegistry} is available.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Percentiles published by the latency timers.
+         */
+        private List<Double> percentiles = new ArrayList<>(List.of(0.5, 0.99));
+    }
+
+    @Getter
+    @Setter
+    public static class LoadBalancer {
+
+        /**
+         * Whether requests to known service names are balanced over their instances.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Static instances per service name, e.g. for local testing.
+         */
+        private Map<String, List<URI>> instances = new HashMap<>();
+
+        /**
+         * Time the instances of a service are reused before discovery is asked for them again.
+         */
+        private Duration instanceRefreshInterval = Duration.ofSeconds(1);
+
+        /**
+         * Time after which the weight of a latency sample has decayed to about a third.
+         */
+        private Duration decayTime = Duration.ofSeconds(10);
+
+        /**
+         * Consecutive failed calls after which an instance is ejected.
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * Latency, relative to the average of the other instances, above which an instance is ejected as slow.
+         */
+        private double slowCallMultiplier = 3.0;
+
+        /**
+         * Samples an instance needs before it can be judged slow.
+         */
+        private int minimumSamples = 20;
+
+        /**
+         * Ejection time of the first ejection; repeated ejections last longer.
+         */
+        private Duration baseEjectionTime = Duration.ofSeconds(30);
+
+        /**
+         * Maximum percentage of the instances of a service ejected at once.
+         */
+        private int maxEjectionPercent = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class ResponseCache {
+
+        /**
+         * Whether {@code GET} responses are cached according to their {@code Cache-Control} and validators.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum total size of the cached response bodies.
+         */
+        private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Maximum size of a single cached response body; larger responses are never cached.
+         */
+        private DataSize maximumEntrySize = DataSize.ofMegabytes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Multipart {
+
+        /**
+         * Whether multipart bodies with file, stream or resource parts are streamed to the connection
+         * instead of being encoded into memory first. Requires a transport able to stream request bodies.
+         */
+        private boolean streaming = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * Whether the calls to each service are limited by an adaptive concurrency limit.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Algorithm adapting the limit to the observed latency.
+         */
+        private LimitAlgorithmType algorithm = LimitAlgorithmType.VEGAS;
+
+        /**
+         * Concurrency limit of a service before any latency is observed.
+         */
+        private int initialLimit = 20;
+
+        /**
+         * Lowest concurrency limit of a service.
+         */
+        private int minLimit = 1;
+
+        /**
+         * Highest concurrency limit of a service.
+         */
+        private int maxLimit = 200;
+
+        /**
+         * Weight of a single update of the limit, between {@code 0} and {@code 1}.
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * Maximum number of calls waiting for a free slot; {@code 0} rejects calls over the limit right away.
+         */
+        private int maxQueueSize = 0;
+
+        /**
+         * Maximum time a call waits in the queue before it is rejected.
+         */
+        private Duration queueTimeout = Duration.ofMillis(100);
+
+        /**
+         * Share of the service limit each client class may use, by fully qualified or simple class name.
+         */
+        private Map<String, Double> partitions = new HashMap<>();
+
+        /**
+         * Share of the service limit of client classes without a configured partition.
+         */
+        private double defaultPartition = 1.0;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        /**
+         * Whether retries are bounded by a budget and the call deadline, and {@code @Hedged} methods are hedged.
+         * When disabled, Feign's default retryer is used.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of attempts of a call, including the first one.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * Backoff before the first retry; later retries back off exponentially, with jitter.
+         */
+        private Duration backoff = Duration.ofMillis(50);
+
+        /**
+         * Maximum backoff before a retry.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(1);
+
+        /**
+         * Maximum ratio of retries and hedges to calls of a service over the last ten seconds.
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * Retries per second allowed regardless of the ratio, for services with little traffic.
+         */
+        private int minRetriesPerSecond = 10;
+
+        /**
+         * Default deadline of a call, propagated in the {@code X-Request-Deadline} header; unset leaves calls
+         * without a deadline unless one is set with {@code RequestDeadline}.
+         */
+        private Duration deadline;
+
+        /**
+         * Settings of the hedged requests of {@code @Hedged} methods.
+         */
+        private Hedge hedge = new Hedge();
+
+        @Getter
+        @Setter
+        public static class Hedge {
+
+            /**
+             * Minimum delay before a hedge is sent, whatever the observed latency.
+             */
+            private Duration minDelay = Duration.ofMillis(5);
+
+            /**
+             * Number of recent calls per method the hedge delay percentile is computed over.
+             */
+            private int windowSize = 1000;
+
+            /**
+             * Number of calls of a method observed before its calls are hedged.
+             */
+            private int minimumSamples = 100;
+
+            /**
+             * Number of threads running hedged attempts on JDK 17; attempts beyond it are not hedged. Virtual
+             * threads are used on JDK 21 and later.
+             */
+            private int maxThreads = 64;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+
+        /**
+         * Whether the declared clients are built, connected and authorized while the application starts.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Clients to build, in addition to the interfaces annotated with {@code @WarmUp}.
+         */
+        private List<Client> clients = new ArrayList<>();
+
+        /**
+         * Whether the application packages are scanned for interfaces annotated with {@code @WarmUp}.
+         */
+        private boolean scan = true;
+
+        /**
+         * Packages scanned for {@code @WarmUp} interfaces in addition to the application packages.
+         */
+        private List<String> basePackages = new ArrayList<>();
+
+        /**
+         * Number of connections opened to each target URL; {@code 0} opens none.
+         */
+        private int connections = 1;
+
+        /**
+         * Path requested with {@code HEAD} to open a connection; any response status is accepted.
+         */
+        private String connectionPath = "/";
+
+        /**
+         * Whether the client-credentials token of the {@code PER_REQUEST} strategy is fetched.
+         */
+        private boolean fetchToken = true;
+
+        /**
+         * Number of warm-up tasks run in parallel.
+         */
+        private int parallelism = 4;
+
+        /**
+         * Maximum time the startup waits for the warm-up; a longer warm-up goes on in the background.
+         */
+        private Duration timeout = Duration.ofSeconds(30);
+
+        @Getter
+        @Setter
+        public static class Client {
+
+            /**
+             * Feign client interface to build.
+             */
+            private Class<?> type;
+
+            /**
+             * Base URL the client is built for; unset uses the configured service name.
+             */
+            private String url;
+
+            /**
+             * Whether the asynchronous client is built instead of the blocking one.
+             */
+            private boolean async = false;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Codec {
+
+        /**
+         * Codec negotiated by the clients; binary codecs fall back to JSON for services without support.
+         */
+        private CodecType type = CodecType.JSON;
+
+        /**
+         * Codec negotiated by the clients of a service, by service name.
+         */
+        private Map<String, CodecType> services = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Compression {
+
+        /**
+         * Whether request bodies are compressed and compressed response bodies are accepted and decompressed.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Coding of compressed request bodies; {@code ZSTD} falls back to {@code GZIP} without zstd-jni.
+         */
+        private CompressionType algorithm = CompressionType.GZIP;
+
+        /**
+         * Smallest request body that is compressed.
+         */
+        private DataSize minRequestSize = DataSize.ofKilobytes(1);
+
+        /**
+         * Compression level of request bodies; unset uses the default level of the coding.
+         */
+        private Integer level;
+
+        /**
+         * Maximum number of idle pooled compressors and decompressors kept per coding.
+         */
+        private int poolSize = 32;
+    }
+
+    @Getter
+    @Setter
+    public static class Tenancy {
+
+        /**
+         * Whether the client factory routes calls to the clients of the tenant of the caller.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Whether the tenant is resolved from the Keycloak realm of the relayed access token when none is set
+         * on the calling thread.
+         */
+        private boolean resolveFromIssuer = true;
+
+        /**
+         * Maximum number of tenants whose clients are kept built.
+         */
+        private long maximumSize = 1_000;
+
+        /**
+         * How long the clients of a tenant may stay unused before they are evicted.
+         */
+        private Duration expireAfterAccess = Duration.ofHours(1);
+
+        /**
+         * Configured tenants, by tenant id; ignored when an {@code MsClientTenantProvider} bean is defined.
+         */
+        private Map<String, Tenant> tenants = new HashMap<>();
+
+        @Getter
+        @Setter
+        public static class Tenant {
+
+            /**
+             * Service name or base URL of the modules of the tenant.
+             */
+            private String serviceName;
+
+            /**
+             * Token strategy of the tenant; unset uses the strategy of the configurer.
+             */
+            private ReceiveTokenStrategy strategy;
+
+            /**
+             * Client credentials of the tenant realm, used by the {@code PER_REQUEST} strategy.
+             */
+            private ModulesClientCoreProperties client;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Logging {
+
+        /**
+         * Whether calls are logged by the sampled logger; otherwise Feign's {@code Slf4jLogger} is used.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fraction of the calls that is logged regardless of their outcome.
+         */
+        private double sampleRate = 0.01;
+
+        /**
+         * Calls taking at least this long are always logged.
+         */
+        private Duration slowThreshold = Duration.ofSeconds(1);
+
+        /**
+         * Whether failed calls, i.e. I/O errors and responses with status {@code 400} or above, are always logged.
+         */
+        private boolean logFailures = true;
+
+        /**
+         * Longest request or response body prefix that is logged.
+         */
+        private DataSize maxBodySize = DataSize.ofKilobytes(4);
+
+        /**
+         * Headers whose values are replaced in the log.
+         */
+        private List<String> redactedHeaders = new ArrayList<>(List.of("Authorization", "Proxy-Authorization", "Cookie", "Set-Cookie"));
+
+        /**
+         * JSON fields and form parameters whose values are replaced in logged bodies.
+         */
+        private List<String> redactedFields = new ArrayList<>(List.of("password", "secret", "client_secret", "token",
+                "access_token", "refresh_token"));
+
+        /**
+         * Capacity of the buffer of records waiting to be written, rounded up to a power of two; records
+         * are dropped while it is full.
+         */
+        private int bufferSize = 8192;
+    }
+}
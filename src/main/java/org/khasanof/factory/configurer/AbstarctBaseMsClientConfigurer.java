@@ -1,5 +1,6 @@
 package org.khasanof.factory.configurer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.codec.Decoder;
 import feign.codec.Encoder;
 import feign.form.ContentType;
@@ -9,7 +10,21 @@ import feign.optionals.OptionalDecoder;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.khasanof.factory.codec.BinaryDecoder;
+import org.khasanof.factory.codec.BinaryFormat;
+import org.khasanof.factory.codec.JacksonBinaryFormat;
+import org.khasanof.factory.codec.ProtobufFormat;
+import org.khasanof.factory.codec.StreamingDecoder;
 import org.springframework.cloud.openfeign.support.*;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract base class for configuring Feign clients with Spring's encoding and decoding capabilities.
@@ -17,6 +32,10 @@ import org.springframework.cloud.openfeign.support.*;
  * <p>Classes extending this abstract base class need to implement the {@link BaseMsClientConfigurer}
  * interface and can customize or override the encoder and decoder behavior as needed.</p>
  *
+ * <p>The default encoder and decoder chains are built once, on first use, and the same instances
+ * are handed to every client. Per-client chains returned by {@link #createEncoder(Class)} and
+ * {@link #createDecoder(Class)} are cached per client class.</p>
+ *
  * @author Nurislom
  * @see org.khasanof.factory.configurer
  * @since 8/24/2024 8:14 PM
@@ -28,6 +47,12 @@ public abstract class AbstarctBaseMsClientConfigurer implements BaseMsClientConf
     private final ObjectFactory<HttpMessageConverters> messageConverters;
     private final ObjectProvider<HttpMessageConverterCustomizer> customizers;
 
+    private final SingletonSupplier<Encoder> encoder = SingletonSupplier.of(this::createEncoder);
+    private final SingletonSupplier<Decoder> decoder = SingletonSupplier.of(this::createDecoder);
+    private final SingletonSupplier<List<BinaryFormat>> binaryFormats = SingletonSupplier.of(this::createBinaryFormats);
+    private final Map<Class<?>, Encoder> clientEncoders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Decoder> clientDecoders = new ConcurrentHashMap<>();
+
     public AbstarctBaseMsClientConfigurer(FeignEncoderProperties encoderProperties,
                                           ObjectProvider<AbstractFormWriter> formWriterProvider,
                                           ObjectFactory<HttpMessageConverters> messageConverters,
@@ -46,25 +71,148 @@ public abstract class AbstarctBaseMsClientConfigurer implements BaseMsClientConf
      * the provided {@link AbstractFormWriter}, {@link HttpMessageConverters}, and {@link FeignEncoderProperties}.
      * If no custom form writer is available, a default {@link SpringFormEncoder} is used.</p>
      *
+     * <p>The encoder is created on the first call and the same instance is returned afterwards.</p>
+     *
      * @return a configured Feign {@link Encoder}.
      */
     @Override
     public Encoder getEncoder() {
-        return this.springEncoder(formWriterProvider, this.encoderProperties, customizers);
+        return encoder.obtain();
     }
 
     /**
      * Returns a Feign {@link Decoder} configured with Spring's message converters.
      *
      * <p>This method creates a decoder using Spring's {@link SpringDecoder} wrapped with
-     * an {@link OptionalDecoder} and a {@link ResponseEntityDecoder}, enabling support
-     * for optional response entities.</p>
+     * a {@link StreamingDecoder}, an {@link OptionalDecoder} and a {@link ResponseEntityDecoder}, enabling
+     * support for optional response entities and streaming return types.</p>
+     *
+     * <p>The decoder is created on the first call and the same instance is returned afterwards.</p>
      *
      * @return a configured Feign {@link Decoder}.
      */
     @Override
     public Decoder getDecoder() {
-        return new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(this.messageConverters, customizers)));
+        return decoder.obtain();
+    }
+
+    /**
+     * Returns the Feign {@link Encoder} for the specified client class.
+     *
+     * <p>The encoder returned by {@link #createEncoder(Class)} is cached per client class. If that
+     * hook returns {@code null}, the shared encoder of {@link #getEncoder()} is used.</p>
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the Feign {@link Encoder} for the client class.
+     */
+    @Override
+    public Encoder getEncoder(Class<?> clientClass) {
+        return clientEncoders.computeIfAbsent(clientClass, type -> {
+            Encoder clientEncoder = createEncoder(type);
+            return clientEncoder != null ? clientEncoder : getEncoder();
+        });
+    }
+
+    /**
+     * Returns the Feign {@link Decoder} for the specified client class.
+     *
+     * <p>The decoder returned by {@link #createDecoder(Class)} is cached per client class. If that
+     * hook returns {@code null}, the shared decoder of {@link #getDecoder()} is used.</p>
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the Feign {@link Decoder} for the client class.
+     */
+    @Override
+    public Decoder getDecoder(Class<?> clientClass) {
+        return clientDecoders.computeIfAbsent(clientClass, type -> {
+            Decoder clientDecoder = createDecoder(type);
+            return clientDecoder != null ? clientDecoder : getDecoder();
+        });
+    }
+
+    /**
+     * Hook for a client specific {@link Encoder}, called at most once per client class.
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the encoder of the client class, or {@code null} to use the shared encoder.
+     */
+    protected Encoder createEncoder(Class<?> clientClass) {
+        return null;
+    }
+
+    /**
+     * Hook for a client specific {@link Decoder}, called at most once per client class.
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the decoder of the client class, or {@code null} to use the shared decoder.
+     */
+    protected Decoder createDecoder(Class<?> clientClass) {
+        return null;
+    }
+
+    /**
+     * Creates the shared Feign {@link Encoder}.
+     *
+     * @return a configured Feign {@link Encoder}.
+     */
+    protected Encoder createEncoder() {
+        return this.springEncoder(formWriterProvider, this.encoderProperties, customizers);
+    }
+
+    /**
+     * Creates the shared Feign {@link Decoder}.
+     *
+     * @return a configured Feign {@link Decoder}.
+     */
+    protected Decoder createDecoder() {
+        Decoder springDecoder = new SpringDecoder(this.messageConverters, customizers);
+        Decoder binaryDecoder = new BinaryDecoder(springDecoder, getBinaryFormats());
+        return new OptionalDecoder(new ResponseEntityDecoder(new StreamingDecoder(binaryDecoder, objectMapper())));
+    }
+
+    /**
+     * Returns the binary formats available on the classpath, created once on first use.
+     *
+     * @return the available {@link BinaryFormat}s.
+     */
+    @Override
+    public List<BinaryFormat> getBinaryFormats() {
+        return binaryFormats.obtain();
+    }
+
+    /**
+     * Creates the binary formats whose libraries are on the classpath: Jackson Smile and CBOR, sharing the
+     * settings of {@link #objectMapper()}, and Protobuf.
+     *
+     * @return the available {@link BinaryFormat}s.
+     */
+    protected List<BinaryFormat> createBinaryFormats() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        List<BinaryFormat> formats = new ArrayList<>();
+        if (ClassUtils.isPresent("com.google.protobuf.Message", classLoader)) {
+            formats.add(new ProtobufFormat());
+        }
+        if (ClassUtils.isPresent("com.fasterxml.jackson.dataformat.smile.SmileFactory", classLoader)) {
+            formats.add(JacksonBinaryFormat.smile(objectMapper()));
+        }
+        if (ClassUtils.isPresent("com.fasterxml.jackson.dataformat.cbor.CBORFactory", classLoader)) {
+            formats.add(JacksonBinaryFormat.cbor(objectMapper()));
+        }
+        return List.copyOf(formats);
+    }
+
+    /**
+     * Returns the {@link ObjectMapper} of the Jackson message converter, which streamed JSON is parsed with.
+     *
+     * @return the configured {@link ObjectMapper}, or a default one if no Jackson converter is registered.
+     */
+    protected ObjectMapper objectMapper() {
+        for (HttpMessageConverter<?> converter : this.messageConverters.getObject().getConverters()) {
+            if (converter instanceof MappingJackson2HttpMessageConverter jacksonConverter) {
+                return jacksonConverter.getObjectMapper();
+            }
+        }
+        return new ObjectMapper();
     }
 
     /**
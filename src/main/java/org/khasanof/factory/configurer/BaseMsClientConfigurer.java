@@ -2,8 +2,11 @@ package org.khasanof.factory.configurer;
 
 import feign.codec.Decoder;
 import feign.codec.Encoder;
+import org.khasanof.factory.codec.BinaryFormat;
 import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
 
+import java.util.List;
+
 /**
  * Interface for configuring microservice clients in a Feign-based environment.
  *
@@ -58,4 +61,39 @@ public interface BaseMsClientConfigurer {
      * @return the Feign {@link Decoder} configured for this client.
      */
     Decoder getDecoder();
+
+    /**
+     * Returns the Feign {@link Encoder} used for encoding requests of the specified client class.
+     *
+     * <p>By default every client shares the encoder returned by {@link #getEncoder()}.</p>
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the Feign {@link Encoder} configured for the client class.
+     */
+    default Encoder getEncoder(Class<?> clientClass) {
+        return getEncoder();
+    }
+
+    /**
+     * Returns the Feign {@link Decoder} used for decoding responses of the specified client class.
+     *
+     * <p>By default every client shares the decoder returned by {@link #getDecoder()}.</p>
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the Feign {@link Decoder} configured for the client class.
+     */
+    default Decoder getDecoder(Class<?> clientClass) {
+        return getDecoder();
+    }
+
+    /**
+     * Returns the binary formats clients may negotiate with their services instead of JSON.
+     *
+     * <p>By default no binary format is available and every client uses JSON.</p>
+     *
+     * @return the available {@link BinaryFormat}s.
+     */
+    default List<BinaryFormat> getBinaryFormats() {
+        return List.of();
+    }
 }
@@ -0,0 +1,75 @@
+package org.khasanof.factory.contract;
+
+import feign.Contract;
+import feign.MethodMetadata;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link Contract} that parses the {@link MethodMetadata} of every client interface only once.
+ *
+ * <p>The parsed metadata depends only on the client interface, so it is shared by every client
+ * built for that interface, whatever its URL or token strategy. Feign only reads the metadata
+ * while creating method handlers, which makes sharing the parsed list safe.</p>
+ *
+ * <p>Contracts such as {@code SpringMvcContract} keep unsynchronized state while parsing, and different
+ * interfaces are parsed concurrently, so every interface is parsed by a new delegate contract.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.contract
+ * @since 10/17/2026 10:05 AM
+ */
+public class ContractMetadataRegistry implements Contract {
+
+    private final Supplier<? extends Contract> delegateFactory;
+    private final Map<Class<?>, List<MethodMetadata>> metadata = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegateFactory creates the contract parsing a single client interface.
+     */
+    public ContractMetadataRegistry(Supplier<? extends Contract> delegateFactory) {
+        this.delegateFactory = delegateFactory;
+    }
+
+    /**
+     * Returns the parsed metadata of the given client interface, parsing it with a new delegate
+     * contract on the first call.
+     *
+     * @param targetType the Feign client interface.
+     * @return the immutable list of {@link MethodMetadata} of the interface.
+     */
+    @Override
+    public List<MethodMetadata> parseAndValidateMetadata(Class<?> targetType) {
+        return metadata.computeIfAbsent(targetType, type -> List.copyOf(delegateFactory.get().parseAndValidateMetadata(type)));
+    }
+
+    /**
+     * Parses the metadata of the given client interfaces ahead of their first use.
+     *
+     * @param clientClasses the Feign client interfaces to parse.
+     */
+    public void prewarm(Collection<Class<?>> clientClasses) {
+        clientClasses.forEach(this::parseAndValidateMetadata);
+    }
+
+    /**
+     * Returns whether the metadata of the given client interface has already been parsed.
+     *
+     * @param clientClass the Feign client interface.
+     * @return {@code true} if the metadata is registered.
+     */
+    public boolean contains(Class<?> clientClass) {
+        return metadata.containsKey(clientClass);
+    }
+
+    /**
+     * Removes the parsed metadata of every client interface.
+     */
+    public void clear() {
+        metadata.clear();
+    }
+}
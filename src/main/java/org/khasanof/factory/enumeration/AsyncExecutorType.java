@@ -0,0 +1,10 @@
+package org.khasanof.factory.enumeration;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.enumeration
+ * @since 10/17/2026 12:14 PM
+ */
+public enum AsyncExecutorType {
+    AUTO, VIRTUAL, BOUNDED
+}
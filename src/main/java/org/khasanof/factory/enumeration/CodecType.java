@@ -0,0 +1,10 @@
+package org.khasanof.factory.enumeration;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.enumeration
+ * @since 10/17/2026 11:30 PM
+ */
+public enum CodecType {
+    JSON, SMILE, CBOR, PROTOBUF
+}
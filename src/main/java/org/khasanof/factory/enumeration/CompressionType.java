@@ -0,0 +1,10 @@
+package org.khasanof.factory.enumeration;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.enumeration
+ * @since 10/18/2026 12:20 AM
+ */
+public enum CompressionType {
+    GZIP, ZSTD
+}
@@ -0,0 +1,10 @@
+package org.khasanof.factory.enumeration;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.enumeration
+ * @since 10/17/2026 1:05 PM
+ */
+public enum TransportType {
+    DEFAULT, JDK, APACHE_HC5
+}
@@ -0,0 +1,21 @@
+package org.khasanof.factory.limit;
+
+import feign.FeignException;
+
+/**
+ * Thrown when a call is rejected because its service or client partition is at its concurrency limit.
+ *
+ * <p>The exception is not an {@link java.io.IOException}, so Feign does not retry the rejected call.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/17/2026 9:36 PM
+ */
+public class ConcurrencyLimitExceededException extends FeignException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(-1, message);
+    }
+}
@@ -0,0 +1,48 @@
+package org.khasanof.factory.limit;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+/**
+ * {@link Client} decorator admitting calls through the {@link ServiceConcurrencyLimiter} of the target service.
+ *
+ * <p>The latency fed to the limit algorithm is measured until the response headers are received. Responses
+ * with status {@code 429} or {@code 503} and read timeouts count as dropped calls and shrink the limit;
+ * other failures release the slot without updating it.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/17/2026 9:52 PM
+ */
+public class ConcurrencyLimitedClient implements Client {
+
+    private final Client delegate;
+    private final ServiceConcurrencyLimiter limiter;
+    private final Class<?> clientClass;
+
+    public ConcurrencyLimitedClient(Client delegate, ServiceConcurrencyLimiter limiter, Class<?> clientClass) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+        this.clientClass = clientClass;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        ServiceConcurrencyLimiter.Permit permit = limiter.acquire(clientClass);
+        try {
+            Response response = delegate.execute(request, options);
+            permit.release(response.status() == 429 || response.status() == 503);
+            return response;
+        } catch (SocketTimeoutException e) {
+            permit.release(true);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            permit.ignore();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.khasanof.factory.limit;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.metrics.ClientMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link ServiceConcurrencyLimiter} of each target service.
+ *
+ * <p>A limiter is created on the first call to a service and shared by all clients of the service, so
+ * that the limit reflects the whole load the application puts on it.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/17/2026 9:48 PM
+ */
+public class ConcurrencyLimiterRegistry {
+
+    private final ModulesClientFactoryProperties.Limit properties;
+    private final ClientMetrics clientMetrics;
+    private final Map<String, ServiceConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiterRegistry(ModulesClientFactoryProperties.Limit properties, ClientMetrics clientMetrics) {
+        this.properties = properties;
+        this.clientMetrics = clientMetrics;
+    }
+
+    /**
+     * Returns the limiter of a service, creating it on first use.
+     *
+     * @param serviceName the target service name.
+     * @return the {@link ServiceConcurrencyLimiter} of the service.
+     */
+    public ServiceConcurrencyLimiter get(String serviceName) {
+        return limiters.computeIfAbsent(serviceName, this::create);
+    }
+
+    /**
+     * Drops the limiter of a service, e.g. once the tenant calling it is evicted.
+     *
+     * <p>Calls in flight release their permits to the dropped limiter; the next call starts a new one.</p>
+     *
+     * @param serviceName the target service name.
+     */
+    public void evict(String serviceName) {
+        limiters.remove(serviceName);
+    }
+
+    private ServiceConcurrencyLimiter create(String serviceName) {
+        ServiceConcurrencyLimiter limiter = new ServiceConcurrencyLimiter(serviceName, properties, algorithm(), clientMetrics);
+        clientMetrics.bind(limiter);
+        return limiter;
+    }
+
+    private LimitAlgorithm algorithm() {
+        return switch (properties.getAlgorithm()) {
+            case VEGAS -> new VegasLimitAlgorithm(properties.getInitialLimit(), properties.getMinLimit(),
+                    properties.getMaxLimit(), properties.getSmoothing());
+            case GRADIENT -> new GradientLimitAlgorithm(properties.getInitialLimit(), properties.getMinLimit(),
+                    properties.getMaxLimit(), properties.getSmoothing());
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package org.khasanof.factory.limit;
+
+/**
+ * Gradient based {@link LimitAlgorithm}.
+ *
+ * <p>The limit is scaled by the ratio of the long-term average latency to the latency of the current call,
+ * so it shrinks as soon as calls get slower than usual and recovers as they speed up again. A queue of
+ * {@code sqrt(limit)} calls is allowed on top, which lets the limit grow while the latency is stable.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/17/2026 9:32 PM
+ */
+public class GradientLimitAlgorithm implements LimitAlgorithm {
+
+    private static final double TOLERANCE = 1.5;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private double limit;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientLimitAlgorithm(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int update(long rttNanos, int inflight, boolean dropped) {
+        samples++;
+        double factor = samples < LONG_WINDOW ? 1.0 / samples : 2.0 / (LONG_WINDOW + 1);
+        longRttNanos = longRttNanos + factor * (rttNanos - longRttNanos);
+        if (longRttNanos / rttNanos > 2) {
+            // a long outage inflated the average, let it drift back towards the current latency
+            longRttNanos *= 0.95;
+        }
+        if (!dropped && inflight * 2 < limit) {
+            return getLimit();
+        }
+        double gradient = dropped ? 0.5 : Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        target = Math.max(minLimit, Math.min(maxLimit, target));
+        limit = (1 - smoothing) * limit + smoothing * target;
+        return getLimit();
+    }
+}
@@ -0,0 +1,30 @@
+package org.khasanof.factory.limit;
+
+/**
+ * Algorithm adapting the concurrency limit of a service to its observed latency.
+ *
+ * <p>Implementations are not thread safe; the {@link ServiceConcurrencyLimiter} serializes the updates.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/17/2026 9:22 PM
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the limit.
+     */
+    int getLimit();
+
+    /**
+     * Updates the limit with the outcome of a call.
+     *
+     * @param rttNanos the latency of the call.
+     * @param inflight the number of calls in flight when the call started.
+     * @param dropped whether the call was shed or timed out, signalling overload.
+     * @return the new limit.
+     */
+    int update(long rttNanos, int inflight, boolean dropped);
+}
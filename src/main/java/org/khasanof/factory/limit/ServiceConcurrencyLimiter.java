@@ -0,0 +1,221 @@
+package org.khasanof.factory.limit;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.metrics.ClientMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limit of the calls to one service, partitioned per client class.
+ *
+ * <p>A call is admitted while fewer calls than the current limit are in flight to the service and its
+ * client class stays within its partition, the configured share of the limit. Calls over the limit wait in
+ * a bounded queue for up to the queue timeout, or are rejected right away when the queue is disabled or
+ * full. The limit itself is adapted by the {@link LimitAlgorithm} to the latency of the admitted calls.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/17/2026 9:40 PM
+ */
+public class ServiceConcurrencyLimiter {
+
+    private final String serviceName;
+    private final ModulesClientFactoryProperties.Limit properties;
+    private final LimitAlgorithm algorithm;
+    private final ClientMetrics clientMetrics;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Map<Class<?>, Partition> partitions = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private volatile int limit;
+
+    public ServiceConcurrencyLimiter(String serviceName, ModulesClientFactoryProperties.Limit properties, LimitAlgorithm algorithm,
+                                     ClientMetrics clientMetrics) {
+        this.serviceName = serviceName;
+        this.properties = properties;
+        this.algorithm = algorithm;
+        this.clientMetrics = clientMetrics;
+        this.limit = algorithm.getLimit();
+    }
+
+    /**
+     * Admits a call of the given client class, waiting in the queue if the limit is reached.
+     *
+     * @param clientClass the class of the calling Feign client.
+     * @return the permit to release once the call completes.
+     * @throws ConcurrencyLimitExceededException if the call is rejected.
+     */
+    public Permit acquire(Class<?> clientClass) {
+        Partition partition = partitions.computeIfAbsent(clientClass, this::partition);
+        Permit permit = tryAcquire(partition);
+        if (permit != null) {
+            return permit;
+        }
+        if (waiting.incrementAndGet() > properties.getMaxQueueSize()) {
+            waiting.decrementAndGet();
+            throw rejected(clientClass, partition.isFull(limit) ? "bulkhead" : "limit");
+        }
+        try {
+            return await(partition, clientClass);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Returns the number of calls in flight for a client class.
+     *
+     * @param clientClass the class of the Feign client.
+     * @return the calls in flight, or {@code 0} for a client class that made no call yet.
+     */
+    public int getInflight(Class<?> clientClass) {
+        Partition partition = partitions.get(clientClass);
+        return partition != null ? partition.inflight.get() : 0;
+    }
+
+    private Permit tryAcquire(Partition partition) {
+        int currentLimit = limit;
+        if (partition.isFull(currentLimit)) {
+            return null;
+        }
+        while (true) {
+            int current = inflight.get();
+            if (current >= currentLimit) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                partition.inflight.incrementAndGet();
+                return new Permit(partition, current + 1);
+            }
+        }
+    }
+
+    private Permit await(Partition partition, Class<?> clientClass) {
+        long remaining = properties.getQueueTimeout().toNanos();
+        lock.lock();
+        try {
+            Permit permit;
+            while ((permit = tryAcquire(partition)) == null) {
+                if (remaining <= 0) {
+                    throw rejected(clientClass, "queue-timeout");
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return permit;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rejected(clientClass, "interrupted");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Permit permit, long rttNanos, boolean dropped) {
+        permit.partition.inflight.decrementAndGet();
+        inflight.decrementAndGet();
+        synchronized (algorithm) {
+            limit = algorithm.update(rttNanos, permit.inflight, dropped);
+        }
+        signalWaiting();
+    }
+
+    private void signalWaiting() {
+        if (waiting.get() > 0) {
+            // waiters of other partitions may not fit the freed slot, and a raised limit may admit several
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Partition partition(Class<?> clientClass) {
+        Map<String, Double> shares = properties.getPartitions();
+        Double share = shares.get(clientClass.getName());
+        if (share == null) {
+            share = shares.getOrDefault(clientClass.getSimpleName(), properties.getDefaultPartition());
+        }
+        return new Partition(share);
+    }
+
+    private ConcurrencyLimitExceededException rejected(Class<?> clientClass, String reason) {
+        if (clientMetrics.isEnabled()) {
+            clientMetrics.recordLimitRejection(serviceName, clientClass.getSimpleName(), reason);
+        }
+        return new ConcurrencyLimitExceededException("Call of " + clientClass.getSimpleName() + " to " + serviceName
+                + " rejected (" + reason + "), limit " + limit + ", in flight " + inflight.get());
+    }
+
+    /**
+     * Admission of a single call, released once with the outcome of the call.
+     */
+    public final class Permit {
+
+        private final Partition partition;
+        private final int inflight;
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        private Permit(Partition partition, int inflight) {
+            this.partition = partition;
+            this.inflight = inflight;
+        }
+
+        /**
+         * Releases the permit of a completed call.
+         *
+         * @param dropped whether the call was shed by the service or timed out.
+         */
+        public void release(boolean dropped) {
+            if (!released) {
+                released = true;
+                ServiceConcurrencyLimiter.this.release(this, System.nanoTime() - startNanos, dropped);
+            }
+        }
+
+        /**
+         * Releases the permit of a call whose outcome says nothing about the service, e.g. a local failure.
+         */
+        public void ignore() {
+            if (!released) {
+                released = true;
+                partition.inflight.decrementAndGet();
+                ServiceConcurrencyLimiter.this.inflight.decrementAndGet();
+                signalWaiting();
+            }
+        }
+    }
+
+    private static class Partition {
+
+        private final double share;
+        private final AtomicInteger inflight = new AtomicInteger();
+
+        Partition(double share) {
+            this.share = share;
+        }
+
+        boolean isFull(int limit) {
+            return inflight.get() >= Math.max(1, (int) Math.ceil(limit * share));
+        }
+    }
+}
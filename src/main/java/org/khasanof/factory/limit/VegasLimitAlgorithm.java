@@ -0,0 +1,77 @@
+package org.khasanof.factory.limit;
+
+/**
+ * TCP Vegas style {@link LimitAlgorithm}.
+ *
+ * <p>The queue built up at the service is estimated as {@code limit * (1 - minRtt / rtt)}, where
+ * {@code minRtt} is the lowest latency observed without load. The limit grows while the estimated queue is
+ * short and shrinks once it exceeds a few calls or a call is dropped. {@code minRtt} is re-probed
+ * periodically, so that a service that became slower permanently is not throttled forever.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/17/2026 9:26 PM
+ */
+public class VegasLimitAlgorithm implements LimitAlgorithm {
+
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private double limit;
+    private long minRttNanos;
+    private long samplesUntilProbe;
+
+    public VegasLimitAlgorithm(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.samplesUntilProbe = nextProbe(initialLimit);
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int update(long rttNanos, int inflight, boolean dropped) {
+        if (--samplesUntilProbe <= 0) {
+            samplesUntilProbe = nextProbe(limit);
+            minRttNanos = rttNanos;
+            return getLimit();
+        }
+        if (minRttNanos == 0 || rttNanos < minRttNanos) {
+            minRttNanos = rttNanos;
+            return getLimit();
+        }
+        double log = Math.max(1, Math.log10(limit));
+        double alpha = 3 * log;
+        double beta = 6 * log;
+        double queue = Math.ceil(limit * (1 - (double) minRttNanos / rttNanos));
+        double target;
+        if (dropped) {
+            target = limit - log;
+        } else if (inflight * 2 < limit) {
+            // the caller does not use the limit, so the latency says nothing about it
+            return getLimit();
+        } else if (queue <= log) {
+            target = limit + beta;
+        } else if (queue < alpha) {
+            target = limit + log;
+        } else if (queue > beta) {
+            target = limit - log;
+        } else {
+            return getLimit();
+        }
+        target = Math.max(minLimit, Math.min(maxLimit, target));
+        limit = (1 - smoothing) * limit + smoothing * target;
+        return getLimit();
+    }
+
+    private static long nextProbe(double limit) {
+        return (long) (PROBE_MULTIPLIER * Math.max(limit, 1) * (1 + Math.random()));
+    }
+}
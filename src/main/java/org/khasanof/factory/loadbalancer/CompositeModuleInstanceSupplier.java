@@ -0,0 +1,32 @@
+package org.khasanof.factory.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.List;
+
+/**
+ * {@link ModuleInstanceSupplier} returning the instances of the first supplier that knows the service.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.loadbalancer
+ * @since 10/17/2026 3:47 PM
+ */
+public class CompositeModuleInstanceSupplier implements ModuleInstanceSupplier {
+
+    private final List<ModuleInstanceSupplier> suppliers;
+
+    public CompositeModuleInstanceSupplier(List<ModuleInstanceSupplier> suppliers) {
+        this.suppliers = List.copyOf(suppliers);
+    }
+
+    @Override
+    public List<ServiceInstance> getInstances(String serviceId) {
+        for (ModuleInstanceSupplier supplier : suppliers) {
+            List<ServiceInstance> instances = supplier.getInstances(serviceId);
+            if (instances != null && !instances.isEmpty()) {
+                return instances;
+            }
+        }
+        return List.of();
+    }
+}
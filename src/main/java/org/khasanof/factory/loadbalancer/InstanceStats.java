@@ -0,0 +1,88 @@
+package org.khasanof.factory.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Observed latency and health of a single service instance.
+ *
+ * <p>Latency is tracked as a time-decayed exponentially weighted moving average, so older samples
+ * lose weight with elapsed time rather than with the number of calls.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.loadbalancer
+ * @since 10/17/2026 3:52 PM
+ */
+public class InstanceStats {
+
+    private final long decayNanos;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private double ewmaNanos;
+    private long lastUpdateNanos;
+    private long samples;
+    private int consecutiveFailures;
+    private int ejections;
+    private volatile long ejectedUntilNanos;
+
+    InstanceStats(long decayNanos) {
+        this.decayNanos = decayNanos;
+    }
+
+    void start() {
+        inflight.incrementAndGet();
+    }
+
+    synchronized void complete(long latencyNanos, boolean success, long nowNanos) {
+        inflight.decrementAndGet();
+        if (samples == 0) {
+            ewmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-(double) Math.max(nowNanos - lastUpdateNanos, 0) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+        }
+        lastUpdateNanos = nowNanos;
+        samples++;
+        if (success) {
+            consecutiveFailures = 0;
+        } else {
+            consecutiveFailures++;
+        }
+    }
+
+    /**
+     * Returns the load score of the instance; lower is better.
+     *
+     * <p>The score is the expected latency weighted by the number of calls in flight, so an
+     * instance that is fast but busy does not attract all the traffic.</p>
+     *
+     * @return the load score.
+     */
+    synchronized double score() {
+        return (ewmaNanos + 1) * (inflight.get() + 1);
+    }
+
+    synchronized double ewmaNanos() {
+        return ewmaNanos;
+    }
+
+    synchronized long samples() {
+        return samples;
+    }
+
+    synchronized int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    synchronized void eject(long nowNanos, long baseEjectionNanos) {
+        ejections++;
+        consecutiveFailures = 0;
+        ejectedUntilNanos = nowNanos + baseEjectionNanos * Math.min(ejections, 10);
+    }
+
+    boolean isEjected(long nowNanos) {
+        return nowNanos - ejectedUntilNanos < 0;
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+}
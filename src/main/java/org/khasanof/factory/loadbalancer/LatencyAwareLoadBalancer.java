@@ -0,0 +1,196 @@
+package org.khasanof.factory.loadbalancer;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses service instances by observed latency using the power of two choices.
+ *
+ * <p>For every call two random instances are compared and the one with the lower latency-weighted
+ * load wins, which keeps traffic away from slow or busy replicas without the herding of always
+ * picking the single best instance. Instances that fail repeatedly, or whose latency is far above
+ * the other instances of the service, are ejected for a growing period of time. At most
+ * {@link ModulesClientFactoryProperties.LoadBalancer#getMaxEjectionPercent()} of the instances of
+ * a service are ejected at once.</p>
+ *
+ * <p>The instances of a service are asked from the {@link ModuleInstanceSupplier} at most once per
+ * {@link ModulesClientFactoryProperties.LoadBalancer#getInstanceRefreshInterval()}. The statistics of the
+ * instances that are no longer returned are dropped at that point. Hosts without instances, e.g. those of
+ * absolute URLs, are remembered for the same interval, so their calls do not query the supplier either.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.loadbalancer
+ * @since 10/17/2026 4:05 PM
+ */
+public class LatencyAwareLoadBalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyAwareLoadBalancer.class);
+
+    private final ModuleInstanceSupplier instanceSupplier;
+    private final ModulesClientFactoryProperties.LoadBalancer properties;
+    private final long refreshIntervalNanos;
+    private final Map<String, ServiceInstances> services = new ConcurrentHashMap<>();
+
+    public LatencyAwareLoadBalancer(ModuleInstanceSupplier instanceSupplier, ModulesClientFactoryProperties.LoadBalancer properties) {
+        this.instanceSupplier = instanceSupplier;
+        this.properties = properties;
+        this.refreshIntervalNanos = properties.getInstanceRefreshInterval().toNanos();
+    }
+
+    /**
+     * Chooses an instance of the given service.
+     *
+     * @param serviceId the service name.
+     * @return the chosen instance, or {@code null} if the service has no known instances.
+     */
+    public ServiceInstance choose(String serviceId) {
+        long now = System.nanoTime();
+        ServiceInstances service = service(serviceId, now);
+        List<ServiceInstance> instances = service.instances();
+        if (instances.isEmpty()) {
+            return null;
+        }
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ServiceInstance first = pick(service, random, now);
+        ServiceInstance second = pick(service, random, now);
+        for (int attempt = 0; second == first && attempt < 3; attempt++) {
+            second = pick(service, random, now);
+        }
+        return service.stats(first).score() <= service.stats(second).score() ? first : second;
+    }
+
+    /**
+     * Marks the start of a call to the given instance.
+     *
+     * @param instance the called instance.
+     */
+    public void start(ServiceInstance instance) {
+        InstanceStats instanceStats = stats(instance);
+        if (instanceStats != null) {
+            instanceStats.start();
+        }
+    }
+
+    /**
+     * Records the outcome of a call to the given instance and ejects it if it became an outlier.
+     *
+     * @param instance the called instance.
+     * @param latencyNanos the call latency in nanoseconds.
+     * @param success whether the call succeeded.
+     */
+    public void complete(ServiceInstance instance, long latencyNanos, boolean success) {
+        long now = System.nanoTime();
+        ServiceInstances service = services.get(instance.getServiceId());
+        InstanceStats instanceStats = service != null ? service.stats(instance) : null;
+        if (instanceStats == null) {
+            // the instance left the service while it was called
+            return;
+        }
+        instanceStats.complete(latencyNanos, success, now);
+        if (instanceStats.consecutiveFailures() >= properties.getFailureThreshold()) {
+            eject(instance, service, instanceStats, now, "failing");
+        } else if (success && isSlow(service, instanceStats)) {
+            eject(instance, service, instanceStats, now, "slow");
+        }
+    }
+
+    /**
+     * Drops the instances and statistics of a service, e.g. once the tenant calling it is evicted.
+     *
+     * @param serviceId the service name.
+     */
+    public void evict(String serviceId) {
+        services.remove(serviceId);
+    }
+
+    private ServiceInstances service(String serviceId, long now) {
+        ServiceInstances service = services.get(serviceId);
+        if (service != null && now - service.loadedAtNanos() < refreshIntervalNanos) {
+            return service;
+        }
+        // one caller per service asks for the instances, the others wait for its result
+        service = services.compute(serviceId, (id, current) -> current != null && now - current.loadedAtNanos() < refreshIntervalNanos
+                ? current : load(id, current));
+        if (service.instances().isEmpty()) {
+            // hosts that are not services are only remembered while they are called
+            services.values().removeIf(other -> other.instances().isEmpty() && now - other.loadedAtNanos() >= refreshIntervalNanos);
+        }
+        return service;
+    }
+
+    private ServiceInstances load(String serviceId, ServiceInstances previous) {
+        List<ServiceInstance> instances = instanceSupplier.getInstances(serviceId);
+        if (instances.isEmpty()) {
+            return new ServiceInstances(List.of(), Map.of(), System.nanoTime());
+        }
+        Map<String, InstanceStats> stats = new HashMap<>();
+        for (ServiceInstance instance : instances) {
+            InstanceStats known = previous != null ? previous.stats(instance) : null;
+            stats.put(key(instance), known != null ? known : new InstanceStats(properties.getDecayTime().toNanos()));
+        }
+        return new ServiceInstances(List.copyOf(instances), stats, System.nanoTime());
+    }
+
+    private ServiceInstance pick(ServiceInstances service, ThreadLocalRandom random, long now) {
+        List<ServiceInstance> instances = service.instances();
+        ServiceInstance candidate = instances.get(random.nextInt(instances.size()));
+        for (int attempt = 0; service.stats(candidate).isEjected(now) && attempt < instances.size(); attempt++) {
+            candidate = instances.get(random.nextInt(instances.size()));
+        }
+        return candidate;
+    }
+
+    private boolean isSlow(ServiceInstances service, InstanceStats instanceStats) {
+        if (instanceStats.samples() < properties.getMinimumSamples()) {
+            return false;
+        }
+        double others = 0;
+        int count = 0;
+        for (InstanceStats otherStats : service.stats().values()) {
+            if (otherStats != instanceStats && otherStats.samples() >= properties.getMinimumSamples()) {
+                others += otherStats.ewmaNanos();
+                count++;
+            }
+        }
+        return count > 0 && instanceStats.ewmaNanos() > properties.getSlowCallMultiplier() * (others / count);
+    }
+
+    private void eject(ServiceInstance instance, ServiceInstances service, InstanceStats instanceStats, long now, String reason) {
+        long ejected = service.stats().values().stream().filter(other -> other.isEjected(now)).count();
+        if ((ejected + 1) * 100 > (long) service.stats().size() * properties.getMaxEjectionPercent()) {
+            return;
+        }
+        instanceStats.eject(now, properties.getBaseEjectionTime().toNanos());
+        log.warn("Ejected {} instance {} of service {}", reason, instance.getUri(), instance.getServiceId());
+    }
+
+    private InstanceStats stats(ServiceInstance instance) {
+        ServiceInstances service = services.get(instance.getServiceId());
+        return service != null ? service.stats(instance) : null;
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * Instances of a service as last returned by the instance supplier, with their statistics.
+     */
+    private record ServiceInstances(List<ServiceInstance> instances, Map<String, InstanceStats> stats, long loadedAtNanos) {
+
+        InstanceStats stats(ServiceInstance instance) {
+            return stats.get(key(instance));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.khasanof.factory.loadbalancer;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerUriTools;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * {@link Client} decorator sending requests for a known service name to an instance chosen by the
+ * {@link LatencyAwareLoadBalancer}.
+ *
+ * <p>Requests whose host is not a known service are passed to the decorated client untouched. Spring
+ * Cloud's {@link FeignBlockingLoadBalancerClient} is bypassed for balanced requests, since they already
+ * target a concrete instance.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.loadbalancer
+ * @since 10/17/2026 4:20 PM
+ */
+public class LoadBalancedClient implements Client {
+
+    private final Client delegate;
+    private final Client instanceClient;
+    private final LatencyAwareLoadBalancer loadBalancer;
+
+    public LoadBalancedClient(Client delegate, LatencyAwareLoadBalancer loadBalancer) {
+        this(delegate, unwrap(delegate), loadBalancer);
+    }
+
+    /**
+     * @param delegate       the client sending requests whose host is not a known service.
+     * @param instanceClient the client sending requests to the chosen instance, which must not be load
+     *                       balanced again.
+     * @param loadBalancer   the load balancer choosing instances.
+     */
+    public LoadBalancedClient(Client delegate, Client instanceClient, LatencyAwareLoadBalancer loadBalancer) {
+        this.delegate = delegate;
+        this.instanceClient = instanceClient;
+        this.loadBalancer = loadBalancer;
+    }
+
+    /**
+     * @param client a transport client.
+     * @return the client decorated by Spring Cloud's {@link FeignBlockingLoadBalancerClient}, or the client
+     * itself.
+     */
+    public static Client unwrap(Client client) {
+        return client instanceof FeignBlockingLoadBalancerClient blocking ? blocking.getDelegate() : client;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        URI uri = URI.create(request.url());
+        ServiceInstance instance = uri.getHost() != null ? loadBalancer.choose(uri.getHost()) : null;
+        if (instance == null) {
+            return delegate.execute(request, options);
+        }
+        String url = LoadBalancerUriTools.reconstructURI(instance, uri).toString();
+        Request instanceRequest = Request.create(request.httpMethod(), url, request.headers(), request.body(), request.charset(), request.requestTemplate());
+        loadBalancer.start(instance);
+        long start = System.nanoTime();
+        try {
+            Response response = instanceClient.execute(instanceRequest, options);
+            loadBalancer.complete(instance, System.nanoTime() - start, response.status() < 500);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            loadBalancer.complete(instance, System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+}
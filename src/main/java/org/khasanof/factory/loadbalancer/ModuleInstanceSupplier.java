@@ -0,0 +1,27 @@
+package org.khasanof.factory.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.List;
+
+/**
+ * Supplies the instances a service name resolves to.
+ *
+ * <p>Applications may register their own supplier as a bean to replace the default one, which
+ * combines the static instances from the properties with the {@code DiscoveryClient} of the context.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.loadbalancer
+ * @since 10/17/2026 3:40 PM
+ */
+@FunctionalInterface
+public interface ModuleInstanceSupplier {
+
+    /**
+     * Returns the instances of the given service.
+     *
+     * @param serviceId the service name.
+     * @return the instances of the service, or an empty list if the service is unknown.
+     */
+    List<ServiceInstance> getInstances(String serviceId);
+}
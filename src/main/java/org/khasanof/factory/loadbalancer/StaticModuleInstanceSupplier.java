@@ -0,0 +1,36 @@
+package org.khasanof.factory.loadbalancer;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.net.URI;
+import java.util.*;
+
+/**
+ * {@link ModuleInstanceSupplier} serving a fixed list of instances per service, e.g. for local testing.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.loadbalancer
+ * @since 10/17/2026 3:44 PM
+ */
+public class StaticModuleInstanceSupplier implements ModuleInstanceSupplier {
+
+    private final Map<String, List<ServiceInstance>> instances = new HashMap<>();
+
+    public StaticModuleInstanceSupplier(Map<String, List<URI>> uris) {
+        uris.forEach((serviceId, serviceUris) -> {
+            List<ServiceInstance> serviceInstances = new ArrayList<>(serviceUris.size());
+            for (URI uri : serviceUris) {
+                boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+                int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+                serviceInstances.add(new DefaultServiceInstance(serviceId + "-" + uri.getHost() + "-" + port, serviceId, uri.getHost(), port, secure));
+            }
+            instances.put(serviceId.toLowerCase(Locale.ROOT), List.copyOf(serviceInstances));
+        });
+    }
+
+    @Override
+    public List<ServiceInstance> getInstances(String serviceId) {
+        return instances.getOrDefault(serviceId.toLowerCase(Locale.ROOT), List.of());
+    }
+}
@@ -0,0 +1,36 @@
+package org.khasanof.factory.logging;
+
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Call captured by the {@link SampledLogger}, formatted later by the {@link ClientLogWriter}.
+ *
+ * <p>Holds the headers and body prefixes as captured, so that the calling thread does no formatting or
+ * redaction.</p>
+ *
+ * @param loggerName the name of the SLF4J logger, i.e. the client class.
+ * @param configKey the Feign config key of the called method.
+ * @param reason why the call was logged: {@code sampled}, {@code slow} or {@code failed}.
+ * @param method the HTTP method.
+ * @param url the request URL.
+ * @param status the response status, or {@code -1} if no response was received.
+ * @param elapsedMillis the call latency in milliseconds.
+ * @param requestHeaders the request headers.
+ * @param requestBody the request body, or {@code null}.
+ * @param requestCharset the charset of the request body, or {@code null} if unknown.
+ * @param responseHeaders the response headers, or {@code null}.
+ * @param responseBody the prefix of the response body, or {@code null} if it was not captured.
+ * @param responseCharset the charset of the response body, or {@code null} if unknown.
+ * @param responseBodyTruncated whether the response body is longer than its captured prefix.
+ * @param failure the I/O error of the call, or {@code null}.
+ * @author Nurislom
+ * @see org.khasanof.factory.logging
+ * @since 10/18/2026 1:28 AM
+ */
+public record ClientLogRecord(String loggerName, String configKey, String reason, String method, String url, int status,
+                              long elapsedMillis, Map<String, Collection<String>> requestHeaders, byte[] requestBody,
+                              Charset requestCharset, Map<String, Collection<String>> responseHeaders, byte[] responseBody,
+                              Charset responseCharset, boolean responseBodyTruncated, Throwable failure) {
+}
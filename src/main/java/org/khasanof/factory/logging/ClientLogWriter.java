@@ -0,0 +1,181 @@
+package org.khasanof.factory.logging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.Request;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes the {@link ClientLogRecord}s of the {@link SampledLogger}s on a background thread.
+ *
+ * <p>Records are handed over through a bounded {@link LogRingBuffer}, so a calling thread never blocks on log
+ * I/O or on other callers: while the buffer is full, records are dropped and counted. Formatting, redaction
+ * and the SLF4J appenders all run on the writer thread, which is started with the first record.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.logging
+ * @since 10/18/2026 1:36 AM
+ */
+public class ClientLogWriter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientLogWriter.class);
+
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ModulesClientFactoryProperties.Logging properties;
+    private final LogRingBuffer<ClientLogRecord> buffer;
+    private final LogRedactor redactor;
+    // weak identity keys, so that an exception never reported to a logger does not keep its request
+    private final Cache<IOException, Request> failedRequests = Caffeine.newBuilder().weakKeys().build();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public ClientLogWriter(ModulesClientFactoryProperties.Logging properties) {
+        this.properties = properties;
+        this.buffer = new LogRingBuffer<>(properties.getBufferSize());
+        this.redactor = new LogRedactor(properties);
+        this.thread = new Thread(this::run, "ms-client-log-writer");
+        this.thread.setDaemon(true);
+    }
+
+    public ModulesClientFactoryProperties.Logging getProperties() {
+        return properties;
+    }
+
+    /**
+     * Queues a record for writing, without blocking.
+     *
+     * @param record the record.
+     * @return {@code false} if the buffer was full and the record was dropped.
+     */
+    public boolean submit(ClientLogRecord record) {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            thread.start();
+        }
+        if (!running || !buffer.offer(record)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the request of a call failed with an I/O error for the {@link SampledLogger}, to which Feign
+     * reports the error without its request.
+     *
+     * @param failure the I/O error of the call.
+     * @param request the request of the call.
+     */
+    public void failed(IOException failure, Request request) {
+        failedRequests.put(failure, request);
+    }
+
+    /**
+     * Removes the request kept for an I/O error.
+     *
+     * @param failure the I/O error of a call.
+     * @return the request of the failed call, or {@code null} if unknown.
+     */
+    public Request takeFailedRequest(IOException failure) {
+        return failedRequests.asMap().remove(failure);
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (started.get()) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        long idleNanos = 0;
+        long reportedDrops = 0;
+        long lastReport = System.nanoTime();
+        while (true) {
+            ClientLogRecord record = buffer.poll();
+            if (record != null) {
+                idleNanos = 0;
+                write(record);
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            long drops = dropped.get();
+            if (drops != reportedDrops && System.nanoTime() - lastReport >= DROP_REPORT_INTERVAL_NANOS) {
+                log.warn("Dropped {} client log records, the log buffer of {} records was full", drops - reportedDrops, properties.getBufferSize());
+                reportedDrops = drops;
+                lastReport = System.nanoTime();
+            }
+            // producers never signal, so an idle writer backs off up to the maximum delay
+            idleNanos = Math.min(Math.max(idleNanos * 2, 50_000), MAX_IDLE_NANOS);
+            LockSupport.parkNanos(idleNanos);
+        }
+    }
+
+    private void write(ClientLogRecord record) {
+        try {
+            Logger logger = LoggerFactory.getLogger(record.loggerName());
+            boolean warn = !"sampled".equals(record.reason());
+            if (warn ? !logger.isWarnEnabled() : !logger.isInfoEnabled()) {
+                return;
+            }
+            String message = format(record);
+            if (warn) {
+                logger.warn(message, record.failure());
+            } else {
+                logger.info(message);
+            }
+            written.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.warn("Failed to write client log record of {}", record.configKey(), e);
+        }
+    }
+
+    private String format(ClientLogRecord record) {
+        StringBuilder message = new StringBuilder()
+                .append(record.configKey()).append(' ')
+                .append(record.method()).append(' ').append(record.url())
+                .append(" -> ").append(record.status() >= 0 ? Integer.toString(record.status()) : "no response")
+                .append(" (").append(record.elapsedMillis()).append(" ms, ").append(record.reason()).append(')')
+                .append("\n  request headers: ").append(redactor.headers(record.requestHeaders()));
+        String requestBody = redactor.body(record.requestBody(), record.requestCharset(), false);
+        if (requestBody != null) {
+            message.append("\n  request body: ").append(requestBody);
+        }
+        if (record.responseHeaders() != null) {
+            message.append("\n  response headers: ").append(redactor.headers(record.responseHeaders()));
+        }
+        String responseBody = redactor.body(record.responseBody(), record.responseCharset(), record.responseBodyTruncated());
+        if (responseBody != null) {
+            message.append("\n  response body: ").append(responseBody);
+        }
+        return message.toString();
+    }
+}
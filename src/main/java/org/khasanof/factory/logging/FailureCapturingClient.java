@@ -0,0 +1,39 @@
+package org.khasanof.factory.logging;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * {@link Client} decorator keeping the request of every call failed with an I/O error in the
+ * {@link ClientLogWriter}, so that the {@link SampledLogger} can log the failed request.
+ *
+ * <p>Nothing is kept per call otherwise, so no state outlives a call on an asynchronous client or a call
+ * failed with a runtime exception.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.logging
+ * @since 10/18/2026 1:54 AM
+ */
+public class FailureCapturingClient implements Client {
+
+    private final Client delegate;
+    private final ClientLogWriter writer;
+
+    public FailureCapturingClient(Client delegate, ClientLogWriter writer) {
+        this.delegate = delegate;
+        this.writer = writer;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        try {
+            return delegate.execute(request, options);
+        } catch (IOException e) {
+            writer.failed(e, request);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.khasanof.factory.logging;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Formats the headers and bodies of a {@link ClientLogRecord}, redacting sensitive values and truncating bodies.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.logging
+ * @since 10/18/2026 1:31 AM
+ */
+class LogRedactor {
+
+    private static final String REDACTED = "[REDACTED]";
+
+    private final Set<String> redactedHeaders;
+    private final Pattern jsonFields;
+    private final Pattern formFields;
+    private final int maxBodySize;
+
+    LogRedactor(ModulesClientFactoryProperties.Logging properties) {
+        this.redactedHeaders = properties.getRedactedHeaders().stream()
+                .map(header -> header.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        String fields = properties.getRedactedFields().stream().map(Pattern::quote).collect(Collectors.joining("|"));
+        this.jsonFields = fields.isEmpty() ? null
+                : Pattern.compile("\"(" + fields + ")\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|[^,}\\]\\s]+)", Pattern.CASE_INSENSITIVE);
+        this.formFields = fields.isEmpty() ? null
+                : Pattern.compile("(^|&)(" + fields + ")=[^&]*", Pattern.CASE_INSENSITIVE);
+        this.maxBodySize = (int) Math.min(properties.getMaxBodySize().toBytes(), Integer.MAX_VALUE);
+    }
+
+    String headers(Map<String, Collection<String>> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return "{}";
+        }
+        StringBuilder builder = new StringBuilder("{");
+        headers.forEach((name, values) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(name).append('=');
+            builder.append(redactedHeaders.contains(name.toLowerCase(Locale.ROOT)) ? REDACTED : String.join(",", values));
+        });
+        return builder.append('}').toString();
+    }
+
+    String body(byte[] body, Charset charset, boolean truncated) {
+        if (body == null) {
+            return null;
+        }
+        int length = Math.min(body.length, maxBodySize);
+        String text = new String(body, 0, length, charset != null ? charset : StandardCharsets.UTF_8);
+        if (jsonFields != null) {
+            text = jsonFields.matcher(text).replaceAll("\"$1\":\"" + REDACTED + "\"");
+            text = formFields.matcher(text).replaceAll("$1$2=" + REDACTED);
+        }
+        if (truncated || body.length > length) {
+            text += "... (truncated)";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,80 @@
+package org.khasanof.factory.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer with many producers and a single consumer.
+ *
+ * <p>Every slot carries a sequence number telling whether it is free for the producer claiming position
+ * {@code p} ({@code sequence == p}) or holds an element for the consumer ({@code sequence == p + 1}).
+ * Producers claim positions with a CAS on the tail and never wait: {@link #offer(Object)} fails immediately
+ * when the buffer is full.</p>
+ *
+ * @param <E> the type of the elements.
+ * @author Nurislom
+ * @see org.khasanof.factory.logging
+ * @since 10/18/2026 1:24 AM
+ */
+class LogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element, from any thread.
+     *
+     * @param element the element.
+     * @return {@code false} if the buffer is full and the element was dropped.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element, from the consumer thread only.
+     *
+     * @return the element, or {@code null} if the buffer is empty.
+     */
+    E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.lazySet(index, head + mask + 1);
+        head++;
+        return element;
+    }
+}
@@ -0,0 +1,131 @@
+package org.khasanof.factory.logging;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Feign {@link Logger} logging a sample of the calls, and every slow or failed call, through the
+ * {@link ClientLogWriter}.
+ *
+ * <p>Unlike Feign's loggers, nothing is formatted or buffered for calls that are not logged: the decision is
+ * made once the response status and latency are known, before the response body is touched. For logged calls
+ * only a prefix of textual response bodies is read, the rest is streamed to the decoder unchanged. Headers and
+ * bodies are redacted and formatted on the writer thread.</p>
+ *
+ * <p>The logger is used with {@link Logger.Level#FULL}; the level does not change what is logged.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.logging
+ * @since 10/18/2026 1:42 AM
+ */
+public class SampledLogger extends Logger {
+
+    private static final List<String> TEXT_TYPES = List.of("json", "xml", "text/", "x-www-form-urlencoded");
+    private static final List<String> STREAMING_TYPES = List.of("text/event-stream", "ndjson");
+
+    private final String loggerName;
+    private final ModulesClientFactoryProperties.Logging properties;
+    private final ClientLogWriter writer;
+    private final long slowMillis;
+    private final int maxBodySize;
+
+    public SampledLogger(Class<?> clientClass, ClientLogWriter writer) {
+        this.loggerName = clientClass.getName();
+        this.properties = writer.getProperties();
+        this.writer = writer;
+        this.slowMillis = properties.getSlowThreshold().toMillis();
+        this.maxBodySize = (int) Math.min(properties.getMaxBodySize().toBytes(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+        // every record goes through the writer
+    }
+
+    @Override
+    protected void logRequest(String configKey, Level logLevel, Request request) {
+        // the request is logged with its response, or with the I/O error kept by the FailureCapturingClient
+    }
+
+    @Override
+    protected void logRetry(String configKey, Level logLevel) {
+        // retries are counted by the client metrics
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(String configKey, Level logLevel, Response response, long elapsedTime) throws IOException {
+        String reason = reason(response.status() >= 400, elapsedTime);
+        if (reason == null) {
+            return response;
+        }
+        Request request = response.request();
+        byte[] prefix = null;
+        boolean truncated = false;
+        Response logged = response;
+        if (response.body() != null && isText(response.headers().get(HttpHeaders.CONTENT_TYPE))) {
+            InputStream body = response.body().asInputStream();
+            prefix = body.readNBytes(maxBodySize);
+            Integer length = response.body().length();
+            truncated = length == null || length > prefix.length;
+            logged = response.toBuilder()
+                    .body(new SequenceInputStream(new ByteArrayInputStream(prefix), body), length)
+                    .build();
+        }
+        writer.submit(new ClientLogRecord(loggerName, configKey, reason, request.httpMethod().name(), request.url(), response.status(),
+                elapsedTime, request.headers(), body(request), request.charset(), response.headers(), prefix, response.charset(),
+                truncated, null));
+        return logged;
+    }
+
+    @Override
+    protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+        Request request = writer.takeFailedRequest(ioe);
+        String reason = reason(true, elapsedTime);
+        if (reason != null) {
+            writer.submit(new ClientLogRecord(loggerName, configKey, reason, request != null ? request.httpMethod().name() : "?",
+                    request != null ? request.url() : "?", -1, elapsedTime, request != null ? request.headers() : null,
+                    request != null ? body(request) : null, request != null ? request.charset() : null, null, null, null,
+                    false, ioe));
+        }
+        return ioe;
+    }
+
+    private String reason(boolean failed, long elapsedMillis) {
+        if (failed && properties.isLogFailures()) {
+            return "failed";
+        }
+        if (elapsedMillis >= slowMillis) {
+            return "slow";
+        }
+        double sampleRate = properties.getSampleRate();
+        if (sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    private static byte[] body(Request request) {
+        // a body compressed by the transport decorators is not readable
+        return request.headers().containsKey(HttpHeaders.CONTENT_ENCODING) ? null : request.body();
+    }
+
+    private static boolean isText(Collection<String> contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return false;
+        }
+        String type = contentType.iterator().next().toLowerCase(Locale.ROOT);
+        return TEXT_TYPES.stream().anyMatch(type::contains) && STREAMING_TYPES.stream().noneMatch(type::contains);
+    }
+}
@@ -0,0 +1,344 @@
+package org.khasanof.factory.metrics;
+
+import io.micrometer.core.instrument.*;
+import org.khasanof.factory.cache.ClientProxyCache;
+import org.khasanof.factory.cache.HttpResponseCache;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.limit.ServiceConcurrencyLimiter;
+import org.khasanof.factory.logging.ClientLogWriter;
+import org.khasanof.factory.transport.ClientTransport;
+import org.khasanof.factory.transport.TransportPoolStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micrometer meters of the clients built by the factories.
+ *
+ * <p>Meters are registered once per tag combination and kept in local maps, so recording an event
+ * costs a map lookup and the meter update only. The meters of calls are held by the {@link MethodMeters}
+ * of each client method, which cost no lookup at all. All meters are tagged with the service name
+ * returned by {@code BaseMsClientConfigurer.getServiceName()}.</p>
+ *
+ * <ul>
+ *     <li>{@code modules.client.requests} - call latency by client, method and status,</li>
+ *     <li>{@code modules.client.errors} - failed calls by client, method and status or exception,</li>
+ *     <li>{@code modules.client.request.size} and {@code modules.client.response.size} - body sizes,</li>
+ *     <li>{@code modules.client.token.acquisition} - latency of attaching the access token,</li>
+ *     <li>{@code modules.client.factory.creates} and {@code modules.client.factory.cache} - factory activity,</li>
+ *     <li>{@code modules.client.response.cache} - response cache lookups by result,</li>
+ *     <li>{@code modules.client.limit}, {@code modules.client.limit.inflight} and
+ *     {@code modules.client.limit.rejections} - adaptive concurrency limit of each service,</li>
+ *     <li>{@code modules.client.retries} and {@code modules.client.hedges} - retries and hedges by result,</li>
+ *     <li>{@code modules.client.compression.saved} - bytes saved by body compression by direction and coding,</li>
+ *     <li>{@code modules.client.log.records} - sampled log records by result,</li>
+ *     <li>{@code modules.client.transport.connections} - connection pool utilization.</li>
+ * </ul>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.metrics
+ * @since 10/17/2026 2:30 PM
+ */
+public class ClientMetrics {
+
+    /**
+     * Metrics that record nothing, used when no {@link MeterRegistry} is available.
+     */
+    public static final ClientMetrics NOOP = new ClientMetrics(null, new ModulesClientFactoryProperties.Metrics());
+
+    private final MeterRegistry registry;
+    private final ModulesClientFactoryProperties.Metrics properties;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public ClientMetrics(MeterRegistry registry, ModulesClientFactoryProperties.Metrics properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return registry != null && properties.isEnabled();
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Returns the meters of the calls to a client method, registering each of them on first use.
+     *
+     * @param service the target service name.
+     * @param client the simple name of the client interface.
+     * @param method the name of the client method.
+     * @return the meters of the client method.
+     */
+    public MethodMeters methodMeters(String service, String client, String method) {
+        return new MethodMeters(this, service, client, method);
+    }
+
+    /**
+     * Records the time spent attaching an access token to a request.
+     *
+     * @param service the target service name.
+     * @param strategy the token strategy.
+     * @param nanos the latency in nanoseconds.
+     */
+    public void recordTokenAcquisition(String service, String strategy, long nanos) {
+        timers.computeIfAbsent("token|" + service + "|" + strategy, key -> Timer.builder("modules.client.token.acquisition")
+                        .description("Latency of attaching the access token to a request")
+                        .tag("service", service)
+                        .tag("strategy", strategy)
+                        .publishPercentiles(percentiles())
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a client proxy built by a factory.
+     *
+     * @param service the target service name.
+     * @param client the simple name of the client interface.
+     * @param async whether the client is an asynchronous client.
+     */
+    public void recordCreate(String service, String client, boolean async) {
+        counters.computeIfAbsent("create|" + service + "|" + client + "|" + async, key -> Counter.builder("modules.client.factory.creates")
+                        .description("Client proxies built by the factory")
+                        .tag("service", service)
+                        .tag("client", client)
+                        .tag("async", Boolean.toString(async))
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Binds the meters of the shared client proxy cache and transport connection pool.
+     *
+     * @param clientProxyCache the client proxy cache.
+     * @param clientTransport the client transport.
+     */
+    public void bind(ClientProxyCache clientProxyCache, ClientTransport clientTransport) {
+        if (!isEnabled()) {
+            return;
+        }
+        FunctionCounter.builder("modules.client.factory.cache", clientProxyCache, cache -> cache.stats().hitCount())
+                .description("Client proxy cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("modules.client.factory.cache", clientProxyCache, cache -> cache.stats().missCount())
+                .description("Client proxy cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("modules.client.factory.cache.size", clientProxyCache, ClientProxyCache::size)
+                .description("Cached client proxies")
+                .register(registry);
+        if (clientTransport.getPoolStats() != TransportPoolStats.UNKNOWN) {
+            connectionGauge(clientTransport, "leased", TransportPoolStats::leased);
+            connectionGauge(clientTransport, "available", TransportPoolStats::available);
+            connectionGauge(clientTransport, "pending", TransportPoolStats::pending);
+            connectionGauge(clientTransport, "max", TransportPoolStats::max);
+        }
+    }
+
+    /**
+     * Binds the meters of the shared HTTP response cache.
+     *
+     * @param responseCache the response cache.
+     */
+    public void bind(HttpResponseCache responseCache) {
+        if (!isEnabled()) {
+            return;
+        }
+        responseCacheCounter(responseCache, "hit", HttpResponseCache::hitCount);
+        responseCacheCounter(responseCache, "miss", HttpResponseCache::missCount);
+        responseCacheCounter(responseCache, "revalidated", HttpResponseCache::revalidationCount);
+        Gauge.builder("modules.client.response.cache.size", responseCache, HttpResponseCache::size)
+                .description("Cached responses")
+                .register(registry);
+    }
+
+    /**
+     * Binds the gauges of the concurrency limiter of a service.
+     *
+     * @param limiter the concurrency limiter.
+     */
+    public void bind(ServiceConcurrencyLimiter limiter) {
+        if (!isEnabled()) {
+            return;
+        }
+        Gauge.builder("modules.client.limit", limiter, ServiceConcurrencyLimiter::getLimit)
+                .description("Adaptive concurrency limit of the calls to a service")
+                .tag("service", limiter.getServiceName())
+                .register(registry);
+        Gauge.builder("modules.client.limit.inflight", limiter, ServiceConcurrencyLimiter::getInflight)
+                .description("Calls in flight to a service")
+                .tag("service", limiter.getServiceName())
+                .register(registry);
+    }
+
+    /**
+     * Binds the counters of the writer of the sampled client logs.
+     *
+     * @param writer the client log writer.
+     */
+    public void bind(ClientLogWriter writer) {
+        if (!isEnabled()) {
+            return;
+        }
+        FunctionCounter.builder("modules.client.log.records", writer, ClientLogWriter::getWrittenCount)
+                .description("Sampled client log records")
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("modules.client.log.records", writer, ClientLogWriter::getDroppedCount)
+                .description("Sampled client log records")
+                .tag("result", "dropped")
+                .register(registry);
+    }
+
+    /**
+     * Counts a call rejected by the concurrency limiter of a service.
+     *
+     * @param service the target service name.
+     * @param client the simple name of the client interface.
+     * @param reason the reason of the rejection.
+     */
+    public void recordLimitRejection(String service, String client, String reason) {
+        counters.computeIfAbsent("limit|" + service + "|" + client + "|" + reason, key -> Counter.builder("modules.client.limit.rejections")
+                        .description("Calls rejected by the concurrency limit of a service")
+                        .tag("service", service)
+                        .tag("client", client)
+                        .tag("reason", reason)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Counts a retry decision of a call.
+     *
+     * @param service the target service name.
+     * @param result {@code retried}, or why the retry was given up: {@code budget} or {@code deadline}.
+     */
+    public void recordRetry(String service, String result) {
+        counters.computeIfAbsent("retry|" + service + "|" + result, key -> Counter.builder("modules.client.retries")
+                        .description("Retry decisions of failed calls")
+                        .tag("service", service)
+                        .tag("result", result)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Counts a hedge of a call.
+     *
+     * @param service the target service name.
+     * @param client the simple name of the client interface.
+     * @param result {@code sent}, {@code won} when the hedge answered first, or {@code budget} or {@code rejected} when it was not sent.
+     */
+    public void recordHedge(String service, String client, String result) {
+        counters.computeIfAbsent("hedge|" + service + "|" + client + "|" + result, key -> Counter.builder("modules.client.hedges")
+                        .description("Hedged attempts of calls")
+                        .tag("service", service)
+                        .tag("client", client)
+                        .tag("result", result)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Counts the bytes saved by compressing a request body or receiving a compressed response body.
+     *
+     * <p>Bodies that grew by compression, e.g. tiny compressed responses, count as nothing saved, since a
+     * counter cannot decrease.</p>
+     *
+     * @param service the target service name.
+     * @param direction {@code request} or {@code response}.
+     * @param encoding the content coding.
+     * @param uncompressedBytes the uncompressed body size.
+     * @param compressedBytes the compressed body size.
+     */
+    public void recordCompression(String service, String direction, String encoding, long uncompressedBytes, long compressedBytes) {
+        counters.computeIfAbsent("compression|" + service + "|" + direction + "|" + encoding, key -> Counter.builder("modules.client.compression.saved")
+                        .description("Bytes saved by compressing request and response bodies")
+                        .baseUnit("bytes")
+                        .tag("service", service)
+                        .tag("direction", direction)
+                        .tag("encoding", encoding)
+                        .register(registry))
+                .increment(Math.max(uncompressedBytes - compressedBytes, 0));
+    }
+
+    /**
+     * Removes every meter of a service from the registry, e.g. once the tenant calling it is evicted.
+     *
+     * <p>Meters recorded afterwards for the service are registered again.</p>
+     *
+     * @param service the target service name.
+     */
+    public void evict(String service) {
+        if (registry == null) {
+            return;
+        }
+        timers.values().removeIf(meter -> isOfService(meter, service));
+        counters.values().removeIf(meter -> isOfService(meter, service));
+        summaries.values().removeIf(meter -> isOfService(meter, service));
+        for (Meter meter : registry.getMeters()) {
+            if (meter.getId().getName().startsWith("modules.client.") && isOfService(meter, service)) {
+                registry.remove(meter);
+            }
+        }
+    }
+
+    private static boolean isOfService(Meter meter, String service) {
+        return service.equals(meter.getId().getTag("service"));
+    }
+
+    private void responseCacheCounter(HttpResponseCache responseCache, String result, ToDoubleFunction<HttpResponseCache> count) {
+        FunctionCounter.builder("modules.client.response.cache", responseCache, count)
+                .description("Response cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private void connectionGauge(ClientTransport clientTransport, String state, ToDoubleFunction<TransportPoolStats> value) {
+        Gauge.builder("modules.client.transport.connections", clientTransport, transport -> value.applyAsDouble(transport.getPoolStats()))
+                .description("Connection pool utilization of the client transport")
+                .tag("transport", clientTransport.getType().name())
+                .tag("state", state)
+                .register(registry);
+    }
+
+    Timer timer(String service, String client, String method, String status) {
+        return timers.computeIfAbsent(service + "|" + client + "|" + method + "|" + status, key -> Timer.builder("modules.client.requests")
+                .description("Latency of calls made by module clients")
+                .tag("service", service)
+                .tag("client", client)
+                .tag("method", method)
+                .tag("status", status)
+                .publishPercentiles(percentiles())
+                .register(registry));
+    }
+
+    Counter error(String service, String client, String method, String status) {
+        return counters.computeIfAbsent("error|" + service + "|" + client + "|" + method + "|" + status, key -> Counter.builder("modules.client.errors")
+                .description("Failed calls made by module clients")
+                .tag("service", service)
+                .tag("client", client)
+                .tag("method", method)
+                .tag("status", status)
+                .register(registry));
+    }
+
+    DistributionSummary summary(String name, String service, String client) {
+        return summaries.computeIfAbsent(name + "|" + service + "|" + client, key -> DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tag("service", service)
+                .tag("client", client)
+                .register(registry));
+    }
+
+    private double[] percentiles() {
+        return properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
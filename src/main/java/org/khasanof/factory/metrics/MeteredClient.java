@@ -0,0 +1,87 @@
+package org.khasanof.factory.metrics;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Client} decorator recording the latency, status and body sizes of every call into {@link ClientMetrics}.
+ *
+ * <p>The latency covers the call up to the received response headers; the body is decoded afterwards. The
+ * {@link MethodMeters} of every method of the client interface are created with the client.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.metrics
+ * @since 10/17/2026 2:52 PM
+ */
+public class MeteredClient implements Client {
+
+    private final Client delegate;
+    private final ClientMetrics metrics;
+    private final String service;
+    private final String client;
+    private final Map<Method, MethodMeters> methodMeters;
+    // requests built without a client method, tagged with their HTTP method
+    private final Map<Request.HttpMethod, MethodMeters> httpMethodMeters = new ConcurrentHashMap<>();
+
+    public MeteredClient(Client delegate, ClientMetrics metrics, String service, Class<?> clientClass) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.service = service;
+        this.client = clientClass.getSimpleName();
+        Map<Method, MethodMeters> meters = new HashMap<>();
+        for (Method method : clientClass.getMethods()) {
+            meters.put(method, metrics.methodMeters(service, client, method.getName()));
+        }
+        this.methodMeters = Map.copyOf(meters);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        MethodMeters meters = meters(request);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException | RuntimeException e) {
+            meters.recordFailure(e, System.nanoTime() - start);
+            throw e;
+        }
+        meters.recordCall(response.status(), System.nanoTime() - start,
+                request.body() != null ? request.body().length : 0, responseBytes(response));
+        return response;
+    }
+
+    private MethodMeters meters(Request request) {
+        if (request.requestTemplate() != null && request.requestTemplate().methodMetadata() != null) {
+            MethodMeters meters = methodMeters.get(request.requestTemplate().methodMetadata().method());
+            if (meters != null) {
+                return meters;
+            }
+        }
+        return httpMethodMeters.computeIfAbsent(request.httpMethod(), httpMethod -> metrics.methodMeters(service, client, httpMethod.name()));
+    }
+
+    private static long responseBytes(Response response) {
+        if (response.body() != null && response.body().length() != null) {
+            return response.body().length();
+        }
+        Collection<String> contentLength = response.headers().get(Util.CONTENT_LENGTH);
+        if (contentLength != null && !contentLength.isEmpty()) {
+            try {
+                return Long.parseLong(contentLength.iterator().next());
+            } catch (NumberFormatException ignored) {
+                // fall through to unknown
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,105 @@
+package org.khasanof.factory.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Meters of the calls to one client method, resolved once per status or exception type.
+ *
+ * <p>The meters of a response status are held in arrays indexed by the status, so recording a call builds
+ * no tag key and does no map lookup once the status was seen. Failures are looked up by exception class.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.metrics
+ * @since 10/18/2026 1:58 AM
+ */
+public final class MethodMeters {
+
+    private static final int MAX_STATUS = 600;
+
+    private final ClientMetrics metrics;
+    private final String service;
+    private final String client;
+    private final String method;
+    private final DistributionSummary requestSize;
+    private final DistributionSummary responseSize;
+    private final AtomicReferenceArray<Timer> statusTimers = new AtomicReferenceArray<>(MAX_STATUS);
+    private final AtomicReferenceArray<Counter> statusErrors = new AtomicReferenceArray<>(MAX_STATUS);
+    private final Map<Class<?>, Timer> failureTimers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Counter> failureErrors = new ConcurrentHashMap<>();
+
+    MethodMeters(ClientMetrics metrics, String service, String client, String method) {
+        this.metrics = metrics;
+        this.service = service;
+        this.client = client;
+        this.method = method;
+        this.requestSize = metrics.summary("modules.client.request.size", service, client);
+        this.responseSize = metrics.summary("modules.client.response.size", service, client);
+    }
+
+    /**
+     * Records a call that received a response.
+     *
+     * @param status the response status.
+     * @param nanos the call latency in nanoseconds.
+     * @param requestBytes the request body size, or a negative value if unknown.
+     * @param responseBytes the response body size, or a negative value if unknown.
+     */
+    public void recordCall(int status, long nanos, long requestBytes, long responseBytes) {
+        timer(status).record(nanos, TimeUnit.NANOSECONDS);
+        if (status >= 400) {
+            error(status).increment();
+        }
+        if (requestBytes >= 0) {
+            requestSize.record(requestBytes);
+        }
+        if (responseBytes >= 0) {
+            responseSize.record(responseBytes);
+        }
+    }
+
+    /**
+     * Records a call that failed before a response was received.
+     *
+     * @param exception the failure.
+     * @param nanos the call latency in nanoseconds.
+     */
+    public void recordFailure(Throwable exception, long nanos) {
+        Class<?> type = exception.getClass();
+        failureTimers.computeIfAbsent(type, key -> metrics.timer(service, client, method, key.getSimpleName()))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        failureErrors.computeIfAbsent(type, key -> metrics.error(service, client, method, key.getSimpleName()))
+                .increment();
+    }
+
+    private Timer timer(int status) {
+        if (status < 0 || status >= MAX_STATUS) {
+            return metrics.timer(service, client, method, Integer.toString(status));
+        }
+        Timer timer = statusTimers.get(status);
+        if (timer == null) {
+            // registration is idempotent, so racing callers end up with the same timer
+            timer = metrics.timer(service, client, method, Integer.toString(status));
+            statusTimers.set(status, timer);
+        }
+        return timer;
+    }
+
+    private Counter error(int status) {
+        if (status >= MAX_STATUS) {
+            return metrics.error(service, client, method, Integer.toString(status));
+        }
+        Counter error = statusErrors.get(status);
+        if (error == null) {
+            error = metrics.error(service, client, method, Integer.toString(status));
+            statusErrors.set(status, error);
+        }
+        return error;
+    }
+}
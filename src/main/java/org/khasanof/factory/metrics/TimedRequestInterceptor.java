@@ -0,0 +1,36 @@
+package org.khasanof.factory.metrics;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * {@link RequestInterceptor} decorator recording how long the token interceptor takes to authorize a request.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.metrics
+ * @since 10/17/2026 3:01 PM
+ */
+public class TimedRequestInterceptor implements RequestInterceptor {
+
+    private final RequestInterceptor delegate;
+    private final ClientMetrics metrics;
+    private final String service;
+    private final String strategy;
+
+    public TimedRequestInterceptor(RequestInterceptor delegate, ClientMetrics metrics, String service, String strategy) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.service = service;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        long start = System.nanoTime();
+        try {
+            delegate.apply(template);
+        } finally {
+            metrics.recordTokenAcquisition(service, strategy, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.khasanof.factory.multipart;
+
+import feign.Request;
+import feign.Response;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpRequest;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@link MultipartUploader} of the {@code APACHE_HC5} transport, streaming the body over a pooled connection.
+ *
+ * <p>The body is written by a non-repeatable entity directly to the connection; bodies of unknown length
+ * are sent with chunked transfer encoding. The connection returns to the pool once the response body is
+ * closed.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 9:04 PM
+ */
+public class Hc5MultipartUploader implements MultipartUploader {
+
+    private final CloseableHttpClient httpClient;
+
+    public Hc5MultipartUploader(CloseableHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public Response upload(Request request, MultipartBody body, Request.Options options) throws IOException {
+        URI uri = URI.create(request.url());
+        BasicClassicHttpRequest httpRequest = new BasicClassicHttpRequest(request.httpMethod().name(), uri);
+        request.headers().forEach((name, values) -> {
+            // framing headers are derived from the entity
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)
+                    && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                values.forEach(value -> httpRequest.addHeader(name, value));
+            }
+        });
+        httpRequest.setEntity(new MultipartEntity(body));
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setResponseTimeout(Timeout.ofMilliseconds(options.readTimeoutMillis()))
+                .setRedirectsEnabled(options.isFollowRedirects())
+                .build());
+        // the response stays open until the caller closes its body
+        ClassicHttpResponse response = httpClient.executeOpen(HttpHost.create(uri), httpRequest, context);
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Header header : response.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+        }
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            response.close();
+        }
+        long length = entity != null ? entity.getContentLength() : 0;
+        InputStream stream = entity != null ? entity.getContent() : null;
+        return Response.builder()
+                .status(response.getCode())
+                .reason(response.getReasonPhrase())
+                .headers(headers)
+                .request(request)
+                .body(stream, length >= 0 && length <= Integer.MAX_VALUE ? (int) length : null)
+                .build();
+    }
+
+    private static class MultipartEntity extends AbstractHttpEntity {
+
+        private final MultipartBody body;
+
+        MultipartEntity(MultipartBody body) {
+            super(body.getContentType(), null, body.getContentLength() < 0);
+            this.body = body;
+        }
+
+        @Override
+        public long getContentLength() {
+            return body.getContentLength();
+        }
+
+        @Override
+        public InputStream getContent() {
+            throw new UnsupportedOperationException("Multipart body can only be written to a stream");
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return false;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            body.writeTo(out);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
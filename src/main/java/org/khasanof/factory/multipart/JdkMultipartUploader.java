@@ -0,0 +1,103 @@
+package org.khasanof.factory.multipart;
+
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@link MultipartUploader} of the {@code JDK} transport, streaming the body through {@link HttpClient}.
+ *
+ * <p>File parts are published with {@link HttpRequest.BodyPublishers#ofFile(java.nio.file.Path)} and stream
+ * parts with {@link HttpRequest.BodyPublishers#ofInputStream(java.util.function.Supplier)}, so no part is
+ * read onto the heap as a whole. Bodies of unknown length are sent chunked over HTTP/1.1.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 8:58 PM
+ */
+public class JdkMultipartUploader implements MultipartUploader {
+
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(List.of("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    private final HttpClient httpClient;
+
+    public JdkMultipartUploader(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public Response upload(Request request, MultipartBody body, Request.Options options) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.url()))
+                .timeout(Duration.ofMillis(options.readTimeoutMillis()))
+                .method(request.httpMethod().name(), publisher(body));
+        request.headers().forEach((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading multipart body");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        response.headers().map().forEach(headers::put);
+        long length = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        return Response.builder()
+                .status(response.statusCode())
+                .headers(headers)
+                .request(request)
+                .body(response.body(), length >= 0 && length <= Integer.MAX_VALUE ? (int) length : null)
+                .build();
+    }
+
+    private static HttpRequest.BodyPublisher publisher(MultipartBody body) throws IOException {
+        List<PartContent> segments = body.getSegments();
+        HttpRequest.BodyPublisher[] publishers = new HttpRequest.BodyPublisher[segments.size()];
+        for (int i = 0; i < publishers.length; i++) {
+            publishers[i] = publisher(segments.get(i));
+        }
+        return HttpRequest.BodyPublishers.concat(publishers);
+    }
+
+    private static HttpRequest.BodyPublisher publisher(PartContent content) throws IOException {
+        if (content instanceof PartContent.BytesContent bytes) {
+            return HttpRequest.BodyPublishers.ofByteArray(bytes.bytes());
+        }
+        if (content instanceof PartContent.FileContent file) {
+            return HttpRequest.BodyPublishers.ofFile(file.path());
+        }
+        PartContent.StreamContent stream = (PartContent.StreamContent) content;
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return stream.source().getInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return stream.length() >= 0 ? HttpRequest.BodyPublishers.fromPublisher(publisher, stream.length()) : publisher;
+    }
+}
@@ -0,0 +1,134 @@
+package org.khasanof.factory.multipart;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@code multipart/form-data} body whose parts are written to the connection while the request is sent.
+ *
+ * <p>The body is a sequence of {@link PartContent} segments: the boundary and headers of each part
+ * in memory, followed by the part content as a file, stream or bytes.</p>
+ *
+ * <p>Closing the body closes the streams of its parts that can be read once only, whether they were sent
+ * or not.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 8:18 PM
+ */
+public class MultipartBody implements Closeable {
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.UTF_8);
+
+    private final String boundary = UUID.randomUUID().toString().replace("-", "");
+    private final List<PartContent> segments = new ArrayList<>();
+
+    /**
+     * Appends a part to the body.
+     *
+     * @param name the form field name.
+     * @param filename the file name, or {@code null} for a simple value.
+     * @param contentType the content type of the part.
+     * @param content the content of the part.
+     * @return this body.
+     */
+    public MultipartBody part(String name, String filename, String contentType, PartContent content) {
+        StringBuilder headers = new StringBuilder();
+        if (!segments.isEmpty()) {
+            headers.append("\r\n");
+        }
+        headers.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(escape(name)).append('"');
+        if (filename != null) {
+            headers.append("; filename=\"").append(escape(filename)).append('"');
+        }
+        headers.append("\r\nContent-Type: ").append(contentType).append("\r\n\r\n");
+        segments.add(PartContent.of(headers.toString().getBytes(StandardCharsets.UTF_8)));
+        segments.add(content);
+        return this;
+    }
+
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * Returns the segments of the body, including the closing boundary.
+     *
+     * @return the segments in the order they are sent.
+     */
+    public List<PartContent> getSegments() {
+        List<PartContent> all = new ArrayList<>(segments);
+        all.add(PartContent.of(closing()));
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Returns the length of the body.
+     *
+     * @return the length in bytes, or {@code -1} if a part has no known length and the body has to be chunked.
+     */
+    public long getContentLength() {
+        long length = 0;
+        for (PartContent segment : getSegments()) {
+            if (segment.length() < 0) {
+                return -1;
+            }
+            length += segment.length();
+        }
+        return length;
+    }
+
+    /**
+     * Returns whether the body can be sent again, e.g. when the request is retried.
+     *
+     * @return {@code true} if every part can be written again.
+     */
+    public boolean isRepeatable() {
+        return segments.stream().allMatch(PartContent::isRepeatable);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        for (PartContent segment : getSegments()) {
+            segment.writeTo(out);
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (PartContent segment : segments) {
+            if (segment instanceof PartContent.StreamContent stream
+                    && stream.source() instanceof PartContent.OneShotSource source) {
+                try {
+                    source.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private byte[] closing() {
+        String prefix = segments.isEmpty() ? "" : new String(CRLF, StandardCharsets.UTF_8);
+        return (prefix + "--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+}
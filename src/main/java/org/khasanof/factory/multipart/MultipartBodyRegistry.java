@@ -0,0 +1,89 @@
+package org.khasanof.factory.multipart;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import feign.Request;
+import feign.RequestTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Hands streaming {@link MultipartBody} instances from the {@link StreamingMultipartEncoder} to the
+ * {@link StreamingMultipartClient}.
+ *
+ * <p>Feign request bodies are byte arrays and request templates are copied after encoding, so a streaming
+ * body is kept here under an identifier carried by the {@value #BODY_ID_HEADER} header of the request.
+ * The header never leaves the client. Bodies stay registered while the request may be retried and expire
+ * once unused, including bodies of requests that are never sent; expired bodies are closed.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 8:26 PM
+ */
+public class MultipartBodyRegistry {
+
+    public static final String BODY_ID_HEADER = "X-Ms-Client-Multipart-Body";
+
+    private static final Logger log = LoggerFactory.getLogger(MultipartBodyRegistry.class);
+
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(5);
+
+    private final Cache<String, MultipartBody> bodies = Caffeine.newBuilder()
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .removalListener(MultipartBodyRegistry::onRemoval)
+            .build();
+
+    /**
+     * Registers the body of a request template.
+     *
+     * @param template the template encoded with the body.
+     * @param body the streaming body.
+     */
+    public void register(RequestTemplate template, MultipartBody body) {
+        String id = UUID.randomUUID().toString();
+        template.removeHeader(BODY_ID_HEADER);
+        template.header(BODY_ID_HEADER, id);
+        bodies.put(id, body);
+    }
+
+    /**
+     * Returns the identifier of the streaming body of a request.
+     *
+     * @param request the request to send.
+     * @return the body identifier, or {@code null} if the request carries its body itself.
+     */
+    public static String bodyId(Request request) {
+        Collection<String> values = request.headers().get(BODY_ID_HEADER);
+        return values != null && !values.isEmpty() ? values.iterator().next() : null;
+    }
+
+    public MultipartBody get(String id) {
+        return bodies.getIfPresent(id);
+    }
+
+    /**
+     * Drops a body once its request has been answered.
+     *
+     * @param id the body identifier.
+     */
+    public void remove(String id) {
+        bodies.invalidate(id);
+    }
+
+    private static void onRemoval(String id, MultipartBody body, RemovalCause cause) {
+        if (body == null || !cause.wasEvicted()) {
+            return;
+        }
+        try {
+            body.close();
+        } catch (IOException e) {
+            log.debug("Failed to close expired multipart body {}", id, e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.khasanof.factory.multipart;
+
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Sends a request with a streaming {@link MultipartBody} over a transport.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 8:30 PM
+ */
+@FunctionalInterface
+public interface MultipartUploader {
+
+    /**
+     * Sends the request, writing the body to the connection while it is sent.
+     *
+     * @param request the request, without a body.
+     * @param body the body of the request.
+     * @param options the request options.
+     * @return the response.
+     * @throws IOException if the request fails.
+     */
+    Response upload(Request request, MultipartBody body, Request.Options options) throws IOException;
+}
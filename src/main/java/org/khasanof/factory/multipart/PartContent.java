@@ -0,0 +1,174 @@
+package org.khasanof.factory.multipart;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Content of a segment of a {@link MultipartBody}, written to the connection when the request is sent.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 8:10 PM
+ */
+public interface PartContent {
+
+    /**
+     * Returns the length of the content.
+     *
+     * @return the length in bytes, or {@code -1} if it is not known up front.
+     */
+    long length();
+
+    /**
+     * Writes the content to the given stream.
+     *
+     * @param out the stream of the connection.
+     * @throws IOException if the content cannot be read or written.
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Returns whether the content can be written again, e.g. when the request is retried.
+     *
+     * @return {@code true} unless the content is read from a stream that can be read once only.
+     */
+    default boolean isRepeatable() {
+        return true;
+    }
+
+    static PartContent of(byte[] bytes) {
+        return new BytesContent(bytes);
+    }
+
+    static PartContent of(Path path) throws IOException {
+        return new FileContent(path, Files.size(path));
+    }
+
+    static PartContent of(InputStreamSource source, long length) {
+        return new StreamContent(source, length);
+    }
+
+    static PartContent of(InputStream stream) {
+        return new StreamContent(new OneShotSource(stream), -1);
+    }
+
+    /**
+     * In-memory content, used for the part headers and simple values.
+     *
+     * @param bytes the content.
+     */
+    record BytesContent(byte[] bytes) implements PartContent {
+
+        @Override
+        public long length() {
+            return bytes.length;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * File content, transferred with {@link FileChannel#transferTo} without reading the file onto the heap.
+     *
+     * <p>The connection is an {@link OutputStream}, so the transfer goes through the buffer of a stream
+     * channel rather than a zero-copy path. The size is taken when the body is encoded, since it is sent as the
+     * content length; a file changing size before it is fully sent fails the upload.</p>
+     *
+     * @param path the file.
+     * @param size the size of the file when the body was encoded.
+     */
+    record FileContent(Path path, long size) implements PartContent {
+
+        @Override
+        public long length() {
+            return size;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (channel.size() != size) {
+                    throw new IOException("File " + path + " changed size from " + size + " to " + channel.size()
+                            + " bytes before it was sent");
+                }
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                while (position < size) {
+                    long transferred = channel.transferTo(position, size - position, target);
+                    if (transferred <= 0) {
+                        throw new IOException("File " + path + " was truncated to " + channel.size()
+                                + " bytes while it was sent");
+                    }
+                    position += transferred;
+                }
+            }
+        }
+    }
+
+    /**
+     * Content read from an {@link InputStreamSource} while it is written, such as a {@code MultipartFile}
+     * or a {@code Resource}.
+     *
+     * @param source the source of the content.
+     * @param length the length of the content, or {@code -1} if unknown.
+     */
+    record StreamContent(InputStreamSource source, long length) implements PartContent {
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = source.getInputStream()) {
+                in.transferTo(out);
+            }
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return !(source instanceof OneShotSource) && !(source instanceof Resource resource && resource.isOpen());
+        }
+    }
+
+    /**
+     * Source of a plain {@link InputStream}, which can be read once only.
+     */
+    final class OneShotSource implements InputStreamSource {
+
+        private final InputStream stream;
+        private final AtomicBoolean consumed = new AtomicBoolean();
+
+        OneShotSource(InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            if (consumed.getAndSet(true)) {
+                throw new IOException("Multipart stream content cannot be sent twice");
+            }
+            return stream;
+        }
+
+        /**
+         * Closes the stream, whether it was read or not.
+         *
+         * @throws IOException if the stream cannot be closed.
+         */
+        void close() throws IOException {
+            consumed.set(true);
+            stream.close();
+        }
+    }
+}
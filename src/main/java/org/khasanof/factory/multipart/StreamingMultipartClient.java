@@ -0,0 +1,70 @@
+package org.khasanof.factory.multipart;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link Client} decorator sending requests encoded by the {@link StreamingMultipartEncoder} with the
+ * {@link MultipartUploader} of the transport, so that their parts are streamed to the connection.
+ *
+ * <p>Every other request is sent by the transport client unchanged. A body is dropped once its request was
+ * answered, or once its upload failed if it cannot be sent again, in which case its streams are closed.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 8:34 PM
+ */
+public class StreamingMultipartClient implements Client {
+
+    private final Client delegate;
+    private final MultipartBodyRegistry registry;
+    private final MultipartUploader uploader;
+
+    public StreamingMultipartClient(Client delegate, MultipartBodyRegistry registry, MultipartUploader uploader) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.uploader = uploader;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String bodyId = MultipartBodyRegistry.bodyId(request);
+        if (bodyId == null) {
+            return delegate.execute(request, options);
+        }
+        MultipartBody body = registry.get(bodyId);
+        if (body == null) {
+            throw new IOException("Multipart body of " + request.url() + " is no longer available");
+        }
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.remove(MultipartBodyRegistry.BODY_ID_HEADER);
+        Request uploadRequest = Request.create(request.httpMethod(), request.url(), headers, null, request.charset(), request.requestTemplate());
+        Response response;
+        try {
+            response = uploader.upload(uploadRequest, body, options);
+        } catch (IOException | RuntimeException e) {
+            // failed uploads keep repeatable bodies for a retry of the request
+            if (!body.isRepeatable()) {
+                registry.remove(bodyId);
+                closeQuietly(body, e);
+            }
+            throw e;
+        }
+        registry.remove(bodyId);
+        return response;
+    }
+
+    private static void closeQuietly(MultipartBody body, Exception failure) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+}
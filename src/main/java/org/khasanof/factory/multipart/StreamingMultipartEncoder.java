@@ -0,0 +1,163 @@
+package org.khasanof.factory.multipart;
+
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Encoder} streaming {@code multipart/form-data} bodies instead of encoding them into a byte array.
+ *
+ * <p>When a multipart request has a part backed by a {@link Path}, {@link File}, {@link MultipartFile},
+ * {@link Resource} or {@link InputStream}, the body is registered in the {@link MultipartBodyRegistry}
+ * and written to the connection by the {@link StreamingMultipartClient} while the request is sent. Parts
+ * may also be byte arrays, simple values and collections of these. Requests with other parts, such as
+ * POJOs, and all other requests are encoded by the delegate.</p>
+ *
+ * <p>A plain {@link InputStream} part can be sent only once, so such requests fail rather than being
+ * retried with a truncated body.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 8:40 PM
+ */
+public class StreamingMultipartEncoder implements Encoder {
+
+    private static final String TEXT_PLAIN_UTF8 = "text/plain; charset=UTF-8";
+
+    private final Encoder delegate;
+    private final MultipartBodyRegistry registry;
+
+    public StreamingMultipartEncoder(Encoder delegate, MultipartBodyRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) throws EncodeException {
+        MultipartBody body = isMultipart(template) ? body(object, bodyType) : null;
+        if (body == null) {
+            delegate.encode(object, bodyType, template);
+            return;
+        }
+        template.removeHeader(HttpHeaders.CONTENT_TYPE);
+        template.header(HttpHeaders.CONTENT_TYPE, body.getContentType());
+        registry.register(template, body);
+    }
+
+    private static boolean isMultipart(RequestTemplate template) {
+        Collection<String> contentType = template.headers().get(HttpHeaders.CONTENT_TYPE);
+        return contentType != null && contentType.stream()
+                .anyMatch(value -> value.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE));
+    }
+
+    private static MultipartBody body(Object object, Type bodyType) {
+        Map<?, ?> parts;
+        if (bodyType == MAP_STRING_WILDCARD && object instanceof Map<?, ?> formParams) {
+            parts = formParams;
+        } else if (object instanceof MultipartFile file) {
+            parts = Map.of(file.getName(), file);
+        } else if (object instanceof MultipartFile[] files && files.length > 0) {
+            parts = Map.of(files[0].getName(), files);
+        } else {
+            return null;
+        }
+        MultipartBody body = new MultipartBody();
+        boolean streaming = false;
+        try {
+            for (Map.Entry<?, ?> entry : parts.entrySet()) {
+                for (Object value : values(entry.getValue())) {
+                    if (value == null) {
+                        continue;
+                    }
+                    PartKind kind = part(body, String.valueOf(entry.getKey()), value);
+                    if (kind == PartKind.UNSUPPORTED) {
+                        return null;
+                    }
+                    streaming |= kind == PartKind.STREAMING;
+                }
+            }
+        } catch (IOException e) {
+            throw new EncodeException("Failed to prepare multipart body", e);
+        }
+        // bodies without files are small, the delegate encodes them as before
+        return streaming ? body : null;
+    }
+
+    private static PartKind part(MultipartBody body, String name, Object value) throws IOException {
+        if (value instanceof File file) {
+            value = file.toPath();
+        }
+        if (value instanceof Path path) {
+            String filename = path.getFileName().toString();
+            body.part(name, filename, contentType(filename), PartContent.of(path));
+        } else if (value instanceof MultipartFile file) {
+            String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : name;
+            String contentType = file.getContentType() != null ? file.getContentType() : contentType(filename);
+            body.part(name, filename, contentType, PartContent.of(file, file.getSize()));
+        } else if (value instanceof Resource resource) {
+            String filename = resource.getFilename() != null ? resource.getFilename() : name;
+            body.part(name, filename, contentType(filename), content(resource));
+        } else if (value instanceof InputStream stream) {
+            body.part(name, name, MediaType.APPLICATION_OCTET_STREAM_VALUE, PartContent.of(stream));
+        } else if (value instanceof byte[] bytes) {
+            body.part(name, name, MediaType.APPLICATION_OCTET_STREAM_VALUE, PartContent.of(bytes));
+            return PartKind.BUFFERED;
+        } else if (BeanUtils.isSimpleValueType(value.getClass())) {
+            body.part(name, null, TEXT_PLAIN_UTF8, PartContent.of(String.valueOf(value).getBytes(StandardCharsets.UTF_8)));
+            return PartKind.BUFFERED;
+        } else {
+            return PartKind.UNSUPPORTED;
+        }
+        return PartKind.STREAMING;
+    }
+
+    private static PartContent content(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return PartContent.of(resource.getFile().toPath());
+        }
+        if (resource instanceof ByteArrayResource byteArrayResource) {
+            return PartContent.of(byteArrayResource.getByteArray());
+        }
+        return PartContent.of(resource, -1);
+    }
+
+    private static Collection<?> values(Object value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection;
+        }
+        if (value instanceof Object[] array) {
+            return Arrays.asList(array);
+        }
+        return List.of(value);
+    }
+
+    private static String contentType(String filename) {
+        return MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    private enum PartKind {
+        STREAMING, BUFFERED, UNSUPPORTED
+    }
+}
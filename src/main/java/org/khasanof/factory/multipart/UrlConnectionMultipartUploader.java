@@ -0,0 +1,82 @@
+package org.khasanof.factory.multipart;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@link MultipartUploader} of {@link Client.Default}, streaming the body over an {@link HttpURLConnection}.
+ *
+ * <p>Bodies of known length are sent in fixed-length streaming mode, all others with chunked transfer
+ * encoding. The connection is opened by the transport client, so proxy settings apply.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.multipart
+ * @since 10/17/2026 8:52 PM
+ */
+public class UrlConnectionMultipartUploader implements MultipartUploader {
+
+    private final Client.Default client;
+    private final int chunkSize;
+
+    public UrlConnectionMultipartUploader(Client.Default client, int chunkSize) {
+        this.client = client;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Response upload(Request request, MultipartBody body, Request.Options options) throws IOException {
+        HttpURLConnection connection = client.getConnection(URI.create(request.url()).toURL());
+        connection.setConnectTimeout(options.connectTimeoutMillis());
+        connection.setReadTimeout(options.readTimeoutMillis());
+        connection.setAllowUserInteraction(false);
+        connection.setInstanceFollowRedirects(options.isFollowRedirects());
+        connection.setRequestMethod(request.httpMethod().name());
+        request.headers().forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                values.forEach(value -> connection.addRequestProperty(name, value));
+            }
+        });
+        long contentLength = body.getContentLength();
+        if (contentLength >= 0) {
+            connection.setFixedLengthStreamingMode(contentLength);
+        } else {
+            connection.setChunkedStreamingMode(chunkSize);
+        }
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            body.writeTo(out);
+        }
+        return response(request, connection);
+    }
+
+    private static Response response(Request request, HttpURLConnection connection) throws IOException {
+        int status = connection.getResponseCode();
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        connection.getHeaderFields().forEach((name, values) -> {
+            // the status line is returned under the null key
+            if (name != null) {
+                headers.put(name, values);
+            }
+        });
+        long length = connection.getContentLengthLong();
+        InputStream stream = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        return Response.builder()
+                .status(status)
+                .reason(connection.getResponseMessage())
+                .headers(headers)
+                .request(request)
+                .body(stream, length >= 0 && length <= Integer.MAX_VALUE ? (int) length : null)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package org.khasanof.factory.retry;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.metrics.ClientMetrics;
+
+import java.net.ConnectException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link Retryer} bounded by the {@link RetryBudget} of the service and the deadline of the call.
+ *
+ * <p>Only idempotent requests are retried, and requests of any method whose connection could not be
+ * established. The backoff grows exponentially with jitter, or follows the {@code Retry-After} of the
+ * response. A retry is given up when the backoff would end after the deadline of the call or when the
+ * retry budget of the service is exhausted.</p>
+ *
+ * <p>Feign clones the retryer for every call, which counts the call in the budget.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:31 PM
+ */
+public class BudgetedRetryer implements Retryer {
+
+    private static final Set<Request.HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(Request.HttpMethod.GET,
+            Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS, Request.HttpMethod.PUT, Request.HttpMethod.DELETE,
+            Request.HttpMethod.TRACE);
+
+    private final ModulesClientFactoryProperties.Retry properties;
+    private final RetryBudget budget;
+    private final ClientMetrics clientMetrics;
+    private final String serviceName;
+    private int attempt = 1;
+
+    public BudgetedRetryer(ModulesClientFactoryProperties.Retry properties, RetryBudget budget, ClientMetrics clientMetrics,
+                           String serviceName) {
+        this.properties = properties;
+        this.budget = budget;
+        this.clientMetrics = clientMetrics;
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * Returns whether a request of the given method may be sent twice without changing the outcome.
+     *
+     * @param method the HTTP method.
+     * @return {@code true} for idempotent methods.
+     */
+    public static boolean isIdempotent(Request.HttpMethod method) {
+        return IDEMPOTENT_METHODS.contains(method);
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (attempt >= properties.getMaxAttempts() || !isRetryable(e)) {
+            throw e;
+        }
+        long interval = interval(e);
+        Long deadline = RequestDeadline.of(e.request());
+        if (deadline != null && System.currentTimeMillis() + interval >= deadline) {
+            record("deadline");
+            throw e;
+        }
+        if (!budget.tryWithdraw()) {
+            record("budget");
+            throw e;
+        }
+        record("retried");
+        try {
+            Thread.sleep(interval);
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        attempt++;
+    }
+
+    @Override
+    public Retryer clone() {
+        budget.deposit();
+        return new BudgetedRetryer(properties, budget, clientMetrics, serviceName);
+    }
+
+    private static boolean isRetryable(RetryableException e) {
+        return (e.method() != null && isIdempotent(e.method())) || e.getCause() instanceof ConnectException;
+    }
+
+    private long interval(RetryableException e) {
+        long maxBackoff = properties.getMaxBackoff().toMillis();
+        if (e.retryAfter() != null) {
+            return Math.max(0, Math.min(maxBackoff, e.retryAfter() - System.currentTimeMillis()));
+        }
+        long backoff = Math.min(maxBackoff, properties.getBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private void record(String result) {
+        if (clientMetrics.isEnabled()) {
+            clientMetrics.recordRetry(serviceName, result);
+        }
+    }
+}
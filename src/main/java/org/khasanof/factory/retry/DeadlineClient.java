@@ -0,0 +1,45 @@
+package org.khasanof.factory.retry;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Client} decorator bounding every attempt of a call by the deadline of the call.
+ *
+ * <p>Attempts starting after the deadline fail with a {@link DeadlineExceededException}; other attempts run
+ * with their connect and read timeouts shortened to the time left.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:27 PM
+ */
+public class DeadlineClient implements Client {
+
+    private final Client delegate;
+
+    public DeadlineClient(Client delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Long deadline = RequestDeadline.of(request);
+        if (deadline == null) {
+            return delegate.execute(request, options);
+        }
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException("Deadline of " + request.httpMethod() + " " + request.url()
+                    + " exceeded by " + -remaining + " ms");
+        }
+        if (remaining < options.connectTimeoutMillis() || remaining < options.readTimeoutMillis()) {
+            options = new Request.Options(Math.min(remaining, options.connectTimeoutMillis()), TimeUnit.MILLISECONDS,
+                    Math.min(remaining, options.readTimeoutMillis()), TimeUnit.MILLISECONDS, options.isFollowRedirects());
+        }
+        return delegate.execute(request, options);
+    }
+}
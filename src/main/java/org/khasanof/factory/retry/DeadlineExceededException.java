@@ -0,0 +1,21 @@
+package org.khasanof.factory.retry;
+
+import feign.FeignException;
+
+/**
+ * Thrown when an attempt of a call would start after the deadline of the call.
+ *
+ * <p>The exception is not an {@link java.io.IOException}, so Feign does not retry the call.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:25 PM
+ */
+public class DeadlineExceededException extends FeignException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(String message) {
+        super(-1, message);
+    }
+}
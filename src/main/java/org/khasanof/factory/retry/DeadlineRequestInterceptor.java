@@ -0,0 +1,42 @@
+package org.khasanof.factory.retry;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * {@link RequestInterceptor} attaching the deadline of a call in the {@value RequestDeadline#HEADER} header.
+ *
+ * <p>The deadline is the earlier of the {@link RequestDeadline#current() deadline of the thread} and the
+ * default deadline of the calls. It is set on the first attempt only; retries of the call reuse the
+ * template and therefore share its deadline.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:22 PM
+ */
+public class DeadlineRequestInterceptor implements RequestInterceptor {
+
+    private final Duration defaultDeadline;
+
+    public DeadlineRequestInterceptor(Duration defaultDeadline) {
+        this.defaultDeadline = defaultDeadline;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (template.headers().containsKey(RequestDeadline.HEADER)) {
+            return;
+        }
+        Instant deadline = RequestDeadline.current();
+        if (defaultDeadline != null) {
+            Instant defaultInstant = Instant.now().plus(defaultDeadline);
+            deadline = deadline == null || defaultInstant.isBefore(deadline) ? defaultInstant : deadline;
+        }
+        if (deadline != null) {
+            template.header(RequestDeadline.HEADER, Long.toString(deadline.toEpochMilli()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.khasanof.factory.retry;
+
+import java.lang.annotation.*;
+
+/**
+ * Opts idempotent methods of a client interface into hedged requests.
+ *
+ * <p>When a call of an annotated method has not received a response after the {@link #percentile()} of
+ * the recent latency of the method, another attempt of the same request is sent and the first response
+ * received is returned. The load balancer counts the pending attempt as in flight, so the hedge is sent to
+ * another instance whenever one is available. Hedges are paid from the retry budget of the service and
+ * are only sent when {@code modules.client.factory.retry.enabled} is set.</p>
+ *
+ * <p>Placed on the interface, the annotation applies to all of its {@code GET}, {@code HEAD},
+ * {@code OPTIONS}, {@code PUT} and {@code DELETE} methods; an annotation on a method takes precedence over
+ * the one on the interface. Other methods are never hedged.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:05 PM
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Hedged {
+
+    /**
+     * Percentile of the recent latency of the method after which a hedge is sent.
+     */
+    double percentile() default 0.95;
+
+    /**
+     * Maximum number of hedges sent in addition to the first attempt.
+     */
+    int maxHedges() default 1;
+}
@@ -0,0 +1,261 @@
+package org.khasanof.factory.retry;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.metrics.ClientMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Client} decorator hedging the calls of {@link Hedged} methods.
+ *
+ * <p>The attempts of a hedged call run on the given executor while the calling thread waits. When the first
+ * attempt has not received a response after the configured percentile of the recent latency of the method,
+ * another attempt is sent, as long as the retry budget of the service allows it and the deadline of the
+ * call has not passed. The first response received is returned and the responses of the other attempts are
+ * closed as they arrive. The call fails only once every attempt failed. The wait for the last attempt is
+ * bounded by the deadline of the call, or by the connect and read timeouts otherwise. A caller interrupted or
+ * timed out while waiting abandons the call, and every response of its attempts is closed.</p>
+ *
+ * <p>Until {@link ModulesClientFactoryProperties.Retry.Hedge#getMinimumSamples()} calls of a method
+ * completed, its calls are sent once on the calling thread to learn the latency. The executor should reject
+ * attempts when saturated rather than queue or run them on the caller: a rejected first attempt is sent on
+ * the calling thread without hedging, and a rejected hedge is not sent.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:38 PM
+ */
+public class HedgingClient implements Client {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgingClient.class);
+
+    private final Client delegate;
+    private final Map<Method, Policy> policies = new HashMap<>();
+    private final long minDelayNanos;
+    private final RetryBudget budget;
+    private final Executor executor;
+    private final ClientMetrics clientMetrics;
+    private final String serviceName;
+    private final String client;
+
+    public HedgingClient(Client delegate, Map<Method, Hedged> hedgedMethods, ModulesClientFactoryProperties.Retry.Hedge properties,
+                         RetryBudget budget, Executor executor, ClientMetrics clientMetrics, String serviceName, Class<?> clientClass) {
+        this.delegate = delegate;
+        this.minDelayNanos = properties.getMinDelay().toNanos();
+        this.budget = budget;
+        this.executor = executor;
+        this.clientMetrics = clientMetrics;
+        this.serviceName = serviceName;
+        this.client = clientClass.getSimpleName();
+        hedgedMethods.forEach((method, hedged) -> policies.put(method,
+                new Policy(hedged, new LatencyWindow(properties.getWindowSize(), properties.getMinimumSamples()))));
+    }
+
+    /**
+     * Returns the hedged methods of a client interface.
+     *
+     * @param metadata the contract metadata of the client interface.
+     * @return the {@link Hedged} annotation of each idempotent method that is hedged.
+     */
+    public static Map<Method, Hedged> hedgedMethods(Collection<MethodMetadata> metadata) {
+        Map<Method, Hedged> hedgedMethods = new HashMap<>();
+        for (MethodMetadata methodMetadata : metadata) {
+            Method method = methodMetadata.method();
+            Hedged typeAnnotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Hedged.class);
+            Hedged hedged = AnnotatedElementUtils.findMergedAnnotation(method, Hedged.class);
+            if (hedged == null) {
+                hedged = typeAnnotation;
+            }
+            if (hedged == null) {
+                continue;
+            }
+            Request.HttpMethod httpMethod = Request.HttpMethod.valueOf(methodMetadata.template().method());
+            if (!BudgetedRetryer.isIdempotent(httpMethod)) {
+                if (hedged != typeAnnotation) {
+                    log.warn("@Hedged ignored on non-idempotent method {}", methodMetadata.configKey());
+                }
+                continue;
+            }
+            hedgedMethods.put(method, hedged);
+        }
+        return hedgedMethods;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Policy policy = policy(request);
+        if (policy == null) {
+            return delegate.execute(request, options);
+        }
+        long delay = policy.window.percentile(policy.hedged.percentile());
+        if (delay < 0) {
+            long start = System.nanoTime();
+            Response response = delegate.execute(request, options);
+            policy.window.record(System.nanoTime() - start);
+            return response;
+        }
+        HedgedCall call = new HedgedCall(request, options, policy);
+        if (!call.attempt(0)) {
+            return delegate.execute(request, options);
+        }
+        delay = Math.max(delay, minDelayNanos);
+        try {
+            for (int hedge = 1; hedge <= policy.hedged.maxHedges(); hedge++) {
+                try {
+                    return call.result.get(delay, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (!isBeforeDeadline(request, delay)) {
+                        break;
+                    }
+                    if (!budget.tryWithdraw()) {
+                        record("budget");
+                        break;
+                    }
+                    if (!call.attempt(hedge)) {
+                        record("rejected");
+                        break;
+                    }
+                    record("sent");
+                }
+            }
+            return awaitLast(call, request, options);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (InterruptedException e) {
+            call.abandon();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for hedged call of " + request.url());
+        }
+    }
+
+    private static Response awaitLast(HedgedCall call, Request request, Request.Options options)
+            throws ExecutionException, InterruptedException, IOException {
+        Long deadline = RequestDeadline.of(request);
+        long timeoutMillis = options.connectTimeoutMillis() + options.readTimeoutMillis();
+        if (deadline != null) {
+            timeoutMillis = Math.min(timeoutMillis, deadline - System.currentTimeMillis());
+        }
+        try {
+            return call.result.get(Math.max(timeoutMillis, 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            call.abandon();
+            if (deadline != null && System.currentTimeMillis() >= deadline) {
+                throw new DeadlineExceededException("Deadline of " + request.httpMethod() + " " + request.url()
+                        + " exceeded while waiting for hedged attempts");
+            }
+            throw new SocketTimeoutException("Timed out waiting for hedged attempts of " + request.url());
+        }
+    }
+
+    private Policy policy(Request request) {
+        if (request.requestTemplate() == null || request.requestTemplate().methodMetadata() == null) {
+            return null;
+        }
+        return policies.get(request.requestTemplate().methodMetadata().method());
+    }
+
+    private static boolean isBeforeDeadline(Request request, long delayNanos) {
+        Long deadline = RequestDeadline.of(request);
+        return deadline == null || System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(delayNanos) < deadline;
+    }
+
+    private static IOException failure(Throwable cause) {
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+
+    private void record(String result) {
+        if (clientMetrics.isEnabled()) {
+            clientMetrics.recordHedge(serviceName, client, result);
+        }
+    }
+
+    private record Policy(Hedged hedged, LatencyWindow window) {
+    }
+
+    /**
+     * Attempts of one hedged call racing for its result.
+     */
+    private final class HedgedCall {
+
+        private final Request request;
+        private final Request.Options options;
+        private final Policy policy;
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile Throwable firstFailure;
+
+        HedgedCall(Request request, Request.Options options, Policy policy) {
+            this.request = request;
+            this.options = options;
+            this.policy = policy;
+        }
+
+        /**
+         * Gives up the call, closing the responses of its attempts still running, or the response that won
+         * the race after the caller stopped waiting.
+         */
+        void abandon() {
+            // a cancelled result makes the running attempts close their responses
+            result.cancel(false);
+            result.thenAccept(Response::close);
+        }
+
+        boolean attempt(int index) {
+            pending.incrementAndGet();
+            try {
+                executor.execute(() -> run(index));
+                return true;
+            } catch (RejectedExecutionException e) {
+                pending.decrementAndGet();
+                return false;
+            }
+        }
+
+        private void run(int index) {
+            long start = System.nanoTime();
+            Response response;
+            try {
+                response = delegate.execute(request, options);
+            } catch (Throwable e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+                if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(firstFailure);
+                }
+                return;
+            }
+            policy.window.record(System.nanoTime() - start);
+            pending.decrementAndGet();
+            if (!result.complete(response)) {
+                response.close();
+            } else if (index > 0) {
+                record("won");
+            }
+        }
+    }
+}
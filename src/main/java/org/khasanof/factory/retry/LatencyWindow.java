@@ -0,0 +1,56 @@
+package org.khasanof.factory.retry;
+
+import java.util.Arrays;
+
+/**
+ * Latency of the most recent calls of a client method, used to derive the delay of hedges.
+ *
+ * <p>The samples are kept in a ring buffer. Every eighth of the window, the thread recording a sample
+ * sorts a snapshot of the buffer under the lock; percentile queries read the last snapshot without locking
+ * or sorting.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:08 PM
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private final int minimumSamples;
+    private final int refreshInterval;
+    private int next;
+    private long count;
+    private volatile long[] snapshot = new long[0];
+
+    LatencyWindow(int size, int minimumSamples) {
+        this.samples = new long[Math.max(size, 1)];
+        this.minimumSamples = Math.min(Math.max(minimumSamples, 1), samples.length);
+        this.refreshInterval = Math.max(samples.length / 8, 1);
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count++;
+        if (count >= minimumSamples && (count == minimumSamples || count % refreshInterval == 0)) {
+            long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+            Arrays.sort(sorted);
+            snapshot = sorted;
+        }
+    }
+
+    /**
+     * Returns a percentile of the recorded latency.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return the latency in nanoseconds, or {@code -1} until the minimum number of samples is recorded.
+     */
+    long percentile(double percentile) {
+        long[] sorted = snapshot;
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,114 @@
+package org.khasanof.factory.retry;
+
+import feign.Request;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+/**
+ * Deadline of the calls made by the current thread, propagated to the called services as a header.
+ *
+ * <p>The deadline is sent in the {@value #HEADER} header as epoch milliseconds. A service receiving the
+ * header can adopt it for the calls it makes while handling the request with {@link #call(Instant, Callable)},
+ * so that a deadline set at the edge bounds the whole call tree.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:18 PM
+ */
+public final class RequestDeadline {
+
+    /**
+     * Header carrying the deadline of a call as epoch milliseconds.
+     */
+    public static final String HEADER = "X-Request-Deadline";
+
+    private static final ThreadLocal<Instant> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Runs a task with the given deadline applied to the calls it makes.
+     *
+     * <p>An earlier deadline already set on the thread is kept.</p>
+     *
+     * @param deadline the deadline.
+     * @param task the task.
+     * @param <T> the result type of the task.
+     * @return the result of the task.
+     * @throws Exception if the task fails.
+     */
+    public static <T> T call(Instant deadline, Callable<T> task) throws Exception {
+        Instant previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.isBefore(deadline) ? previous : deadline);
+        try {
+            return task.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Runs a task with a deadline the given timeout from now applied to the calls it makes.
+     *
+     * @param timeout the time the task may take.
+     * @param task the task.
+     * @param <T> the result type of the task.
+     * @return the result of the task.
+     * @throws Exception if the task fails.
+     */
+    public static <T> T call(Duration timeout, Callable<T> task) throws Exception {
+        return call(Instant.now().plus(timeout), task);
+    }
+
+    /**
+     * Returns the deadline set on the current thread.
+     *
+     * @return the deadline, or {@code null} if none is set.
+     */
+    public static Instant current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Parses a deadline header value.
+     *
+     * @param value the header value.
+     * @return the deadline, or {@code null} if the value is missing or malformed.
+     */
+    public static Instant parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the deadline carried by a request.
+     *
+     * @param request the request.
+     * @return the deadline in epoch milliseconds, or {@code null} if the request has none.
+     */
+    static Long of(Request request) {
+        if (request == null) {
+            return null;
+        }
+        Collection<String> values = request.headers().get(HEADER);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        Instant deadline = parse(values.iterator().next());
+        return deadline != null ? deadline.toEpochMilli() : null;
+    }
+}
@@ -0,0 +1,84 @@
+package org.khasanof.factory.retry;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Budget of the retries and hedges sent to one service, as a ratio of its calls.
+ *
+ * <p>Calls and retries are counted over the last ten seconds. A retry is allowed while the retries in that
+ * window stay below {@link ModulesClientFactoryProperties.Retry#getBudgetRatio()} of the calls, plus a
+ * small allowance of {@link ModulesClientFactoryProperties.Retry#getMinRetriesPerSecond()} for services
+ * with little traffic. When a service fails entirely the retries are capped at the ratio, instead of
+ * multiplying the load by the number of attempts.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:12 PM
+ */
+public class RetryBudget {
+
+    private static final int WINDOW_SECONDS = 10;
+
+    private final double ratio;
+    private final int minRetriesPerSecond;
+    private final long[] seconds = new long[WINDOW_SECONDS];
+    private final long[] calls = new long[WINDOW_SECONDS];
+    private final long[] retries = new long[WINDOW_SECONDS];
+    private final LongSupplier nanoTime;
+
+    public RetryBudget(double ratio, int minRetriesPerSecond) {
+        this(ratio, minRetriesPerSecond, System::nanoTime);
+    }
+
+    RetryBudget(double ratio, int minRetriesPerSecond, LongSupplier nanoTime) {
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Counts a call, adding to the budget.
+     */
+    public synchronized void deposit() {
+        calls[bucket(currentSecond())]++;
+    }
+
+    /**
+     * Takes a retry from the budget.
+     *
+     * @return {@code true} if the retry may be sent, {@code false} if the budget is exhausted.
+     */
+    public synchronized boolean tryWithdraw() {
+        long now = currentSecond();
+        int bucket = bucket(now);
+        long windowCalls = 0;
+        long windowRetries = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            if (now - seconds[i] < WINDOW_SECONDS) {
+                windowCalls += calls[i];
+                windowRetries += retries[i];
+            }
+        }
+        if (windowRetries + 1 > (long) minRetriesPerSecond * WINDOW_SECONDS + ratio * windowCalls) {
+            return false;
+        }
+        retries[bucket]++;
+        return true;
+    }
+
+    private int bucket(long second) {
+        int bucket = Math.floorMod(second, WINDOW_SECONDS);
+        if (seconds[bucket] != second) {
+            seconds[bucket] = second;
+            calls[bucket] = 0;
+            retries[bucket] = 0;
+        }
+        return bucket;
+    }
+
+    private long currentSecond() {
+        return nanoTime.getAsLong() / 1_000_000_000L;
+    }
+}
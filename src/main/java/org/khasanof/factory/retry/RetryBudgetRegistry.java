@@ -0,0 +1,65 @@
+package org.khasanof.factory.retry;
+
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.util.ExecutorUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Registry of the {@link RetryBudget} of each target service.
+ *
+ * <p>A budget is shared by all clients of a service, so that the retries of one client are bounded by the
+ * whole traffic the application sends to the service.</p>
+ *
+ * <p>The registry also holds the executor of the hedged attempts, which is separate from the executor of
+ * the asynchronous clients: a hedge waiting behind queued calls would be too late, and a call waiting for
+ * its own hedges on a shared pool could starve it. On JDK 17 the executor rejects attempts once
+ * {@link ModulesClientFactoryProperties.Retry.Hedge#getMaxThreads()} are running, and the calls are then sent
+ * without hedging. Its threads are daemons timing out when idle, so it needs no shutdown.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/17/2026 10:15 PM
+ */
+public class RetryBudgetRegistry {
+
+    private final ModulesClientFactoryProperties.Retry properties;
+    private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+    private final ExecutorService hedgeExecutor;
+
+    public RetryBudgetRegistry(ModulesClientFactoryProperties.Retry properties) {
+        this.properties = properties;
+        this.hedgeExecutor = ExecutorUtil.isVirtualThreadsSupported() ? ExecutorUtil.newVirtualThreadPerTaskExecutor()
+                : ExecutorUtil.newRejectingExecutor("ms-client-hedge-", properties.getHedge().getMaxThreads());
+    }
+
+    public ModulesClientFactoryProperties.Retry getProperties() {
+        return properties;
+    }
+
+    public ExecutorService getHedgeExecutor() {
+        return hedgeExecutor;
+    }
+
+    /**
+     * Returns the retry budget of a service, creating it on first use.
+     *
+     * @param serviceName the target service name.
+     * @return the {@link RetryBudget} of the service.
+     */
+    public RetryBudget get(String serviceName) {
+        return budgets.computeIfAbsent(serviceName,
+                key -> new RetryBudget(properties.getBudgetRatio(), properties.getMinRetriesPerSecond()));
+    }
+
+    /**
+     * Drops the retry budget of a service, e.g. once the tenant calling it is evicted.
+     *
+     * @param serviceName the target service name.
+     */
+    public void evict(String serviceName) {
+        budgets.remove(serviceName);
+    }
+}
@@ -0,0 +1,65 @@
+package org.khasanof.factory.tenant;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.khasanof.factory.util.JwtClaimsUtil;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Collection;
+
+/**
+ * Default {@link TenantResolver}: the tenant set on the thread with {@link TenantContext}, otherwise the Keycloak
+ * realm that issued the access token of the caller.
+ *
+ * <p>The realm is read from the {@code iss} claim of the token relayed by the {@code SESSION} strategy, e.g.
+ * {@code tenant-a} for {@code https://sso.example.com/realms/tenant-a}. The signature is not verified, since
+ * the token was already accepted by the resource server and the realm only selects the clients. Without a token
+ * relay only {@link TenantContext} is used.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.tenant
+ * @since 10/18/2026 1:04 AM
+ */
+public class IssuerTenantResolver implements TenantResolver {
+
+    private static final String REALMS = "/realms/";
+
+    private final RequestInterceptor tokenRelay;
+
+    public IssuerTenantResolver(RequestInterceptor tokenRelay) {
+        this.tokenRelay = tokenRelay;
+    }
+
+    @Override
+    public String resolveTenant() {
+        String tenantId = TenantContext.current();
+        if (tenantId != null || tokenRelay == null) {
+            return tenantId;
+        }
+        return realm(authorization());
+    }
+
+    private String authorization() {
+        RequestTemplate template = new RequestTemplate();
+        try {
+            tokenRelay.apply(template);
+        } catch (RuntimeException e) {
+            // no caller, e.g. a call made outside of a request
+            return null;
+        }
+        Collection<String> values = template.headers().get(HttpHeaders.AUTHORIZATION);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    static String realm(String authorization) {
+        JsonNode claims = JwtClaimsUtil.claims(authorization);
+        JsonNode iss = claims != null ? claims.get("iss") : null;
+        if (iss == null || !iss.isTextual()) {
+            return null;
+        }
+        String issuer = iss.asText();
+        int index = issuer.lastIndexOf(REALMS);
+        return index >= 0 ? issuer.substring(index + REALMS.length()) : null;
+    }
+}
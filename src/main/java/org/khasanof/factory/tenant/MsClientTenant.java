@@ -0,0 +1,19 @@
+package org.khasanof.factory.tenant;
+
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+import org.khasanof.modules.client.core.config.ModulesClientCoreProperties;
+
+/**
+ * Client configuration of a tenant.
+ *
+ * @param tenantId the tenant id.
+ * @param serviceName the service name or base URL of the modules of the tenant.
+ * @param strategy the token strategy of the clients of the tenant.
+ * @param clientProperties the client credentials of the tenant realm, required by the {@code PER_REQUEST} strategy.
+ * @author Nurislom
+ * @see org.khasanof.factory.tenant
+ * @since 10/18/2026 1:09 AM
+ */
+public record MsClientTenant(String tenantId, String serviceName, ReceiveTokenStrategy strategy,
+                             ModulesClientCoreProperties clientProperties) {
+}
@@ -0,0 +1,24 @@
+package org.khasanof.factory.tenant;
+
+/**
+ * Looks up the client configuration of a tenant.
+ *
+ * <p>Called once per tenant until the clients of the tenant are evicted, so implementations may read the
+ * configuration from a database or a configuration service. Define a bean of this type to replace the tenants
+ * configured in {@code modules.client.factory.tenancy.tenants}.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.tenant
+ * @since 10/18/2026 1:11 AM
+ */
+@FunctionalInterface
+public interface MsClientTenantProvider {
+
+    /**
+     * Returns the client configuration of a tenant.
+     *
+     * @param tenantId the tenant id.
+     * @return the {@link MsClientTenant}, or {@code null} if the tenant is unknown.
+     */
+    MsClientTenant getTenant(String tenantId);
+}
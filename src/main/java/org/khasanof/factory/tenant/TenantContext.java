@@ -0,0 +1,53 @@
+package org.khasanof.factory.tenant;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Tenant of the calls made by the current thread.
+ *
+ * <p>A tenant set with {@link #call(String, Callable)} takes precedence over the one the {@link TenantResolver}
+ * would resolve, e.g. for scheduled jobs and message listeners working on behalf of a tenant without a caller.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.tenant
+ * @since 10/18/2026 12:58 AM
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * Runs a task with the calls it makes routed to the clients of the given tenant.
+     *
+     * @param tenantId the tenant id.
+     * @param task the task.
+     * @param <T> the result type of the task.
+     * @return the result of the task.
+     * @throws Exception if the task fails.
+     */
+    public static <T> T call(String tenantId, Callable<T> task) throws Exception {
+        String previous = CURRENT.get();
+        CURRENT.set(tenantId);
+        try {
+            return task.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the tenant set on the current thread.
+     *
+     * @return the tenant id, or {@code null} if none is set.
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,68 @@
+package org.khasanof.factory.tenant;
+
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import org.khasanof.factory.codec.BinaryFormat;
+import org.khasanof.factory.configurer.BaseMsClientConfigurer;
+import org.khasanof.factory.enumeration.ReceiveTokenStrategy;
+
+import java.util.List;
+
+/**
+ * {@link BaseMsClientConfigurer} of a tenant, overriding the service name and token strategy of the application
+ * configurer.
+ *
+ * <p>Encoders, decoders and binary formats are taken from the application configurer, so the clients of every
+ * tenant share them instead of building their own.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.tenant
+ * @since 10/18/2026 1:14 AM
+ */
+public class TenantMsClientConfigurer implements BaseMsClientConfigurer {
+
+    private final BaseMsClientConfigurer delegate;
+    private final String serviceName;
+    private final ReceiveTokenStrategy strategy;
+
+    public TenantMsClientConfigurer(BaseMsClientConfigurer delegate, MsClientTenant tenant) {
+        this.delegate = delegate;
+        this.serviceName = tenant.serviceName() != null ? tenant.serviceName() : delegate.getServiceName();
+        this.strategy = tenant.strategy() != null ? tenant.strategy() : delegate.getStrategy();
+    }
+
+    @Override
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    @Override
+    public ReceiveTokenStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public Encoder getEncoder() {
+        return delegate.getEncoder();
+    }
+
+    @Override
+    public Decoder getDecoder() {
+        return delegate.getDecoder();
+    }
+
+    @Override
+    public Encoder getEncoder(Class<?> clientClass) {
+        return delegate.getEncoder(clientClass);
+    }
+
+    @Override
+    public Decoder getDecoder(Class<?> clientClass) {
+        return delegate.getDecoder(clientClass);
+    }
+
+    @Override
+    public List<BinaryFormat> getBinaryFormats() {
+        return delegate.getBinaryFormats();
+    }
+}
@@ -0,0 +1,244 @@
+package org.khasanof.factory.tenant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.khasanof.factory.cache.ClientProxyCacheStats;
+import org.khasanof.factory.BaseMsClientFactory;
+import org.khasanof.factory.MsClientFactoryContext;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.token.AccessTokenCache;
+import org.khasanof.factory.token.AccessTokenKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.function.Function;
+
+import static org.khasanof.factory.util.ServiceNameUtil.checkStartWithHttp;
+
+/**
+ * {@link BaseMsClientFactory} routing every call to the clients of the tenant of the caller.
+ *
+ * <p>{@code create} returns a routing proxy that can be injected once: each call resolves the tenant with the
+ * {@link TenantResolver} and is made through the client built for that tenant, with its own service name,
+ * token strategy and credentials. Calls without a tenant go to the default factory of the application. Both
+ * token strategies may be used side by side by different tenants.</p>
+ *
+ * <p>The factory of a tenant is created on first use from its {@link MsClientTenant} and its clients are
+ * cached in the shared client proxy cache like the default ones, so no client is built per call. Tenants
+ * unused for {@code expireAfterAccess}, or beyond {@code maximumSize}, are evicted together with their client
+ * proxies, cached responses and cached token. The state kept per service name, i.e. the concurrency limiter,
+ * retry budget, negotiated formats, load balancer statistics and meters, is dropped as well once no other
+ * loaded tenant nor the default clients call the service of the evicted tenant. Tenants share the transport,
+ * whose per-route connection limits keep the pools of tenants on different hosts apart.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.tenant
+ * @since 10/18/2026 1:18 AM
+ */
+public class TenantMsClientFactory implements BaseMsClientFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantMsClientFactory.class);
+
+    // routes are keyed by caller supplied URLs; an evicted routing proxy keeps working for its holders
+    private static final long MAXIMUM_ROUTES = 1_024;
+
+    private final BaseMsClientFactory defaultFactory;
+    private final String defaultServiceName;
+    private final TenantResolver tenantResolver;
+    private final MsClientFactoryContext context;
+    private final AccessTokenCache accessTokenCache;
+    private final LoadingCache<String, TenantClients> tenants;
+    private final Cache<Route, Object> routes = Caffeine.newBuilder().maximumSize(MAXIMUM_ROUTES).build();
+
+    public TenantMsClientFactory(BaseMsClientFactory defaultFactory, String defaultServiceName,
+                                 Function<MsClientTenant, BaseMsClientFactory> tenantFactories, TenantResolver tenantResolver,
+                                 MsClientTenantProvider tenantProvider, MsClientFactoryContext context,
+                                 AccessTokenCache accessTokenCache, ModulesClientFactoryProperties.Tenancy properties) {
+        this.defaultFactory = defaultFactory;
+        this.defaultServiceName = defaultServiceName;
+        this.tenantResolver = tenantResolver;
+        this.context = context;
+        this.accessTokenCache = accessTokenCache;
+        this.tenants = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .removalListener(this::onRemoval)
+                .build(tenantId -> {
+                    MsClientTenant tenant = tenantProvider.getTenant(tenantId);
+                    if (tenant == null) {
+                        throw new IllegalStateException("Unknown tenant " + tenantId);
+                    }
+                    return new TenantClients(tenant, tenantFactories.apply(tenant));
+                });
+    }
+
+    public BaseMsClientFactory getDefaultFactory() {
+        return defaultFactory;
+    }
+
+    /**
+     * Returns the factory building the clients of a tenant, for calls made on behalf of a tenant explicitly.
+     *
+     * @param tenantId the tenant id, or {@code null} for the default factory.
+     * @return the {@link BaseMsClientFactory} of the tenant.
+     */
+    public BaseMsClientFactory forTenant(String tenantId) {
+        return tenantId == null ? defaultFactory : tenants.get(tenantId).factory();
+    }
+
+    /**
+     * Evicts the factory, client proxies and cached token of a tenant, e.g. after its configuration changed.
+     *
+     * @param tenantId the tenant id.
+     */
+    public void evictTenant(String tenantId) {
+        tenants.invalidate(tenantId);
+    }
+
+    @Override
+    public <T> T create(Class<T> clientClass) {
+        return route(clientClass, null, false);
+    }
+
+    @Override
+    public <T> T create(Class<T> clientClass, String url) {
+        return route(clientClass, url, false);
+    }
+
+    @Override
+    public <T> T createAsync(Class<T> clientClass) {
+        return route(clientClass, null, true);
+    }
+
+    @Override
+    public <T> T createAsync(Class<T> clientClass, String url) {
+        return route(clientClass, url, true);
+    }
+
+    /**
+     * Evicts the cached client proxies of the specified client class of the default clients and of every
+     * loaded tenant.
+     *
+     * @param clientClass the class of the Feign client to evict.
+     */
+    @Override
+    public void evict(Class<?> clientClass) {
+        defaultFactory.evict(clientClass);
+        tenants.asMap().values().forEach(clients -> clients.factory().evict(clientClass));
+    }
+
+    /**
+     * Evicts the cached client proxies of the specified client class and URL of the default clients and of
+     * every loaded tenant.
+     *
+     * @param clientClass the class of the Feign client to evict.
+     * @param url the base URL the Feign client was built with.
+     */
+    @Override
+    public void evict(Class<?> clientClass, String url) {
+        defaultFactory.evict(clientClass, url);
+        tenants.asMap().values().forEach(clients -> clients.factory().evict(clientClass, url));
+    }
+
+    @Override
+    public void clear() {
+        tenants.invalidateAll();
+        defaultFactory.clear();
+    }
+
+    @Override
+    public ClientProxyCacheStats stats() {
+        return defaultFactory.stats();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T route(Class<T> clientClass, String url, boolean async) {
+        return (T) routes.get(new Route(clientClass, url, async), route -> Proxy.newProxyInstance(clientClass.getClassLoader(),
+                new Class<?>[]{clientClass}, new RoutingInvocationHandler(route)));
+    }
+
+    private Object target(Route route) {
+        BaseMsClientFactory factory = forTenant(tenantResolver.resolveTenant());
+        if (route.url() == null) {
+            return route.async() ? factory.createAsync(route.clientClass()) : factory.create(route.clientClass());
+        }
+        return route.async() ? factory.createAsync(route.clientClass(), route.url()) : factory.create(route.clientClass(), route.url());
+    }
+
+    private void onRemoval(String tenantId, TenantClients clients, RemovalCause cause) {
+        if (tenantId == null || clients == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        log.debug("Evicting the clients of tenant {} ({})", tenantId, cause);
+        context.getClientProxyCache().evictTenant(tenantId);
+        if (context.getResponseCache() != null) {
+            context.getResponseCache().evictTenant(tenantId);
+        }
+        if (clients.tenant().clientProperties() != null) {
+            accessTokenCache.evict(AccessTokenKey.of(clients.tenant().tenantId()));
+        }
+        String serviceName = clients.tenant().serviceName();
+        if (serviceName != null && !serviceName.equals(defaultServiceName) && tenants.asMap().values().stream()
+                .noneMatch(other -> serviceName.equals(other.tenant().serviceName()))) {
+            evictService(serviceName);
+        }
+    }
+
+    private void evictService(String serviceName) {
+        if (context.getConcurrencyLimiterRegistry() != null) {
+            context.getConcurrencyLimiterRegistry().evict(serviceName);
+        }
+        if (context.getRetryBudgetRegistry() != null) {
+            context.getRetryBudgetRegistry().evict(serviceName);
+        }
+        if (context.getContentNegotiator() != null) {
+            context.getContentNegotiator().evict(serviceName);
+        }
+        if (context.getLoadBalancer() != null) {
+            String host = URI.create(checkStartWithHttp(serviceName)).getHost();
+            if (host != null) {
+                context.getLoadBalancer().evict(host);
+            }
+        }
+        context.getClientMetrics().evict(serviceName);
+    }
+
+    private record TenantClients(MsClientTenant tenant, BaseMsClientFactory factory) {
+    }
+
+    private record Route(Class<?> clientClass, String url, boolean async) {
+    }
+
+    private class RoutingInvocationHandler implements InvocationHandler {
+
+        private final Route route;
+
+        RoutingInvocationHandler(Route route) {
+            this.route = route;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "TenantRouting(" + route.clientClass().getName() + ")";
+                    default -> method.invoke(this, args);
+                };
+            }
+            try {
+                return method.invoke(target(route), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.khasanof.factory.tenant;
+
+/**
+ * Resolves the tenant whose clients serve the calls of the current caller.
+ *
+ * <p>Define a bean of this type to resolve tenants from another source than the Keycloak realm of the
+ * relayed access token, e.g. a request header or the security context.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.tenant
+ * @since 10/18/2026 1:01 AM
+ */
+@FunctionalInterface
+public interface TenantResolver {
+
+    /**
+     * Returns the tenant of the current caller.
+     *
+     * @return the tenant id, or {@code null} to use the default clients of the factory.
+     */
+    String resolveTenant();
+}
@@ -0,0 +1,58 @@
+package org.khasanof.factory.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.khasanof.factory.util.JwtClaimsUtil;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Access token cached by the {@link AccessTokenCache}, kept as the ready to send
+ * {@code Authorization} header value.
+ *
+ * @param authorization the {@code Authorization} header value, e.g. {@code Bearer eyJ...}.
+ * @param issuedAt the instant the token was obtained.
+ * @param expiresAt the instant the token expires.
+ * @author Nurislom
+ * @see org.khasanof.factory.token
+ * @since 10/17/2026 11:02 AM
+ */
+public record AccessToken(String authorization, Instant issuedAt, Instant expiresAt) {
+
+    /**
+     * Creates an access token from an {@code Authorization} header value.
+     *
+     * <p>If the token is a JWT, its expiry is read from the {@code exp} claim. Otherwise the
+     * token is assumed to live for the given default lifetime.</p>
+     *
+     * @param authorization the {@code Authorization} header value.
+     * @param now the instant the token was obtained.
+     * @param defaultLifetime the lifetime used when the token carries no expiry.
+     * @return the access token.
+     */
+    public static AccessToken of(String authorization, Instant now, Duration defaultLifetime) {
+        Instant expiresAt = jwtExpiry(authorization);
+        return new AccessToken(authorization, now, expiresAt != null && expiresAt.isAfter(now) ? expiresAt : now.plus(defaultLifetime));
+    }
+
+    /**
+     * Returns the instant at which the token should be refreshed in the background.
+     *
+     * @param refreshRatio the fraction of the token lifetime after which it is refreshed.
+     * @return the refresh instant.
+     */
+    public Instant refreshAt(double refreshRatio) {
+        long lifetime = Duration.between(issuedAt, expiresAt).toMillis();
+        return issuedAt.plusMillis((long) (lifetime * refreshRatio));
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    private static Instant jwtExpiry(String authorization) {
+        JsonNode claims = JwtClaimsUtil.claims(authorization);
+        JsonNode exp = claims != null ? claims.get("exp") : null;
+        return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+    }
+}
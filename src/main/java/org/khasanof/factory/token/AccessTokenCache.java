@@ -0,0 +1,183 @@
+package org.khasanof.factory.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.modules.client.core.config.ModulesClientCoreProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Shared cache of client-credentials access tokens used by the {@code PER_REQUEST} token strategy.
+ *
+ * <p>Tokens are cached per {@link AccessTokenKey} and obtained with the {@link ModulesClientCoreProperties} of
+ * the key through a token source interceptor, by default the {@code KeycloakInterceptor}. The cache:</p>
+ * <ul>
+ *     <li>refreshes a token in the background once the configured fraction of its lifetime has passed,</li>
+ *     <li>coalesces concurrent fetches of the same token into a single request to the identity provider,</li>
+ *     <li>keeps serving an expired token during the grace period while its refresh is in flight.</li>
+ * </ul>
+ *
+ * <p>The cache is bounded, so that tokens of many tenants do not accumulate: tokens of client credentials
+ * unused for {@code expireAfterAccess} are evicted and fetched again on next use.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.token
+ * @since 10/17/2026 11:10 AM
+ */
+public class AccessTokenCache implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenCache.class);
+
+    private final ModulesClientFactoryProperties.Token properties;
+    private final Function<ModulesClientCoreProperties, RequestInterceptor> tokenSourceFactory;
+    private final Cache<AccessTokenKey, TokenHolder> holders;
+    private final ScheduledExecutorService scheduler;
+    private final Clock clock;
+
+    public AccessTokenCache(ModulesClientFactoryProperties.Token properties,
+                            Function<ModulesClientCoreProperties, RequestInterceptor> tokenSourceFactory) {
+        this(properties, tokenSourceFactory, Clock.systemUTC());
+    }
+
+    AccessTokenCache(ModulesClientFactoryProperties.Token properties,
+                     Function<ModulesClientCoreProperties, RequestInterceptor> tokenSourceFactory, Clock clock) {
+        this.properties = properties;
+        this.tokenSourceFactory = tokenSourceFactory;
+        this.clock = clock;
+        this.holders = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ms-client-token-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newScheduledThreadPool(properties.getRefreshThreads(), threadFactory);
+    }
+
+    /**
+     * Returns the {@code Authorization} header value of the token for the given credentials.
+     *
+     * @param key the identity of the credentials.
+     * @param clientProperties the client credentials the token is fetched with on first use of the key.
+     * @return the {@code Authorization} header value.
+     */
+    public String getAuthorization(AccessTokenKey key, ModulesClientCoreProperties clientProperties) {
+        return holders.get(key, ignored -> new TokenHolder(clientProperties)).get();
+    }
+
+    /**
+     * Drops the cached token for the given credentials, forcing a new fetch on next use.
+     *
+     * @param key the identity of the credentials.
+     */
+    public void evict(AccessTokenKey key) {
+        holders.invalidate(key);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private class TokenHolder {
+
+        private final RequestInterceptor tokenSource;
+        private final AtomicReference<CompletableFuture<AccessToken>> inflight = new AtomicReference<>();
+        private volatile AccessToken token;
+        private volatile Instant lastAccess = clock.instant();
+
+        TokenHolder(ModulesClientCoreProperties clientProperties) {
+            this.tokenSource = tokenSourceFactory.apply(clientProperties);
+        }
+
+        String get() {
+            Instant now = clock.instant();
+            lastAccess = now;
+            AccessToken current = token;
+            if (current != null && !current.isExpired(now)) {
+                return current.authorization();
+            }
+            CompletableFuture<AccessToken> refresh = refresh();
+            if (current != null && now.isBefore(current.expiresAt().plus(properties.getGracePeriod()))) {
+                return current.authorization();
+            }
+            return await(refresh).authorization();
+        }
+
+        CompletableFuture<AccessToken> refresh() {
+            while (true) {
+                CompletableFuture<AccessToken> existing = inflight.get();
+                if (existing != null) {
+                    return existing;
+                }
+                CompletableFuture<AccessToken> created = new CompletableFuture<>();
+                if (inflight.compareAndSet(null, created)) {
+                    scheduler.execute(() -> fetch(created));
+                    return created;
+                }
+            }
+        }
+
+        private void fetch(CompletableFuture<AccessToken> result) {
+            AccessToken fetched;
+            try {
+                fetched = AccessToken.of(requestAuthorization(), clock.instant(), properties.getDefaultLifetime());
+                token = fetched;
+                scheduleRefresh(fetched);
+            } catch (Throwable e) {
+                log.warn("Failed to obtain access token", e);
+                inflight.compareAndSet(result, null);
+                result.completeExceptionally(e);
+                return;
+            }
+            // cleared before completing, so callers woken by the result never join a finished refresh
+            inflight.compareAndSet(result, null);
+            result.complete(fetched);
+        }
+
+        private String requestAuthorization() {
+            RequestTemplate template = new RequestTemplate();
+            tokenSource.apply(template);
+            Collection<String> values = template.headers().get(HttpHeaders.AUTHORIZATION);
+            if (values == null || values.isEmpty()) {
+                throw new IllegalStateException("Token source did not set the Authorization header");
+            }
+            return values.iterator().next();
+        }
+
+        private void scheduleRefresh(AccessToken fetched) {
+            long delay = Duration.between(clock.instant(), fetched.refreshAt(properties.getRefreshRatio())).toMillis();
+            scheduler.schedule(() -> {
+                // tokens nobody asked for during their lifetime are fetched lazily on next use
+                if (lastAccess.isAfter(fetched.issuedAt())) {
+                    refresh();
+                }
+            }, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+        }
+
+        private AccessToken await(CompletableFuture<AccessToken> refresh) {
+            try {
+                return refresh.get(properties.getFetchTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while obtaining access token", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to obtain access token", e.getCause());
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Timed out while obtaining access token", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.khasanof.factory.token;
+
+/**
+ * Identity of the client credentials a token is cached for in the {@link AccessTokenCache}.
+ *
+ * <p>Credentials are identified by the tenant they are configured for rather than by the mutable properties
+ * holding them, so that a cached token cannot be lost or shared by a change of those properties.</p>
+ *
+ * @param tenantId the tenant the credentials are configured for, or {@code null} for the credentials of the
+ *                 application.
+ * @author Nurislom
+ * @see org.khasanof.factory.token
+ * @since 10/18/2026 2:08 AM
+ */
+public record AccessTokenKey(String tenantId) {
+
+    /**
+     * Key of the credentials of the application.
+     */
+    public static final AccessTokenKey DEFAULT = new AccessTokenKey(null);
+
+    /**
+     * @param tenantId the tenant id, or {@code null}.
+     * @return the key of the credentials of the tenant, or {@link #DEFAULT}.
+     */
+    public static AccessTokenKey of(String tenantId) {
+        return tenantId != null ? new AccessTokenKey(tenantId) : DEFAULT;
+    }
+}
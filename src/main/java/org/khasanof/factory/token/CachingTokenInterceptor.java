@@ -0,0 +1,34 @@
+package org.khasanof.factory.token;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.khasanof.modules.client.core.config.ModulesClientCoreProperties;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * {@link RequestInterceptor} that authorizes requests with a token from the shared {@link AccessTokenCache}.
+ *
+ * <p>The interceptor is stateless and is shared by every client built for the same credentials.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.token
+ * @since 10/17/2026 11:41 AM
+ */
+public class CachingTokenInterceptor implements RequestInterceptor {
+
+    private final AccessTokenCache accessTokenCache;
+    private final AccessTokenKey key;
+    private final ModulesClientCoreProperties clientProperties;
+
+    public CachingTokenInterceptor(AccessTokenCache accessTokenCache, AccessTokenKey key, ModulesClientCoreProperties clientProperties) {
+        this.accessTokenCache = accessTokenCache;
+        this.key = key;
+        this.clientProperties = clientProperties;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        template.removeHeader(HttpHeaders.AUTHORIZATION);
+        template.header(HttpHeaders.AUTHORIZATION, accessTokenCache.getAuthorization(key, clientProperties));
+    }
+}
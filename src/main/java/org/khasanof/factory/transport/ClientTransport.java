@@ -0,0 +1,110 @@
+package org.khasanof.factory.transport;
+
+import feign.Client;
+import feign.Request;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.enumeration.TransportType;
+import org.khasanof.factory.multipart.MultipartUploader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * HTTP transport shared by the clients built by the factories.
+ *
+ * <p>Holds the Feign {@link Client} doing the actual I/O together with the per-service
+ * {@link Request.Options} and, when the transport pools its connections, the pool utilization.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.transport
+ * @since 10/17/2026 1:15 PM
+ */
+public class ClientTransport implements Closeable {
+
+    private final TransportType type;
+    private final Client client;
+    private final ModulesClientFactoryProperties.Transport properties;
+    private final Supplier<TransportPoolStats> poolStats;
+    private final Closeable resource;
+    private final MultipartUploader multipartUploader;
+    private final Map<String, Request.Options> options = new ConcurrentHashMap<>();
+
+    public ClientTransport(TransportType type, Client client, ModulesClientFactoryProperties.Transport properties,
+                           Supplier<TransportPoolStats> poolStats, Closeable resource, MultipartUploader multipartUploader) {
+        this.type = type;
+        this.client = client;
+        this.properties = properties;
+        this.poolStats = poolStats;
+        this.resource = resource;
+        this.multipartUploader = multipartUploader;
+    }
+
+    public TransportType getType() {
+        return type;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    /**
+     * Returns the uploader streaming multipart bodies over this transport.
+     *
+     * @return the multipart uploader, or {@code null} when the transport cannot stream request bodies.
+     */
+    public MultipartUploader getMultipartUploader() {
+        return multipartUploader;
+    }
+
+    /**
+     * Returns the current utilization of the connection pool.
+     *
+     * @return the pool stats, or {@link TransportPoolStats#UNKNOWN} when the transport does not expose its pool.
+     */
+    public TransportPoolStats getPoolStats() {
+        return poolStats != null ? poolStats.get() : TransportPoolStats.UNKNOWN;
+    }
+
+    /**
+     * Returns the request options of the given service, applying its overrides from
+     * {@link ModulesClientFactoryProperties.Transport#getServices()}.
+     *
+     * @param serviceName the service name or base URL of the client.
+     * @return the {@link Request.Options} of the service.
+     */
+    public Request.Options requestOptions(String serviceName) {
+        return options.computeIfAbsent(serviceName, name -> {
+            ModulesClientFactoryProperties.Transport.Service service = service(properties, name);
+            Duration connectTimeout = service != null && service.getConnectTimeout() != null ? service.getConnectTimeout() : properties.getConnectTimeout();
+            Duration readTimeout = service != null && service.getReadTimeout() != null ? service.getReadTimeout() : properties.getReadTimeout();
+            return new Request.Options(connectTimeout, readTimeout, properties.isFollowRedirects());
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (resource != null) {
+            resource.close();
+        }
+    }
+
+    /**
+     * Looks up the overrides of a service by its name, falling back to the host of its base URL.
+     *
+     * @param properties the transport properties.
+     * @param serviceName the service name or base URL.
+     * @return the service overrides, or {@code null} if there are none.
+     */
+    static ModulesClientFactoryProperties.Transport.Service service(ModulesClientFactoryProperties.Transport properties, String serviceName) {
+        ModulesClientFactoryProperties.Transport.Service service = properties.getServices().get(serviceName);
+        if (service == null && serviceName.contains("://")) {
+            service = properties.getServices().get(URI.create(serviceName).getHost());
+        }
+        return service;
+    }
+}
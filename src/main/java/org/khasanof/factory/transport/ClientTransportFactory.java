@@ -0,0 +1,149 @@
+package org.khasanof.factory.transport;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.enumeration.TransportType;
+import org.khasanof.factory.multipart.Hc5MultipartUploader;
+import org.khasanof.factory.multipart.JdkMultipartUploader;
+import org.khasanof.factory.multipart.MultipartUploader;
+import org.khasanof.factory.multipart.UrlConnectionMultipartUploader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.function.UnaryOperator;
+
+import static org.khasanof.factory.util.ServiceNameUtil.checkStartWithHttp;
+
+/**
+ * Creates the {@link ClientTransport} selected by {@link ModulesClientFactoryProperties.Transport#getType()}.
+ *
+ * <p>The {@code JDK} transport is backed by {@link HttpClient} through {@code feign-java11} and is the only one
+ * able to multiplex requests over HTTP/2. The {@code APACHE_HC5} transport is backed by a pooled Apache
+ * HttpClient 5 through {@code feign-hc5}, with per-service pool sizing and idle connection eviction. Both
+ * libraries are optional dependencies and must be added by the application using them.</p>
+ *
+ * <p>Unlike the {@code feign.Client} bean of the {@code DEFAULT} transport, the {@code JDK} and {@code APACHE_HC5}
+ * clients do not resolve service names themselves. They are wrapped by the given load balancing decorator,
+ * typically Spring Cloud's {@code FeignBlockingLoadBalancerClient}; without one, service names must be
+ * resolvable host names. Wrapped transports cannot stream multipart bodies around the decorator, so they
+ * encode them into memory.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.transport
+ * @since 10/17/2026 1:24 PM
+ */
+public class ClientTransportFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientTransportFactory.class);
+
+    private static final int MULTIPART_CHUNK_SIZE = 8192;
+
+    /**
+     * Creates the transport configured by the given properties.
+     *
+     * @param properties the transport properties.
+     * @param defaultClient the {@code feign.Client} bean of the context, used by the {@code DEFAULT} transport.
+     * @return the configured {@link ClientTransport}.
+     */
+    public static ClientTransport create(ModulesClientFactoryProperties.Transport properties, Client defaultClient) {
+        return create(properties, defaultClient, null);
+    }
+
+    /**
+     * Creates the transport configured by the given properties, resolving service names with the given
+     * load balancing decorator.
+     *
+     * @param properties the transport properties.
+     * @param defaultClient the {@code feign.Client} bean of the context, used by the {@code DEFAULT} transport.
+     * @param loadBalancing wraps the {@code JDK} and {@code APACHE_HC5} clients so that they resolve service
+     *                      names, or {@code null} to send requests to the host of their URL.
+     * @return the configured {@link ClientTransport}.
+     */
+    public static ClientTransport create(ModulesClientFactoryProperties.Transport properties, Client defaultClient,
+                                         UnaryOperator<Client> loadBalancing) {
+        return switch (properties.getType()) {
+            case DEFAULT -> {
+                Assert.notNull(defaultClient, "No feign.Client bean found for the DEFAULT transport");
+                // a load balancing client resolves service names itself, so its requests cannot be sent around it
+                MultipartUploader multipartUploader = defaultClient instanceof Client.Default urlConnectionClient
+                        ? new UrlConnectionMultipartUploader(urlConnectionClient, MULTIPART_CHUNK_SIZE) : null;
+                yield new ClientTransport(TransportType.DEFAULT, defaultClient, properties, null, null, multipartUploader);
+            }
+            case JDK -> jdk(properties, loadBalancing);
+            case APACHE_HC5 -> apacheHc5(properties, loadBalancing);
+        };
+    }
+
+    private static ClientTransport jdk(ModulesClientFactoryProperties.Transport properties, UnaryOperator<Client> loadBalancing) {
+        checkPresent("feign.http2client.Http2Client", "feign-java11");
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(properties.isFollowRedirects() ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER)
+                .build();
+        Client client = new Http2Client(httpClient);
+        if (loadBalancing != null) {
+            return new ClientTransport(TransportType.JDK, loadBalancing.apply(client), properties, null, null, null);
+        }
+        return new ClientTransport(TransportType.JDK, client, properties, null, null, new JdkMultipartUploader(httpClient));
+    }
+
+    private static ClientTransport apacheHc5(ModulesClientFactoryProperties.Transport properties, UnaryOperator<Client> loadBalancing) {
+        checkPresent("feign.hc5.ApacheHttp5Client", "feign-hc5");
+        if (properties.isHttp2()) {
+            log.warn("HTTP/2 is not supported by the APACHE_HC5 transport, falling back to HTTP/1.1");
+        }
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerService())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                        .build())
+                .build();
+        properties.getServices().forEach((serviceName, service) -> {
+            if (service.getMaxConnections() != null) {
+                connectionManager.setMaxPerRoute(route(serviceName), service.getMaxConnections());
+            }
+        });
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+                .build();
+        Client client = new ApacheHttp5Client(httpClient);
+        return new ClientTransport(TransportType.APACHE_HC5, loadBalancing != null ? loadBalancing.apply(client) : client, properties, () -> {
+            PoolStats stats = connectionManager.getTotalStats();
+            return new TransportPoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+        }, httpClient, loadBalancing != null ? null : new Hc5MultipartUploader(httpClient));
+    }
+
+    private static HttpRoute route(String serviceName) {
+        URI uri = URI.create(checkStartWithHttp(serviceName));
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+
+    private static void checkPresent(String className, String artifactId) {
+        if (!ClassUtils.isPresent(className, ClientTransportFactory.class.getClassLoader())) {
+            throw new IllegalStateException("The " + artifactId + " dependency is required by the configured transport");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.khasanof.factory.transport;
+
+/**
+ * Connection pool utilization of a {@link ClientTransport}.
+ *
+ * @param leased the number of connections currently in use.
+ * @param available the number of idle pooled connections.
+ * @param pending the number of requests waiting for a connection.
+ * @param max the maximum number of pooled connections.
+ * @author Nurislom
+ * @see org.khasanof.factory.transport
+ * @since 10/17/2026 1:12 PM
+ */
+public record TransportPoolStats(int leased, int available, int pending, int max) {
+
+    /**
+     * Stats of transports that do not expose their connection pool.
+     */
+    public static final TransportPoolStats UNKNOWN = new TransportPoolStats(-1, -1, -1, -1);
+}
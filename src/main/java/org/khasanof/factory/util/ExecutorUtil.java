@@ -0,0 +1,85 @@
+package org.khasanof.factory.util;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.util
+ * @since 10/17/2026 12:20 PM
+ */
+public class ExecutorUtil {
+
+    /**
+     * Returns whether the running JVM supports virtual threads.
+     *
+     * @return {@code true} on JDK 21 and later.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * <p>The executor is looked up reflectively so that the library keeps running on JDK 17.</p>
+     *
+     * @return a virtual thread per task executor.
+     * @throws IllegalStateException if the running JVM does not support virtual threads.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not supported by this JVM", e);
+        }
+    }
+
+    /**
+     * Creates a bounded pool of daemon threads.
+     *
+     * <p>When both the threads and the queue are exhausted, the submitting thread runs the task itself,
+     * which throttles callers instead of growing the pool without bounds.</p>
+     *
+     * @param threadNamePrefix the prefix of the pool thread names.
+     * @param maxThreads the number of pool threads.
+     * @param queueCapacity the capacity of the task queue.
+     * @return a bounded executor.
+     */
+    public static ExecutorService newBoundedExecutor(String threadNamePrefix, int maxThreads, int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates a pool of daemon threads without a task queue.
+     *
+     * <p>A task submitted while every thread is busy is rejected with a
+     * {@link java.util.concurrent.RejectedExecutionException}, so the submitting thread can fall back
+     * instead of waiting behind other tasks. Idle threads time out.</p>
+     *
+     * @param threadNamePrefix the prefix of the pool thread names.
+     * @param maxThreads the number of pool threads.
+     * @return an executor rejecting tasks while saturated.
+     */
+    public static ExecutorService newRejectingExecutor(String threadNamePrefix, int maxThreads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package org.khasanof.factory.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.util
+ * @since 10/18/2026 2:06 AM
+ */
+public class JwtClaimsUtil {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Decodes the claims of the JWT in an {@code Authorization} header value, without verifying its signature.
+     *
+     * @param authorization the {@code Authorization} header value, with or without the {@code Bearer} scheme.
+     * @return the claims object, or {@code null} if the value is not a JWT.
+     */
+    public static JsonNode claims(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        String token = authorization.regionMatches(true, 0, "Bearer ", 0, 7) ? authorization.substring(7) : authorization;
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            JsonNode claims = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            return claims != null && claims.isObject() ? claims : null;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+}
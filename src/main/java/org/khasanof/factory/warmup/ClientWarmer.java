@@ -0,0 +1,206 @@
+package org.khasanof.factory.warmup;
+
+import feign.Client;
+import feign.Request;
+import org.khasanof.factory.BaseMsClientFactory;
+import org.khasanof.factory.MsClientFactoryContext;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.loadbalancer.LoadBalancedClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.khasanof.factory.util.ServiceNameUtil.checkStartWithHttp;
+
+/**
+ * Builds the declared clients, opens connections to their services and fetches the access token while
+ * the application starts.
+ *
+ * <p>The warm-up starts once the context is refreshed and its tasks run in parallel. Startup waits for
+ * the warm-up up to {@link ModulesClientFactoryProperties.Warmup#getTimeout()}. A warm-up taking longer
+ * goes on in the background; {@link #isComplete()} tells when it is done. Failed tasks are logged and never
+ * fail the startup.</p>
+ *
+ * <p>The readiness state of the application is {@code REFUSING_TRAFFIC} while the warm-up runs. When the
+ * application turns ready before the warm-up completes, the state is set back to {@code REFUSING_TRAFFIC}
+ * and turns to {@code ACCEPTING_TRAFFIC} once the warm-up completes.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.warmup
+ * @since 10/17/2026 11:12 PM
+ */
+public class ClientWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientWarmer.class);
+
+    private final ModulesClientFactoryProperties.Warmup properties;
+    private final List<WarmUpTarget> targets;
+    private final BaseMsClientFactory baseMsClientFactory;
+    private final MsClientFactoryContext context;
+    private final String serviceName;
+    private final Runnable tokenFetch;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile CompletableFuture<Void> completion;
+    private boolean warm;
+    private boolean holdingReadiness;
+
+    public ClientWarmer(ModulesClientFactoryProperties.Warmup properties, List<WarmUpTarget> targets, BaseMsClientFactory baseMsClientFactory,
+                        MsClientFactoryContext context, String serviceName, Runnable tokenFetch, ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.targets = targets;
+        this.baseMsClientFactory = baseMsClientFactory;
+        this.context = context;
+        this.serviceName = serviceName;
+        this.tokenFetch = tokenFetch;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Runs the warm-up once the application has started, waiting for it up to the configured timeout.
+     *
+     * @param event the application started event.
+     */
+    @EventListener
+    public void warmUp(ApplicationStartedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        try {
+            start().get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Client warm-up did not complete within {}, continuing in the background", properties.getTimeout());
+        } catch (ExecutionException e) {
+            log.warn("Client warm-up failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Keeps the application refusing traffic when it turns ready before the warm-up completes.
+     *
+     * @param event the readiness state change.
+     */
+    @EventListener
+    public synchronized void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && completion != null && !warm) {
+            log.info("Refusing traffic until the client warm-up of {} completes", serviceName);
+            holdingReadiness = true;
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    /**
+     * Starts the warm-up, unless it is already started.
+     *
+     * @return the future completing once every warm-up task has finished.
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (completion != null) {
+            return completion;
+        }
+        long start = System.nanoTime();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ms-client-warmup-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(properties.getParallelism(), 1), threadFactory);
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        if (tokenFetch != null && properties.isFetchToken()) {
+            tasks.add(CompletableFuture.runAsync(() -> run("token fetch", tokenFetch), executor));
+        }
+        for (WarmUpTarget target : targets) {
+            tasks.add(CompletableFuture.runAsync(() -> run("build of " + target.clientClass().getName(), () -> build(target)), executor));
+        }
+        for (String url : urls()) {
+            for (int i = 0; i < properties.getConnections(); i++) {
+                tasks.add(CompletableFuture.runAsync(() -> run("connection to " + url, () -> connect(url)), executor));
+            }
+        }
+        completion = CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, e) -> {
+                    executor.shutdown();
+                    log.info("Warmed up {} clients of {} in {} ms, {} of {} tasks failed", targets.size(), serviceName,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failures.get(), tasks.size());
+                    releaseReadiness();
+                });
+        return completion;
+    }
+
+    private synchronized void releaseReadiness() {
+        // the completion future itself is only done once this callback returns
+        warm = true;
+        if (holdingReadiness) {
+            holdingReadiness = false;
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    /**
+     * Returns whether the warm-up has finished, or is disabled.
+     *
+     * @return {@code true} once every warm-up task has finished.
+     */
+    public boolean isComplete() {
+        CompletableFuture<Void> current = completion;
+        return !properties.isEnabled() || (current != null && current.isDone());
+    }
+
+    private void build(WarmUpTarget target) {
+        if (target.async()) {
+            if (target.url() != null) {
+                baseMsClientFactory.createAsync(target.clientClass(), target.url());
+            } else {
+                baseMsClientFactory.createAsync(target.clientClass());
+            }
+        } else if (target.url() != null) {
+            baseMsClientFactory.create(target.clientClass(), target.url());
+        } else {
+            baseMsClientFactory.create(target.clientClass());
+        }
+    }
+
+    private void connect(String url) {
+        Client client = context.getClientTransport().getClient();
+        if (context.getLoadBalancer() != null) {
+            client = new LoadBalancedClient(client, context.getLoadBalancer());
+        }
+        Request request = Request.create(Request.HttpMethod.HEAD, url + properties.getConnectionPath(), Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        try {
+            // any response leaves an established connection in the pool
+            client.execute(request, context.getClientTransport().requestOptions(url)).close();
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private Set<String> urls() {
+        Set<String> urls = new LinkedHashSet<>();
+        for (WarmUpTarget target : targets) {
+            urls.add(target.url() != null ? checkStartWithHttp(target.url()) : checkStartWithHttp(serviceName));
+        }
+        return urls;
+    }
+
+    private void run(String task, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            log.warn("Client warm-up {} failed: {}", task, e.getMessage());
+            log.debug("Client warm-up {} failed", task, e);
+        }
+    }
+}
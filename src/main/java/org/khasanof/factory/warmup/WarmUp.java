@@ -0,0 +1,31 @@
+package org.khasanof.factory.warmup;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares a client interface to be built, and optionally connected, while the application starts.
+ *
+ * <p>Annotated interfaces in the application packages, or in
+ * {@code modules.client.factory.warmup.base-packages}, are found when
+ * {@code modules.client.factory.warmup.enabled} is set. The first calls of a warmed up client skip the
+ * proxy generation, contract parsing and connection establishment.</p>
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.warmup
+ * @since 10/17/2026 11:02 PM
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface WarmUp {
+
+    /**
+     * Base URL the client is built for; empty uses the configured service name.
+     */
+    String url() default "";
+
+    /**
+     * Whether the asynchronous client is built instead of the blocking one.
+     */
+    boolean async() default false;
+}
@@ -0,0 +1,61 @@
+package org.khasanof.factory.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds the client interfaces annotated with {@link WarmUp} in the given packages.
+ *
+ * @author Nurislom
+ * @see org.khasanof.factory.warmup
+ * @since 10/17/2026 11:08 PM
+ */
+public class WarmUpScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpScanner.class);
+
+    private final ClassLoader classLoader;
+
+    public WarmUpScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Scans the given packages for {@link WarmUp} client interfaces.
+     *
+     * @param basePackages the packages to scan.
+     * @return the warm-up targets of the annotated interfaces.
+     */
+    public List<WarmUpTarget> scan(Collection<String> basePackages) {
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent() && beanDefinition.getMetadata().isInterface();
+            }
+        };
+        provider.addIncludeFilter(new AnnotationTypeFilter(WarmUp.class));
+        List<WarmUpTarget> targets = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : provider.findCandidateComponents(basePackage)) {
+                try {
+                    Class<?> clientClass = ClassUtils.forName(candidate.getBeanClassName(), classLoader);
+                    WarmUp warmUp = clientClass.getAnnotation(WarmUp.class);
+                    targets.add(new WarmUpTarget(clientClass, StringUtils.hasText(warmUp.url()) ? warmUp.url() : null, warmUp.async()));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.warn("Could not load warm-up client {}", candidate.getBeanClassName(), e);
+                }
+            }
+        }
+        return targets;
+    }
+}
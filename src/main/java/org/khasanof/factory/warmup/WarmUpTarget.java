@@ -0,0 +1,14 @@
+package org.khasanof.factory.warmup;
+
+/**
+ * Client interface and URL built during the warm-up.
+ *
+ * @param clientClass the Feign client interface.
+ * @param url the base URL, or {@code null} for the configured service name.
+ * @param async whether the asynchronous client is built.
+ * @author Nurislom
+ * @see org.khasanof.factory.warmup
+ * @since 10/17/2026 11:05 PM
+ */
+public record WarmUpTarget(Class<?> clientClass, String url, boolean async) {
+}
@@ -0,0 +1,199 @@
+package org.khasanof.factory.cache;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.junit.jupiter.api.Test;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.cache
+ * @since 10/18/2026 2:20 AM
+ */
+class CachingClientTest {
+
+    private static final String URL = "http://modules/api/items/1";
+
+    private final ModulesClientFactoryProperties.ResponseCache properties = new ModulesClientFactoryProperties.ResponseCache();
+    private final HttpResponseCache cache = new HttpResponseCache(properties);
+    private final RecordingClient transport = new RecordingClient();
+
+    @Test
+    void servesFreshResponsesFromTheCache() throws IOException {
+        CachingClient client = new CachingClient(transport, cache, false);
+        transport.respond(200, "item", HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertThat(body(client.execute(get(), options()))).isEqualTo("item");
+        assertThat(body(client.execute(get(), options()))).isEqualTo("item");
+
+        assertThat(transport.requests).hasSize(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void revalidatesStaleResponsesWithTheirValidator() throws IOException {
+        CachingClient client = new CachingClient(transport, cache, false);
+        transport.respond(200, "item", HttpHeaders.CACHE_CONTROL, "max-age=0", HttpHeaders.ETAG, "\"v1\"");
+        client.execute(get(), options()).close();
+
+        transport.respond(304, null, HttpHeaders.CACHE_CONTROL, "max-age=0");
+        Response revalidated = client.execute(get(), options());
+
+        assertThat(revalidated.status()).isEqualTo(200);
+        assertThat(body(revalidated)).isEqualTo("item");
+        assertThat(transport.requests.get(1).headers().get(HttpHeaders.IF_NONE_MATCH)).containsExactly("\"v1\"");
+        assertThat(cache.revalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void neverStoresNoStoreResponses() throws IOException {
+        CachingClient client = new CachingClient(transport, cache, false);
+        transport.respond(200, "item", HttpHeaders.CACHE_CONTROL, "no-store, max-age=60");
+
+        client.execute(get(), options()).close();
+        client.execute(get(), options()).close();
+
+        assertThat(transport.requests).hasSize(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void returnsTheWholeBodyOfResponsesTooLargeToCache() throws IOException {
+        properties.setMaximumEntrySize(DataSize.ofBytes(4));
+        CachingClient client = new CachingClient(transport, cache, false);
+        transport.respond(200, "a larger item", HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertThat(body(client.execute(get(), options()))).isEqualTo("a larger item");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void neverStoresEventStreamsOfUnknownLength() throws IOException {
+        CachingClient client = new CachingClient(transport, cache, false);
+        transport.respond(200, "data: 1\n\n", HttpHeaders.CACHE_CONTROL, "max-age=60", HttpHeaders.CONTENT_TYPE, "text/event-stream");
+        transport.unknownLength = true;
+
+        assertThat(body(client.execute(get(), options()))).isEqualTo("data: 1\n\n");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void isolatesPrincipalsWhenRequested() throws IOException {
+        CachingClient client = new CachingClient(transport, cache, true);
+        transport.respond(200, "item", HttpHeaders.CACHE_CONTROL, "private, max-age=60");
+
+        client.execute(get(HttpHeaders.AUTHORIZATION, "Bearer alice"), options()).close();
+        client.execute(get(HttpHeaders.AUTHORIZATION, "Bearer bob"), options()).close();
+        client.execute(get(HttpHeaders.AUTHORIZATION, "Bearer alice"), options()).close();
+
+        assertThat(transport.requests).hasSize(2);
+    }
+
+    @Test
+    void doesNotStorePrivateResponsesWithoutPrincipalIsolation() throws IOException {
+        CachingClient client = new CachingClient(transport, cache, false);
+        transport.respond(200, "item", HttpHeaders.CACHE_CONTROL, "private, max-age=60");
+
+        client.execute(get(), options()).close();
+        client.execute(get(), options()).close();
+
+        assertThat(transport.requests).hasSize(2);
+    }
+
+    @Test
+    void isolatesTenantsAndEvictsOneTenant() throws IOException {
+        CachingClient tenantA = new CachingClient(transport, cache, false, "a");
+        CachingClient tenantB = new CachingClient(transport, cache, false, "b");
+        transport.respond(200, "item", HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        tenantA.execute(get(), options()).close();
+        tenantB.execute(get(), options()).close();
+        assertThat(transport.requests).hasSize(2);
+
+        cache.evictTenant("a");
+        tenantA.execute(get(), options()).close();
+        tenantB.execute(get(), options()).close();
+
+        assertThat(transport.requests).hasSize(3);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void passesOtherMethodsThrough() throws IOException {
+        CachingClient client = new CachingClient(transport, cache, false);
+        transport.respond(200, "created", HttpHeaders.CACHE_CONTROL, "max-age=60");
+        Request post = Request.create(Request.HttpMethod.POST, URL, Map.of(), "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+
+        client.execute(post, options()).close();
+        client.execute(post, options()).close();
+
+        assertThat(transport.requests).hasSize(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private static Request get(String... headers) {
+        Map<String, Collection<String>> map = new LinkedHashMap<>();
+        for (int i = 0; i < headers.length; i += 2) {
+            map.put(headers[i], List.of(headers[i + 1]));
+        }
+        return Request.create(Request.HttpMethod.GET, URL, map, null, StandardCharsets.UTF_8, null);
+    }
+
+    private static Request.Options options() {
+        return new Request.Options();
+    }
+
+    private static String body(Response response) throws IOException {
+        try (response) {
+            return Util.toString(response.body().asReader(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static class RecordingClient implements Client {
+
+        private final List<Request> requests = new ArrayList<>();
+        private int status;
+        private String body;
+        private Map<String, Collection<String>> headers;
+        private boolean unknownLength;
+
+        void respond(int status, String body, String... headers) {
+            this.status = status;
+            this.body = body;
+            this.headers = new LinkedHashMap<>();
+            for (int i = 0; i < headers.length; i += 2) {
+                this.headers.put(headers[i], List.of(headers[i + 1]));
+            }
+        }
+
+        @Override
+        public Response execute(Request request, Request.Options options) {
+            requests.add(request);
+            Response.Builder response = Response.builder()
+                    .status(status)
+                    .reason(status == 304 ? "Not Modified" : "OK")
+                    .headers(headers)
+                    .request(request);
+            if (body != null) {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                if (unknownLength) {
+                    response.body(new java.io.ByteArrayInputStream(bytes), null);
+                } else {
+                    response.body(bytes);
+                }
+            }
+            return response.build();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package org.khasanof.factory.coalesce;
+
+import feign.InvocationHandlerFactory.MethodHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.coalesce
+ * @since 10/18/2026 2:16 AM
+ */
+class CoalescingInvocationHandlerTest {
+
+    interface Api {
+
+        String get(String id);
+
+        String other();
+    }
+
+    private static final Method GET = method("get", String.class);
+    private static final Method OTHER = method("other");
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void sharesTheOutcomeOfAnInflightCallWithIdenticalCalls() throws Exception {
+        CoalescingInvocationHandler handler = handler(blockingHandler(), CoalescingScope.SHARED);
+
+        Future<Object> first = callers.submit(() -> invoke(handler, GET, "1"));
+        awaitCalls(1);
+        Future<Object> second = callers.submit(() -> invoke(handler, GET, "1"));
+        awaitWaiters(handler, 1);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void doesNotCoalesceCallsWithOtherArgumentsOrCompletedCalls() throws Throwable {
+        release.countDown();
+        CoalescingInvocationHandler handler = handler(blockingHandler(), CoalescingScope.SHARED);
+
+        assertThat(invoke(handler, GET, "1")).isEqualTo("value-1");
+        assertThat(invoke(handler, GET, "2")).isEqualTo("value-2");
+        assertThat(invoke(handler, GET, "1")).isEqualTo("value-1");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void doesNotCoalesceCallsOfDifferentScopes() throws Exception {
+        ThreadLocal<String> principal = new ThreadLocal<>();
+        CoalescingScope scope = new CoalescingScope() {
+            @Override
+            public Object current() {
+                return principal.get();
+            }
+
+            @Override
+            public boolean isBatchingSupported() {
+                return false;
+            }
+        };
+        CoalescingInvocationHandler handler = handler(blockingHandler(), scope);
+
+        Future<Object> alice = callers.submit(() -> {
+            principal.set("alice");
+            return invoke(handler, GET, "1");
+        });
+        Future<Object> bob = callers.submit(() -> {
+            principal.set("bob");
+            return invoke(handler, GET, "1");
+        });
+        awaitCalls(2);
+        release.countDown();
+
+        assertThat(alice.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(bob.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void sharesTheFailureOfAnInflightCall() throws Exception {
+        MethodHandler failing = args -> {
+            calls.incrementAndGet();
+            release.await();
+            throw new IllegalStateException("service unavailable");
+        };
+        CoalescingInvocationHandler handler = handler(failing, CoalescingScope.SHARED);
+
+        Future<Object> first = callers.submit(() -> invoke(handler, GET, "1"));
+        awaitCalls(1);
+        Future<Object> second = callers.submit(() -> invoke(handler, GET, "1"));
+        awaitWaiters(handler, 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void passesMethodsWithoutRuleToTheDelegate() throws Throwable {
+        CoalescingInvocationHandler handler = handler(blockingHandler(), CoalescingScope.SHARED);
+
+        assertThat(invoke(handler, OTHER)).isEqualTo("delegate");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void sendsTheCallsOfOneWindowAsOneBatch() throws Exception {
+        List<List<?>> batches = new CopyOnWriteArrayList<>();
+        CoalescingInvocationHandler.Batcher batcher = new CoalescingInvocationHandler.Batcher(batchHandler(batches), 50, 100,
+                scheduler, callers);
+
+        CompletableFuture<Object> first = batcher.submit("1");
+        CompletableFuture<Object> second = batcher.submit("2");
+        CompletableFuture<Object> duplicate = batcher.submit("1");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value-2");
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(batches).containsExactly(List.of("1", "2"));
+    }
+
+    @Test
+    void sendsAFullBatchWithoutWaitingForTheWindow() throws Exception {
+        List<List<?>> batches = new CopyOnWriteArrayList<>();
+        CoalescingInvocationHandler.Batcher batcher = new CoalescingInvocationHandler.Batcher(batchHandler(batches), 60_000, 2,
+                scheduler, callers);
+
+        CompletableFuture<Object> first = batcher.submit("1");
+        CompletableFuture<Object> second = batcher.submit("2");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value-2");
+        assertThat(batches).hasSize(1);
+    }
+
+    private CoalescingInvocationHandler handler(MethodHandler getHandler, CoalescingScope scope) {
+        InvocationHandler delegate = (proxy, method, args) -> "delegate";
+        Map<Method, MethodHandler> dispatch = new HashMap<>();
+        dispatch.put(GET, getHandler);
+        return new CoalescingInvocationHandler(delegate, dispatch, Map.of(GET, new CoalescingInvocationHandler.Rule(null)), scope);
+    }
+
+    private MethodHandler blockingHandler() {
+        return args -> {
+            calls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "value-" + args[0];
+        };
+    }
+
+    private static MethodHandler batchHandler(List<List<?>> batches) {
+        return args -> {
+            List<?> ids = (List<?>) args[0];
+            batches.add(List.copyOf(ids));
+            Map<Object, Object> results = new HashMap<>();
+            ids.forEach(id -> results.put(id, "value-" + id));
+            return results;
+        };
+    }
+
+    private void awaitCalls(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(calls).hasValue(expected);
+    }
+
+    private static void awaitWaiters(CoalescingInvocationHandler handler, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (handler.waiters() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(handler.waiters()).isEqualTo(expected);
+    }
+
+    private static Object invoke(CoalescingInvocationHandler handler, Method method, Object... args) throws Exception {
+        try {
+            return handler.invoke(null, method, args.length == 0 ? null : args);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ExecutionException(e);
+        }
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) {
+        try {
+            return Api.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.khasanof.factory.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.compression
+ * @since 10/18/2026 2:22 AM
+ */
+class GzipInflaterInputStreamTest {
+
+    private static final byte[] PAYLOAD = "{\"items\":[1,2,3]}".repeat(500).getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final CompressorPool<Inflater> pool = new CompressorPool<>(1, () -> {
+        created.incrementAndGet();
+        return new Inflater(true);
+    }, Inflater::reset, Inflater::end);
+
+    @Test
+    void inflatesGzipBodies() throws IOException {
+        try (InputStream inputStream = new GzipInflaterInputStream(new ByteArrayInputStream(gzip(PAYLOAD)), pool)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(PAYLOAD);
+        }
+    }
+
+    @Test
+    void skipsOptionalHeaderFields() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(new byte[]{0x1f, (byte) 0x8b, 8, 8 | 16, 0, 0, 0, 0, 0, (byte) 0xff});
+        body.write("items.json\0".getBytes(StandardCharsets.ISO_8859_1));
+        body.write("exported items\0".getBytes(StandardCharsets.ISO_8859_1));
+        body.write(deflate(PAYLOAD));
+        CRC32 crc = new CRC32();
+        crc.update(PAYLOAD);
+        writeInt(body, (int) crc.getValue());
+        writeInt(body, PAYLOAD.length);
+
+        try (InputStream inputStream = new GzipInflaterInputStream(new ByteArrayInputStream(body.toByteArray()), pool)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(PAYLOAD);
+        }
+    }
+
+    @Test
+    void readsSingleBytes() throws IOException {
+        byte[] payload = "abc".getBytes(StandardCharsets.UTF_8);
+        try (InputStream inputStream = new GzipInflaterInputStream(new ByteArrayInputStream(gzip(payload)), pool)) {
+            assertThat(inputStream.read()).isEqualTo('a');
+            assertThat(inputStream.read()).isEqualTo('b');
+            assertThat(inputStream.read()).isEqualTo('c');
+            assertThat(inputStream.read()).isEqualTo(-1);
+            assertThat(inputStream.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void rejectsACorruptTrailer() throws IOException {
+        byte[] body = gzip(PAYLOAD);
+        body[body.length - 8] ^= 0xff;
+
+        try (InputStream inputStream = new GzipInflaterInputStream(new ByteArrayInputStream(body), pool)) {
+            assertThatThrownBy(inputStream::readAllBytes)
+                    .isInstanceOf(ZipException.class)
+                    .hasMessage("Corrupt gzip trailer");
+        }
+    }
+
+    @Test
+    void rejectsBodiesThatAreNotGzip() {
+        byte[] body = "plain text".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> new GzipInflaterInputStream(new ByteArrayInputStream(body), pool))
+                .isInstanceOf(ZipException.class)
+                .hasMessage("Not in gzip format");
+    }
+
+    @Test
+    void returnsTheInflaterToThePool() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            try (InputStream inputStream = new GzipInflaterInputStream(new ByteArrayInputStream(gzip(PAYLOAD)), pool)) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(PAYLOAD);
+            }
+        }
+        assertThatThrownBy(() -> new GzipInflaterInputStream(new ByteArrayInputStream(new byte[0]), pool))
+                .isInstanceOf(IOException.class);
+
+        assertThat(created).hasValue(1);
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(body)) {
+            outputStream.write(payload);
+        }
+        return body.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] payload) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(body, deflater)) {
+            outputStream.write(payload);
+        } finally {
+            deflater.end();
+        }
+        return body.toByteArray();
+    }
+
+    private static void writeInt(ByteArrayOutputStream outputStream, int value) {
+        for (int i = 0; i < 4; i++) {
+            outputStream.write(value >>> (i * 8));
+        }
+    }
+}
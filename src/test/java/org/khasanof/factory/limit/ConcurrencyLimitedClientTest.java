@@ -0,0 +1,104 @@
+package org.khasanof.factory.limit;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.metrics.ClientMetrics;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/18/2026 2:32 AM
+ */
+class ConcurrencyLimitedClientTest {
+
+    interface Orders {
+    }
+
+    private final ServiceConcurrencyLimiterTest.FixedLimitAlgorithm algorithm = new ServiceConcurrencyLimiterTest.FixedLimitAlgorithm(1);
+    private final ServiceConcurrencyLimiter limiter = new ServiceConcurrencyLimiter("orders",
+            new ModulesClientFactoryProperties.Limit(), algorithm, ClientMetrics.NOOP);
+
+    @Test
+    void countsSheddingResponsesAsDroppedCalls() throws IOException {
+        assertThat(client(status(200)).execute(get(), options()).status()).isEqualTo(200);
+        assertThat(client(status(429)).execute(get(), options()).status()).isEqualTo(429);
+        assertThat(client(status(503)).execute(get(), options()).status()).isEqualTo(503);
+        assertThat(client(status(500)).execute(get(), options()).status()).isEqualTo(500);
+
+        assertThat(algorithm.updates).containsExactly(false, true, true, false);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void countsReadTimeoutsAsDroppedCalls() {
+        Client client = client((request, options) -> {
+            throw new SocketTimeoutException("Read timed out");
+        });
+
+        assertThatThrownBy(() -> client.execute(get(), options())).isInstanceOf(SocketTimeoutException.class);
+        assertThat(algorithm.updates).containsExactly(true);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void releasesOtherFailuresWithoutUpdatingTheLimit() {
+        Client client = client((request, options) -> {
+            throw new ConnectException("Connection refused");
+        });
+
+        assertThatThrownBy(() -> client.execute(get(), options())).isInstanceOf(ConnectException.class);
+        assertThat(algorithm.updates).isEmpty();
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void doesNotSendRejectedCalls() throws IOException {
+        AtomicInteger sent = new AtomicInteger();
+        Client client = client((request, options) -> {
+            sent.incrementAndGet();
+            return status(200).execute(request, options);
+        });
+        ServiceConcurrencyLimiter.Permit permit = limiter.acquire(Orders.class);
+
+        assertThatThrownBy(() -> client.execute(get(), options())).isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(sent).hasValue(0);
+
+        permit.release(false);
+        client.execute(get(), options());
+        assertThat(sent).hasValue(1);
+    }
+
+    private Client client(Client delegate) {
+        return new ConcurrencyLimitedClient(delegate, limiter, Orders.class);
+    }
+
+    private static Client status(int status) {
+        return (request, options) -> Response.builder()
+                .status(status)
+                .reason("")
+                .headers(Map.of())
+                .request(request)
+                .build();
+    }
+
+    private static Request get() {
+        return Request.create(Request.HttpMethod.GET, "http://orders/api/orders", Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static Request.Options options() {
+        return new Request.Options();
+    }
+}
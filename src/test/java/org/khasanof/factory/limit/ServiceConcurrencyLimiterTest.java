@@ -0,0 +1,173 @@
+package org.khasanof.factory.limit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.metrics.ClientMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.limit
+ * @since 10/18/2026 2:28 AM
+ */
+class ServiceConcurrencyLimiterTest {
+
+    interface Orders {
+    }
+
+    interface Reports {
+    }
+
+    private final ModulesClientFactoryProperties.Limit properties = new ModulesClientFactoryProperties.Limit();
+    private final FixedLimitAlgorithm algorithm = new FixedLimitAlgorithm(2);
+    private Thread waiter;
+
+    @AfterEach
+    void interrupt() {
+        if (waiter != null) {
+            waiter.interrupt();
+        }
+    }
+
+    @Test
+    void admitsCallsUpToTheLimit() {
+        ServiceConcurrencyLimiter limiter = limiter();
+
+        limiter.acquire(Orders.class);
+        limiter.acquire(Reports.class);
+
+        assertThatThrownBy(() -> limiter.acquire(Orders.class))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .hasMessageContaining("(limit)");
+        assertThat(limiter.getInflight()).isEqualTo(2);
+    }
+
+    @Test
+    void capsEachClientClassToItsPartition() {
+        algorithm.limit = 4;
+        properties.setPartitions(Map.of(Orders.class.getSimpleName(), 0.5));
+        ServiceConcurrencyLimiter limiter = limiter();
+
+        limiter.acquire(Orders.class);
+        limiter.acquire(Orders.class);
+
+        assertThatThrownBy(() -> limiter.acquire(Orders.class))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .hasMessageContaining("(bulkhead)");
+        limiter.acquire(Reports.class);
+        limiter.acquire(Reports.class);
+        assertThat(limiter.getInflight(Orders.class)).isEqualTo(2);
+        assertThat(limiter.getInflight(Reports.class)).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsQueuedCallsAfterTheQueueTimeout() {
+        algorithm.limit = 1;
+        properties.setMaxQueueSize(1);
+        properties.setQueueTimeout(Duration.ofMillis(10));
+        ServiceConcurrencyLimiter limiter = limiter();
+        limiter.acquire(Orders.class);
+
+        assertThatThrownBy(() -> limiter.acquire(Orders.class))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .hasMessageContaining("(queue-timeout)");
+    }
+
+    @Test
+    void rejectsCallsOnceTheQueueIsFull() throws Exception {
+        algorithm.limit = 1;
+        properties.setMaxQueueSize(1);
+        properties.setQueueTimeout(Duration.ofSeconds(5));
+        ServiceConcurrencyLimiter limiter = limiter();
+        ServiceConcurrencyLimiter.Permit permit = limiter.acquire(Orders.class);
+        FutureTask<ServiceConcurrencyLimiter.Permit> queued = enqueue(limiter, Orders.class);
+
+        assertThatThrownBy(() -> limiter.acquire(Reports.class))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .hasMessageContaining("(limit)");
+
+        permit.release(false);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(limiter.getInflight()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoringAPermitWakesQueuedCallsWithoutUpdatingTheLimit() throws Exception {
+        algorithm.limit = 1;
+        properties.setMaxQueueSize(1);
+        properties.setQueueTimeout(Duration.ofSeconds(5));
+        ServiceConcurrencyLimiter limiter = limiter();
+        ServiceConcurrencyLimiter.Permit permit = limiter.acquire(Orders.class);
+        FutureTask<ServiceConcurrencyLimiter.Permit> queued = enqueue(limiter, Reports.class);
+
+        permit.ignore();
+
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(limiter.getInflight(Orders.class)).isZero();
+        assertThat(limiter.getInflight(Reports.class)).isEqualTo(1);
+        assertThat(algorithm.updates).isEmpty();
+    }
+
+    @Test
+    void adoptsTheLimitOfTheAlgorithmOnRelease() {
+        ServiceConcurrencyLimiter limiter = limiter();
+        ServiceConcurrencyLimiter.Permit permit = limiter.acquire(Orders.class);
+
+        algorithm.limit = 3;
+        permit.release(true);
+        permit.release(true);
+
+        assertThat(algorithm.updates).containsExactly(true);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    private ServiceConcurrencyLimiter limiter() {
+        return new ServiceConcurrencyLimiter("orders", properties, algorithm, ClientMetrics.NOOP);
+    }
+
+    private FutureTask<ServiceConcurrencyLimiter.Permit> enqueue(ServiceConcurrencyLimiter limiter, Class<?> clientClass) {
+        FutureTask<ServiceConcurrencyLimiter.Permit> queued = new FutureTask<>(() -> limiter.acquire(clientClass));
+        waiter = new Thread(queued, "limit-waiter");
+        waiter.setDaemon(true);
+        waiter.start();
+        // the waiter parks on the limiter once it is queued
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.TIMED_WAITING) {
+            assertThat(System.nanoTime()).as("call queued on the limiter").isLessThan(deadline);
+            Thread.yield();
+        }
+        return queued;
+    }
+
+    static class FixedLimitAlgorithm implements LimitAlgorithm {
+
+        final List<Boolean> updates = new CopyOnWriteArrayList<>();
+        volatile int limit;
+
+        FixedLimitAlgorithm(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int getLimit() {
+            return limit;
+        }
+
+        @Override
+        public int update(long rttNanos, int inflight, boolean dropped) {
+            updates.add(dropped);
+            return limit;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.khasanof.factory.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.logging
+ * @since 10/18/2026 2:24 AM
+ */
+class LogRingBufferTest {
+
+    @Test
+    void returnsElementsInInsertionOrder() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(8);
+
+        buffer.offer("a");
+        buffer.offer("b");
+        buffer.offer("c");
+
+        assertThat(buffer.poll()).isEqualTo("a");
+        assertThat(buffer.poll()).isEqualTo("b");
+        assertThat(buffer.poll()).isEqualTo("c");
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void dropsElementsOnceFull() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(3);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    void reusesSlotsAfterWrappingAround() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+            assertThat(buffer.offer(-i)).isTrue();
+            assertThat(buffer.poll()).isEqualTo(i);
+            assertThat(buffer.poll()).isEqualTo(-i);
+        }
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void keepsTheOrderOfEachProducer() throws Exception {
+        int producers = 4;
+        int perProducer = 2_000;
+        LogRingBuffer<long[]> buffer = new LogRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                executor.execute(() -> {
+                    await(start);
+                    for (long i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(new long[]{producer, i})) {
+                            Thread.yield();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+
+            List<Long> next = new ArrayList<>(List.of(0L, 0L, 0L, 0L));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            int received = 0;
+            while (received < producers * perProducer && System.nanoTime() < deadline) {
+                long[] element = buffer.poll();
+                if (element == null) {
+                    Thread.yield();
+                    continue;
+                }
+                int producer = (int) element[0];
+                assertThat(element[1]).isEqualTo(next.get(producer));
+                next.set(producer, element[1] + 1);
+                received++;
+            }
+
+            assertThat(received).isEqualTo(producers * perProducer);
+            assertThat(buffer.poll()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.khasanof.factory.retry;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import org.junit.jupiter.api.Test;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.metrics.ClientMetrics;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/18/2026 2:40 AM
+ */
+class BudgetedRetryerTest {
+
+    private final ModulesClientFactoryProperties.Retry properties = new ModulesClientFactoryProperties.Retry();
+
+    BudgetedRetryerTest() {
+        properties.setBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(1));
+    }
+
+    @Test
+    void retriesIdempotentRequestsUpToTheMaximumAttempts() {
+        Retryer retryer = retryer(new RetryBudget(0.1, 10));
+        RetryableException e = failure(Request.HttpMethod.GET, new SocketTimeoutException("Read timed out"), Map.of());
+
+        assertThatCode(() -> retryer.continueOrPropagate(e)).doesNotThrowAnyException();
+        assertThatCode(() -> retryer.continueOrPropagate(e)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> retryer.continueOrPropagate(e)).isSameAs(e);
+    }
+
+    @Test
+    void retriesOtherRequestsOnlyWhenTheConnectionFailed() {
+        Retryer retryer = retryer(new RetryBudget(0.1, 10));
+        RetryableException readTimeout = failure(Request.HttpMethod.POST, new SocketTimeoutException("Read timed out"), Map.of());
+        RetryableException refused = failure(Request.HttpMethod.POST, new ConnectException("Connection refused"), Map.of());
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(readTimeout)).isSameAs(readTimeout);
+        assertThatCode(() -> retryer.continueOrPropagate(refused)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void givesUpOnceTheBudgetIsExhausted() {
+        RetryBudget budget = new RetryBudget(0.5, 0);
+        Retryer first = retryer(budget);
+        Retryer second = retryer(budget);
+        RetryableException e = failure(Request.HttpMethod.GET, new SocketTimeoutException("Read timed out"), Map.of());
+
+        // two calls, each cloning the retryer, allow one retry between them
+        assertThatCode(() -> first.continueOrPropagate(e)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> second.continueOrPropagate(e)).isSameAs(e);
+    }
+
+    @Test
+    void givesUpWhenTheBackoffEndsAfterTheDeadline() {
+        properties.setBackoff(Duration.ofMinutes(1));
+        properties.setMaxBackoff(Duration.ofMinutes(1));
+        Retryer retryer = retryer(new RetryBudget(0.1, 10));
+        String deadline = String.valueOf(System.currentTimeMillis() + 1_000);
+        RetryableException e = failure(Request.HttpMethod.GET, new SocketTimeoutException("Read timed out"),
+                Map.of(RequestDeadline.HEADER, List.of(deadline)));
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(e)).isSameAs(e);
+    }
+
+    private Retryer retryer(RetryBudget budget) {
+        return new BudgetedRetryer(properties, budget, ClientMetrics.NOOP, "orders").clone();
+    }
+
+    private static RetryableException failure(Request.HttpMethod method, Throwable cause, Map<String, Collection<String>> headers) {
+        Request request = Request.create(method, "http://orders/api/orders", headers, null, StandardCharsets.UTF_8, null);
+        return new RetryableException(-1, cause.getMessage(), method, cause, (Long) null, request);
+    }
+}
@@ -0,0 +1,67 @@
+package org.khasanof.factory.retry;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/18/2026 2:44 AM
+ */
+class DeadlineClientTest {
+
+    private final List<Request.Options> sent = new ArrayList<>();
+    private final Client client = new DeadlineClient((request, options) -> {
+        sent.add(options);
+        return Response.builder().status(200).reason("OK").headers(Map.of()).request(request).build();
+    });
+
+    @Test
+    void sendsRequestsWithoutDeadlineUnchanged() throws IOException {
+        Request.Options options = options(10, 60);
+
+        client.execute(request(null), options);
+
+        assertThat(sent).containsExactly(options);
+    }
+
+    @Test
+    void shortensTheTimeoutsToTheTimeLeft() throws IOException {
+        client.execute(request(System.currentTimeMillis() + 30_000), options(10, 60));
+
+        Request.Options options = sent.get(0);
+        assertThat(options.connectTimeoutMillis()).isEqualTo(10_000);
+        assertThat(options.readTimeoutMillis()).isBetween(1, 30_000);
+    }
+
+    @Test
+    void givesUpAttemptsStartingAfterTheDeadline() {
+        assertThatThrownBy(() -> client.execute(request(System.currentTimeMillis() - 1), options(10, 60)))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessageStartingWith("Deadline of GET http://orders/api/orders exceeded by");
+        assertThat(sent).isEmpty();
+    }
+
+    private static Request request(Long deadline) {
+        Map<String, Collection<String>> headers = deadline != null
+                ? Map.of(RequestDeadline.HEADER, List.of(String.valueOf(deadline))) : Map.of();
+        return Request.create(Request.HttpMethod.GET, "http://orders/api/orders", headers, null, StandardCharsets.UTF_8, null);
+    }
+
+    private static Request.Options options(long connectSeconds, long readSeconds) {
+        return new Request.Options(connectSeconds, TimeUnit.SECONDS, readSeconds, TimeUnit.SECONDS, true);
+    }
+}
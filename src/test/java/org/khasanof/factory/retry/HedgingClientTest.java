@@ -0,0 +1,192 @@
+package org.khasanof.factory.retry;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Util;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.khasanof.factory.config.ModulesClientFactoryProperties;
+import org.khasanof.factory.metrics.ClientMetrics;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/18/2026 2:48 AM
+ */
+class HedgingClientTest {
+
+    @Hedged(percentile = 0.5)
+    interface Orders {
+
+        @GetMapping("/api/orders")
+        String orders();
+    }
+
+    private final ModulesClientFactoryProperties.Retry.Hedge properties = new ModulesClientFactoryProperties.Retry.Hedge();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(Orders.class).get(0);
+
+    HedgingClientTest() {
+        properties.setMinimumSamples(1);
+        properties.setWindowSize(1);
+        properties.setMinDelay(Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void returnsTheHedgeWhenItAnswersFirstAndClosesTheLosingResponse() throws Exception {
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        CountDownLatch primaryClosed = new CountDownLatch(1);
+        Client client = hedging(new RetryBudget(1.0, 10),
+                (request, options) -> respond(request, "warm-up", null),
+                (request, options) -> {
+                    await(releasePrimary);
+                    return respond(request, "primary", primaryClosed);
+                },
+                (request, options) -> respond(request, "hedge", null));
+        client.execute(request(), options()).close();
+
+        assertThat(body(client.execute(request(), options()))).isEqualTo("hedge");
+
+        releasePrimary.countDown();
+        assertThat(primaryClosed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void returnsThePrimaryWhenItAnswersFirstAndClosesTheLosingHedge() throws Exception {
+        CountDownLatch hedgeSent = new CountDownLatch(1);
+        CountDownLatch releaseHedge = new CountDownLatch(1);
+        CountDownLatch hedgeClosed = new CountDownLatch(1);
+        Client client = hedging(new RetryBudget(1.0, 10),
+                (request, options) -> respond(request, "warm-up", null),
+                (request, options) -> {
+                    await(hedgeSent);
+                    return respond(request, "primary", null);
+                },
+                (request, options) -> {
+                    hedgeSent.countDown();
+                    await(releaseHedge);
+                    return respond(request, "hedge", hedgeClosed);
+                });
+        client.execute(request(), options()).close();
+
+        assertThat(body(client.execute(request(), options()))).isEqualTo("primary");
+
+        releaseHedge.countDown();
+        assertThat(hedgeClosed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failsOnceEveryAttemptFailed() throws Exception {
+        CountDownLatch hedgeSent = new CountDownLatch(1);
+        Client client = hedging(new RetryBudget(1.0, 10),
+                (request, options) -> respond(request, "warm-up", null),
+                (request, options) -> {
+                    await(hedgeSent);
+                    throw new IOException("primary failed");
+                },
+                (request, options) -> {
+                    hedgeSent.countDown();
+                    throw new IOException("hedge failed");
+                });
+        client.execute(request(), options()).close();
+
+        assertThatThrownBy(() -> client.execute(request(), options()))
+                .isInstanceOf(IOException.class)
+                .hasMessageEndingWith("failed");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void sendsNoHedgeWithoutRetryBudget() throws Exception {
+        Client client = hedging(new RetryBudget(0, 0),
+                (request, options) -> respond(request, "warm-up", null),
+                (request, options) -> {
+                    // slower than the hedge delay, so a hedge is due while it runs
+                    await(new CountDownLatch(1), 50);
+                    return respond(request, "primary", null);
+                });
+        client.execute(request(), options()).close();
+
+        assertThat(body(client.execute(request(), options()))).isEqualTo("primary");
+        assertThat(attempts).hasValue(2);
+    }
+
+    private Client hedging(RetryBudget budget, Client... responses) {
+        List<Client> clients = List.of(responses);
+        Client delegate = (request, options) -> clients.get(attempts.getAndIncrement()).execute(request, options);
+        return new HedgingClient(delegate, HedgingClient.hedgedMethods(List.of(metadata)), properties, budget, executor,
+                ClientMetrics.NOOP, "orders", Orders.class);
+    }
+
+    private Request request() {
+        RequestTemplate template = new RequestTemplate().methodMetadata(metadata);
+        return Request.create(Request.HttpMethod.GET, "http://orders/api/orders", Map.of(), null, StandardCharsets.UTF_8, template);
+    }
+
+    private static Request.Options options() {
+        return new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+    }
+
+    private static Response respond(Request request, String body, CountDownLatch closed) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return Response.builder()
+                .status(200)
+                .reason("OK")
+                .headers(Map.of())
+                .request(request)
+                .body(new ByteArrayInputStream(bytes) {
+                    @Override
+                    public void close() {
+                        if (closed != null) {
+                            closed.countDown();
+                        }
+                    }
+                }, bytes.length)
+                .build();
+    }
+
+    private static String body(Response response) throws IOException {
+        try (response) {
+            return Util.toString(response.body().asReader(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        await(latch, 5_000);
+    }
+
+    private static void await(CountDownLatch latch, long millis) {
+        try {
+            latch.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
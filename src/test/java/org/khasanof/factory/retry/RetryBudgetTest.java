@@ -0,0 +1,80 @@
+package org.khasanof.factory.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Nurislom
+ * @see org.khasanof.factory.retry
+ * @since 10/18/2026 2:36 AM
+ */
+class RetryBudgetTest {
+
+    private long nanoTime = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void allowsRetriesUpToTheRatioOfTheCalls() {
+        RetryBudget budget = new RetryBudget(0.1, 0, () -> nanoTime);
+        deposit(budget, 100);
+
+        assertThat(withdraw(budget, 11)).isEqualTo(10);
+    }
+
+    @Test
+    void allowsAFewRetriesToServicesWithoutTraffic() {
+        RetryBudget budget = new RetryBudget(0.1, 1, () -> nanoTime);
+
+        assertThat(withdraw(budget, 20)).isEqualTo(10);
+    }
+
+    @Test
+    void forgetsCallsAndRetriesOnceTheyLeaveTheWindow() {
+        RetryBudget budget = new RetryBudget(0.1, 0, () -> nanoTime);
+        deposit(budget, 100);
+        assertThat(withdraw(budget, 10)).isEqualTo(10);
+
+        advanceSeconds(9);
+        // the first second still counts, with its ten retries
+        assertThat(budget.tryWithdraw()).isFalse();
+        deposit(budget, 20);
+
+        advanceSeconds(1);
+        // the bucket of the first second is reused, leaving the calls of the previous second
+        assertThat(withdraw(budget, 3)).isEqualTo(2);
+
+        advanceSeconds(10);
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void acceptsANegativeClock() {
+        nanoTime = -TimeUnit.SECONDS.toNanos(3);
+        RetryBudget budget = new RetryBudget(0.5, 0, () -> nanoTime);
+        deposit(budget, 2);
+
+        assertThat(withdraw(budget, 2)).isEqualTo(1);
+    }
+
+    private void advanceSeconds(long seconds) {
+        nanoTime += TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    private static void deposit(RetryBudget budget, int calls) {
+        for (int i = 0; i < calls; i++) {
+            budget.deposit();
+        }
+    }
+
+    private static int withdraw(RetryBudget budget, int attempts) {
+        int withdrawn = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (budget.tryWithdraw()) {
+                withdrawn++;
+            }
+        }
+        return withdrawn;
+    }
+}